@@ -3,38 +3,95 @@ package de.spaceSignal.game;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import de.spaceSignal.game.screens.MainMenuScreen;
+import de.spaceSignal.game.screens.BenchmarkScreen;
+import de.spaceSignal.game.screens.ScreenRegistry;
 import de.spaceSignal.game.managers.AssetManager;
 import de.spaceSignal.game.managers.AudioManager;
+import de.spaceSignal.game.managers.HighScoreManager;
+import de.spaceSignal.game.managers.SettingsManager;
+import de.spaceSignal.game.util.StartupTimeline;
 
 public class Main extends Game {
     public SpriteBatch batch;
+    public ScreenRegistry screens;
+
+    // Gesetzt, wenn statt des Menüs der Benchmark laufen soll
+    private final BenchmarkScreen.Options benchmark;
+    // Nur ein normales Fenster hat eine Größe, die beim nächsten Start wiederhergestellt werden soll
+    private final boolean windowed;
+    private boolean firstFrameRendered;
+
+    public Main() {
+        this(null, true);
+    }
+
+    /**
+     * @param windowed false bei Vollbild oder randlosem Fenster in Monitorgröße
+     */
+    public Main(BenchmarkScreen.Options benchmark, boolean windowed) {
+        this.benchmark = benchmark;
+        this.windowed = windowed;
+    }
 
     @Override
     public void create() {
+        StartupTimeline.mark("window and GL context ready");
         batch = new SpriteBatch();
         
+        // Einstellungen vor den Assets laden, damit die Musik mit der gespeicherten Lautstärke startet
+        SettingsManager.getInstance().load();
+
         // Initialize assets and load audio
         AssetManager.getInstance().loadAll();
+        StartupTimeline.mark("assets loaded");
+
+        // Highscores einmalig beim Start lesen
+        HighScoreManager.getInstance().load();
         
         // Start background music
         AudioManager.getInstance().playBackgroundMusic();
         
-        setScreen(new MainMenuScreen(this));
+        screens = new ScreenRegistry(this);
+        if (benchmark != null) {
+            screens.showBenchmark(benchmark);
+        } else {
+            screens.showMainMenu();
+        }
+        StartupTimeline.mark("first screen created");
     }
 
     @Override
     public void render() {
         super.render();
+        if (!firstFrameRendered) {
+            firstFrameRendered = true;
+            StartupTimeline.mark("first frame rendered");
+            StartupTimeline.report();
+        }
+        // Geänderte Einstellungen verzögert und gesammelt speichern
+        SettingsManager.getInstance().update();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        super.resize(width, height);
+        // Benchmark-Fenster, Vollbild und randloses Fenster nicht als gewünschte Fenstergröße merken
+        if (benchmark == null && windowed && !Gdx.graphics.isFullscreen()) {
+            SettingsManager.getInstance().setWindowSize(width, height);
+        }
     }
 
     @Override
     public void dispose() {
         batch.dispose();
-        if (getScreen() != null) {
-            getScreen().dispose();
+        // Alle Screens werden von der Registry gehalten und hier einmalig freigegeben
+        if (screens != null) {
+            screens.dispose();
         }
         // Dispose assets when the game closes
         AssetManager.getInstance().dispose();
+        // Ausstehende Highscore-Schreibvorgänge abschließen
+        HighScoreManager.getInstance().dispose();
+        SettingsManager.getInstance().dispose();
     }
 }
@@ -7,9 +7,16 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
 
-import de.spaceSignal.game.managers.AudioManager;
+import de.spaceSignal.game.managers.RandomStreams;
+import de.spaceSignal.game.systems.CullingSystem;
+import de.spaceSignal.game.systems.GameEventQueue;
+import de.spaceSignal.game.systems.TimerWheel;
 import de.spaceSignal.game.util.Constants;
+import de.spaceSignal.game.util.EntityArrays;
+import de.spaceSignal.game.util.MotionPath;
+import de.spaceSignal.game.util.RandomStream;
 
 public class Boss {
     private Sprite sprite;
@@ -19,27 +26,38 @@ public class Boss {
     private float maxHealth;
     private boolean alive;
     private int level;
-    private float fireTimer;
+    // Schussrhythmus im Timing Wheel; der erste Schuss kommt nach einer zufälligen Pause
+    private final float firstShotDelay;
+    private TimerWheel timers;
+    private final TimerWheel.Timer fireTimer = new TimerWheel.Timer() {
+        @Override
+        protected void onExpire() {
+            if (!alive || exploding) return;
+            fireBullets();
+            timers.schedule(this, getFireRate());
+        }
+    };
     private Array<BossBullet> bullets;
-    private Texture bulletTexture;
+    // Boss-Bullets kommen aus dem Pool des Spielmodus und gehen dorthin zurück
+    private final Pool<BossBullet> bulletPool;
 
-    // Boss Bewegung verbessert
-    private float movementTimer = 0;
-    private float movementDirection = 1;
-    private float movementSpeed;
+    // Sinus-Bahn über die Bildschirmbreite; Position und Bounds werden erst bei Bedarf
+    // für die aktuelle Zeit der Sitzung ausgewertet
+    private final MotionPath path = new MotionPath();
+    private float materializedTime = Float.NaN;
 
     // EXPLOSION Variablen
     private boolean exploding = false;
     private float explosionTimer = 0f;
     private float explosionDuration = 1.5f; // 1.5 Sekunden Explosion
     private Array<ExplosionParticle> explosionParticles;
+    private GameEventQueue events;
     private Vector2 explosionOrigin;
 
-    public Boss(int level, Texture texture, Texture bulletTexture) {
+    public Boss(int level, Texture texture, Pool<BossBullet> bulletPool) {
         this.level = level;
-        this.bulletTexture = bulletTexture;
+        this.bulletPool = bulletPool;
         this.bullets = new Array<>();
-        this.movementSpeed = Constants.BOSS_SPEED * (1 + level * 0.1f);
         this.explosionParticles = new Array<>();
 
         // Boss Größe basierend auf Level
@@ -62,9 +80,47 @@ public class Boss {
         sprite.setSize(width, height);
         bounds = new Rectangle(position.x, position.y, width, height);
 
-        this.fireTimer = MathUtils.random(1f, 3f);
+        // Pendelt mittig über die ganze Breite, höhere Level schneller; dazu leichtes Wippen
+        float amplitude = (Constants.SCREEN_WIDTH - width) / 2;
+        float frequency = 0.5f + (level * 0.1f);
+        path.linear(0, amplitude, position.y, 0, 0)
+            .waveX(amplitude, frequency)
+            .waveY(10, frequency * 0.7f);
+
+        this.firstShotDelay = RandomStreams.getInstance().spawn().random(1f, 3f);
     }
 
+    /**
+     * Hängt den Boss an das Timing Wheel der Sitzung, startet dort seine Bahn
+     * und plant den ersten Schuss
+     */
+    public void setTimerWheel(TimerWheel timers) {
+        if (this.timers != null) this.timers.cancel(fireTimer);
+        this.timers = timers;
+        if (timers != null && alive && !exploding) {
+            path.setStartTime(timers.getTime());
+            materializedTime = Float.NaN;
+            timers.schedule(fireTimer, firstShotDelay);
+        }
+    }
+
+    /**
+     * Bringt Position, Sprite und Bounds auf die Bahn zur aktuellen Zeit (einmal pro Zeit);
+     * während der Explosion bleibt der Boss, wo er war
+     */
+    private void materialize() {
+        if (timers == null || exploding) return;
+        float time = timers.getTime();
+        if (time == materializedTime) return;
+        path.evaluate(time, position);
+        sprite.setPosition(position.x, position.y);
+        bounds.setPosition(position.x, position.y);
+        materializedTime = time;
+    }
+
+    /**
+     * Die Bewegung steckt in der Bahn; hier laufen nur Explosion und Bullets weiter
+     */
     public void update(float delta) {
         if (!alive) return;
 
@@ -73,52 +129,14 @@ public class Boss {
             return;
         }
 
-        // VERBESSERTE BEWEGUNG - Kontinuierliches Hin und Her
-        movementTimer += delta;
-
-        // Richtungswechsel basierend auf Zeit UND Position
-        boolean shouldChangeDirection = false;
-
-        if (movementTimer > 2f) { // Zeit-basierter Wechsel alle 2 Sekunden
-            shouldChangeDirection = true;
-            movementTimer = 0;
-        }
-
-        // Position-basierter Wechsel an den Rändern
-        if (position.x <= 0 && movementDirection < 0) {
-            shouldChangeDirection = true;
-        } else if (position.x >= Constants.SCREEN_WIDTH - bounds.width && movementDirection > 0) {
-            shouldChangeDirection = true;
-        }
-
-        if (shouldChangeDirection) {
-            movementDirection *= -1;
-        }
+        // Geschossen wird über den Timer im Timing Wheel
 
-        // Bewegung anwenden
-        position.x += movementSpeed * movementDirection * delta;
-
-        // Sicherstellen, dass der Boss innerhalb des Bildschirms bleibt
-        position.x = MathUtils.clamp(position.x, 0, Constants.SCREEN_WIDTH - bounds.width);
-
-        sprite.setPosition(position.x, position.y);
-        bounds.setPosition(position.x, position.y);
-
-        // Schießen
-        fireTimer -= delta;
-        if (fireTimer <= 0) {
-            fireBullets();
-            fireTimer = getFireRate();
-        }
-
-        // Boss-Bullets updaten
-        for (int i = bullets.size - 1; i >= 0; i--) {
-            BossBullet bullet = bullets.get(i);
-            bullet.update(delta);
-            if (!bullet.isAlive()) {
-                bullets.removeIndex(i);
-            }
+        // Boss-Bullets updaten; tote in einem Durchlauf entfernen, die Reihenfolge bleibt
+        // für die sortierte Kollisionsprüfung erhalten
+        for (int i = 0; i < bullets.size; i++) {
+            bullets.get(i).update(delta);
         }
+        EntityArrays.compact(bullets, BossBullet.DEAD, bulletPool);
     }
 
     private void updateExplosion(float delta) {
@@ -130,7 +148,7 @@ public class Boss {
             particle.update(delta);
 
             if (particle.isFinished()) {
-                explosionParticles.removeIndex(i);
+                EntityArrays.swapRemove(explosionParticles, i);
             }
         }
 
@@ -147,39 +165,45 @@ public class Boss {
 
     private void startExplosion() {
         if (!exploding) {
+            // Die Explosion beginnt dort, wo der Boss gerade auf seiner Bahn ist
+            materialize();
             exploding = true;
             explosionTimer = 0f;
+            if (timers != null) timers.cancel(fireTimer);
             explosionOrigin = new Vector2(
                 position.x + bounds.width / 2,
                 position.y + bounds.height / 2
             );
 
-            // Spiele Explosions-Sound
-            AudioManager.getInstance().playExplosionSound();
+            if (events != null) {
+                events.publish(GameEventQueue.ENEMY_KILLED, explosionOrigin.x, explosionOrigin.y, 0);
+            }
 
             // Initiale Explosions-Partikel erzeugen
             createInitialExplosion();
 
             // Alle verbleibenden Bullets entfernen
+            bulletPool.freeAll(bullets);
             bullets.clear();
         }
     }
 
     private void createInitialExplosion() {
         int particleCount = 30 + (level * 5); // WENIGER Partikel für bessere Performance
+        RandomStream random = RandomStreams.getInstance().visuals();
 
         for (int i = 0; i < particleCount; i++) {
             // Performance-Optimierung: Weniger komplexe Berechnungen
             Vector2 velocity = new Vector2(
-                MathUtils.random(-300f, 300f), // Reduzierte Geschwindigkeit
-                MathUtils.random(-300f, 300f)
+                random.random(-300f, 300f), // Reduzierte Geschwindigkeit
+                random.random(-300f, 300f)
             );
 
-            float lifetime = MathUtils.random(0.6f, 1.2f); // Kürzere Lebenszeit
+            float lifetime = random.random(0.6f, 1.2f); // Kürzere Lebenszeit
 
             Vector2 particlePos = new Vector2(
-                explosionOrigin.x + MathUtils.random(-bounds.width * 0.3f, bounds.width * 0.3f),
-                explosionOrigin.y + MathUtils.random(-bounds.height * 0.3f, bounds.height * 0.3f)
+                explosionOrigin.x + random.random(-bounds.width * 0.3f, bounds.width * 0.3f),
+                explosionOrigin.y + random.random(-bounds.height * 0.3f, bounds.height * 0.3f)
             );
 
             explosionParticles.add(new ExplosionParticle(particlePos, velocity, lifetime));
@@ -188,86 +212,42 @@ public class Boss {
 
     private void createExplosionParticles(float delta) {
         // WENIGER neue Partikel während der Explosion
-        if (MathUtils.random() < 0.2f && explosionParticles.size < 50) { // Begrenzung auf 50 Partikel
+        RandomStream random = RandomStreams.getInstance().visuals();
+        if (random.random() < 0.2f && explosionParticles.size < 50) { // Begrenzung auf 50 Partikel
             Vector2 randomPos = new Vector2(
-                explosionOrigin.x + MathUtils.random(-bounds.width * 0.2f, bounds.width * 0.2f),
-                explosionOrigin.y + MathUtils.random(-bounds.height * 0.2f, bounds.height * 0.2f)
+                explosionOrigin.x + random.random(-bounds.width * 0.2f, bounds.width * 0.2f),
+                explosionOrigin.y + random.random(-bounds.height * 0.2f, bounds.height * 0.2f)
             );
 
             Vector2 velocity = new Vector2(
-                MathUtils.random(-150f, 150f),
-                MathUtils.random(-150f, 150f)
+                random.random(-150f, 150f),
+                random.random(-150f, 150f)
             );
 
-            float lifetime = MathUtils.random(0.3f, 0.8f);
+            float lifetime = random.random(0.3f, 0.8f);
             explosionParticles.add(new ExplosionParticle(randomPos, velocity, lifetime));
         }
     }
 
-    // Alternative Bewegung: Sinus-Wellen Bewegung für interessantere Muster
-    public void updateWithSinusMovement(float delta) {
-        if (!alive || exploding) return;
-
-        movementTimer += delta;
-
-        // Sinus-Wellen Bewegung für natürlichere Bewegung
-        float amplitude = (Constants.SCREEN_WIDTH - bounds.width) / 2;
-        float frequency = 0.5f + (level * 0.1f); // Schnellere Bewegung bei höheren Levels
-
-        position.x = amplitude + amplitude * MathUtils.sin(movementTimer * frequency);
-
-        // Leichte vertikale Bewegung hinzufügen für dynamischeres Verhalten
-        float verticalMovement = MathUtils.sin(movementTimer * frequency * 0.7f) * 10;
-        position.y = (Constants.SCREEN_HEIGHT - bounds.height - 80) + verticalMovement;
-
-        sprite.setPosition(position.x, position.y);
-        bounds.setPosition(position.x, position.y);
-
-        // Schießen
-        fireTimer -= delta;
-        if (fireTimer <= 0) {
-            fireBullets();
-            fireTimer = getFireRate();
-        }
-
-        // Boss-Bullets updaten
-        for (int i = bullets.size - 1; i >= 0; i--) {
-            BossBullet bullet = bullets.get(i);
-            bullet.update(delta);
-            if (!bullet.isAlive()) {
-                bullets.removeIndex(i);
-            }
-        }
-    }
-
     private void fireBullets() {
         int bulletCount = 1 + (level / 2);
+        materialize();
 
-        // Spiele den Schuss-Sound
-        AudioManager.getInstance().playShootSound();
+        if (events != null) {
+            events.publish(GameEventQueue.SHOT_FIRED, position.x + bounds.width / 2, position.y,
+                GameEventQueue.SOURCE_ENEMY);
+        }
 
         switch (level) {
             case 1:
                 // Einfacher gerader Schuss
-                BossBullet bullet1 = new BossBullet(
-                    position.x + bounds.width / 2 - Constants.BOSS_BULLET_WIDTH / 2,
-                    position.y - Constants.BOSS_BULLET_HEIGHT,
-                    0, -Constants.BOSS_BULLET_SPEED,
-                    getDamage(), bulletTexture
-                );
-                bullets.add(bullet1);
+                spawnBullet(0, -Constants.BOSS_BULLET_SPEED);
                 break;
 
             case 2:
                 // Drei Bullets in Fächer-Formation
                 for (int i = -1; i <= 1; i++) {
-                    BossBullet bullet = new BossBullet(
-                        position.x + bounds.width / 2 - Constants.BOSS_BULLET_WIDTH / 2,
-                        position.y - Constants.BOSS_BULLET_HEIGHT,
-                        i * 100, -Constants.BOSS_BULLET_SPEED,
-                        getDamage(), bulletTexture
-                    );
-                    bullets.add(bullet);
+                    spawnBullet(i * 100, -Constants.BOSS_BULLET_SPEED);
                 }
                 break;
 
@@ -276,35 +256,34 @@ public class Boss {
                 float[] angles = {-30, -15, 0, 15, 30};
                 for (float angle : angles) {
                     float rad = angle * MathUtils.degreesToRadians;
-                    BossBullet bullet = new BossBullet(
-                        position.x + bounds.width / 2 - Constants.BOSS_BULLET_WIDTH / 2,
-                        position.y - Constants.BOSS_BULLET_HEIGHT,
-                        MathUtils.sin(rad) * 200,
-                        MathUtils.cos(rad) * -Constants.BOSS_BULLET_SPEED,
-                        getDamage(), bulletTexture
-                    );
-                    bullets.add(bullet);
+                    spawnBullet(MathUtils.sin(rad) * 200, MathUtils.cos(rad) * -Constants.BOSS_BULLET_SPEED);
                 }
                 break;
 
             default:
                 // Spiralmuster für höhere Levels
                 for (int i = 0; i < bulletCount; i++) {
-                    float angle = (360f / bulletCount) * i + movementTimer * 100;
+                    float angle = (360f / bulletCount) * i + path.getElapsed(timers.getTime()) * 100;
                     float rad = angle * MathUtils.degreesToRadians;
-                    BossBullet bullet = new BossBullet(
-                        position.x + bounds.width / 2 - Constants.BOSS_BULLET_WIDTH / 2,
-                        position.y - Constants.BOSS_BULLET_HEIGHT,
-                        MathUtils.sin(rad) * 150,
-                        MathUtils.cos(rad) * -Constants.BOSS_BULLET_SPEED,
-                        getDamage(), bulletTexture
-                    );
-                    bullets.add(bullet);
+                    spawnBullet(MathUtils.sin(rad) * 150, MathUtils.cos(rad) * -Constants.BOSS_BULLET_SPEED);
                 }
                 break;
         }
     }
 
+    /**
+     * Holt eine Bullet aus dem Pool und startet sie mittig unter dem Boss
+     */
+    private void spawnBullet(float velocityX, float velocityY) {
+        BossBullet bullet = bulletPool.obtain();
+        bullet.reset(
+            position.x + bounds.width / 2 - Constants.BOSS_BULLET_WIDTH / 2,
+            position.y - Constants.BOSS_BULLET_HEIGHT,
+            velocityX, velocityY, getDamage()
+        );
+        bullets.add(bullet);
+    }
+
     private float getFireRate() {
         return Math.max(0.5f, 2f - (level * 0.2f));
     }
@@ -313,7 +292,7 @@ public class Boss {
         return 10 + (level * 5);
     }
 
-    public void render(SpriteBatch batch) {
+    public void render(SpriteBatch batch, CullingSystem culling) {
         if (exploding) {
             // Nur Explosions-Partikel rendern
             for (ExplosionParticle particle : explosionParticles) {
@@ -321,12 +300,15 @@ public class Boss {
             }
         } else if (alive) {
             // Normalen Boss rendern
+            materialize();
             sprite.draw(batch);
         }
 
         // Bullets rendern (auch während Explosion)
         for (BossBullet bullet : bullets) {
-            bullet.render(batch);
+            if (culling.isVisible(bullet.getBounds())) {
+                bullet.render(batch);
+            }
         }
     }
 
@@ -349,19 +331,23 @@ public class Boss {
     }
 
     // Getter-Methoden
-    public Vector2 getPosition() { return position; }
-    public Rectangle getBounds() { return bounds; }
+    public Vector2 getPosition() { materialize(); return position; }
+    public Rectangle getBounds() { materialize(); return bounds; }
     public boolean isAlive() { return alive; }
     public float getHealth() { return health; }
     public float getMaxHealth() { return maxHealth; }
     public int getLevel() { return level; }
     public Array<BossBullet> getBullets() { return bullets; }
 
+    public void setEventQueue(GameEventQueue events) {
+        this.events = events;
+    }
+
     public void dispose() {
-        sprite.getTexture().dispose();
-        bulletTexture.dispose();
-        for (BossBullet bullet : bullets) {
-            bullet.dispose();
-        }
+        // Boss-Texturen werden zentral vom AssetManager verwaltet und hier nicht freigegeben.
+        if (timers != null) timers.cancel(fireTimer);
+        // Verbleibende Bullets an den Pool zurückgeben
+        bulletPool.freeAll(bullets);
+        bullets.clear();
     }
 }
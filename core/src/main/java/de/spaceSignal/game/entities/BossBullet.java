@@ -5,33 +5,62 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Predicate;
+import de.spaceSignal.game.systems.CollisionSystem;
 import de.spaceSignal.game.util.Constants;
 
-public class BossBullet {
+public class BossBullet implements CollisionSystem.Collidable {
+    /** Für EntityArrays.compact(): eine Instanz für Boss und Gegner-Projektile */
+    public static final Predicate<BossBullet> DEAD = new Predicate<BossBullet>() {
+        @Override
+        public boolean evaluate(BossBullet bullet) {
+            return !bullet.isAlive();
+        }
+    };
+
     private Sprite sprite;
     private Vector2 position;
+    // Position vor dem letzten update() für Swept-Kollisionen
+    private Vector2 previousPosition;
     private Vector2 velocity;
     private Rectangle bounds;
     private boolean alive;
     private float damage;
 
     public BossBullet(float x, float y, float velocityX, float velocityY, float damage, Texture texture) {
-        this.position = new Vector2(x, y);
-        this.velocity = new Vector2(velocityX, velocityY);
-        this.damage = damage;
-        this.alive = true;
+        this(texture);
+        reset(x, y, velocityX, velocityY, damage);
+    }
+
+    /**
+     * Leere Bullet für den Pool; wird mit reset() platziert
+     */
+    public BossBullet(Texture texture) {
+        this.position = new Vector2();
+        this.previousPosition = new Vector2();
+        this.velocity = new Vector2();
 
         this.sprite = new Sprite(texture);
-        sprite.setPosition(x, y);
         sprite.setSize(Constants.BOSS_BULLET_WIDTH, Constants.BOSS_BULLET_HEIGHT);
         sprite.setColor(1, 0, 0, 1); // Rote Bullets für Boss
 
-        bounds = new Rectangle(x, y, Constants.BOSS_BULLET_WIDTH, Constants.BOSS_BULLET_HEIGHT);
+        bounds = new Rectangle(0, 0, Constants.BOSS_BULLET_WIDTH, Constants.BOSS_BULLET_HEIGHT);
+    }
+
+    public void reset(float x, float y, float velocityX, float velocityY, float damage) {
+        position.set(x, y);
+        previousPosition.set(x, y);
+        velocity.set(velocityX, velocityY);
+        this.damage = damage;
+        this.alive = true;
+        sprite.setPosition(x, y);
+        bounds.setPosition(x, y);
     }
 
     public void update(float delta) {
         if (!alive) return;
 
+        previousPosition.set(position);
         position.add(velocity.x * delta, velocity.y * delta);
         bounds.setPosition(position);
         sprite.setPosition(position.x, position.y);
@@ -56,10 +85,13 @@ public class BossBullet {
     }
 
     public void dispose() {
-        sprite.getTexture().dispose();
+        // Die Bullet-Textur gehört dem AssetManager und wird hier nicht freigegeben.
     }
 
+    @Override
     public Rectangle getBounds() { return bounds; }
+    @Override
+    public Vector2 getPreviousPosition() { return previousPosition; }
     public boolean isAlive() { return alive; }
     public float getDamage() { return damage; }
 }
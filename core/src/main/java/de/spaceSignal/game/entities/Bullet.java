@@ -5,12 +5,24 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Predicate;
 
+import de.spaceSignal.game.systems.CollisionSystem;
 import de.spaceSignal.game.util.Constants;
 
-public class Bullet {
+public class Bullet implements CollisionSystem.Collidable {
+    /** Für EntityArrays.compact(): eine Instanz für alle Bullet-Arrays */
+    public static final Predicate<Bullet> DEAD = new Predicate<Bullet>() {
+        @Override
+        public boolean evaluate(Bullet bullet) {
+            return !bullet.isAlive();
+        }
+    };
+
     private Sprite sprite;
     private Vector2 position;
+    // Position vor dem letzten update() für Swept-Kollisionen
+    private Vector2 previousPosition;
     private Vector2 velocity;
     private Rectangle bounds;
     private boolean alive;
@@ -21,13 +33,19 @@ public class Bullet {
     public Bullet(float x, float y, float velocityX, float velocityY, float damage, Texture texture, String gameMode) {
         this.gameMode = gameMode;
         this.sprite = new Sprite(texture);
+        this.position = new Vector2();
+        this.previousPosition = new Vector2();
+        this.velocity = new Vector2();
+        this.bounds = new Rectangle(0, 0, Constants.BULLET_WIDTH, Constants.BULLET_HEIGHT);
         reset(x, y, velocityX, velocityY, damage);
     }
 
     public void reset(float x, float y, float velocityX, float velocityY, float damage) {
-        this.position = new Vector2(x, y);
-        this.velocity = new Vector2(velocityX, velocityY);
-        this.bounds = new Rectangle(x, y, Constants.BULLET_WIDTH, Constants.BULLET_HEIGHT);
+        // Vorhandene Objekte wiederverwenden, der Pool soll keinen Müll erzeugen
+        position.set(x, y);
+        previousPosition.set(x, y);
+        velocity.set(velocityX, velocityY);
+        bounds.setPosition(x, y);
         this.damage = damage;
         this.alive = true;
         this.scale = 1f;
@@ -54,6 +72,7 @@ public class Bullet {
     public void update(float delta) {
         if (!alive) return;
 
+        previousPosition.set(position);
         position.add(velocity.x * delta, velocity.y * delta);
         bounds.setPosition(position);
         sprite.setPosition(position.x, position.y);
@@ -63,8 +82,10 @@ public class Bullet {
             sprite.setScale(scale);
         }
 
-        if (position.y > Constants.SCREEN_HEIGHT || position.y < 0 ||
-            position.x < 0 || position.x > Constants.SCREEN_WIDTH) {
+        // Erst entfernen, wenn die Bullet schon vor diesem Schritt draußen war,
+        // damit der Weg bis über den Rand noch auf Treffer geprüft wird
+        if (previousPosition.y > Constants.SCREEN_HEIGHT || previousPosition.y < 0 ||
+            previousPosition.x < 0 || previousPosition.x > Constants.SCREEN_WIDTH) {
             alive = false;
         }
     }
@@ -82,7 +103,10 @@ public class Bullet {
         // Bullet textures are managed centrally (AssetManager); do not dispose here.
     }
 
+    @Override
     public Rectangle getBounds() { return bounds; }
+    @Override
+    public Vector2 getPreviousPosition() { return previousPosition; }
     public boolean isAlive() { return alive; }
     public float getDamage() { return damage; }
 }
@@ -1,47 +1,187 @@
 package de.spaceSignal.game.entities;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
 
-import de.spaceSignal.game.managers.AudioManager;
+import de.spaceSignal.game.systems.CollisionSystem;
+import de.spaceSignal.game.systems.CullingSystem;
+import de.spaceSignal.game.systems.EnemyProjectileSystem;
+import de.spaceSignal.game.systems.GameEventQueue;
+import de.spaceSignal.game.systems.TimerWheel;
 import de.spaceSignal.game.util.Constants;
+import de.spaceSignal.game.util.MotionPath;
 
-public class Enemy {
-    protected final Sprite sprite;
-    protected final Vector2 position;
-    protected final Rectangle bounds;
-    protected float health;
-    protected boolean alive;
-    protected float speed;
-    protected final Array<Bullet> bullets;
-    protected float fireTimer;
-
-    public Enemy(float x, float y, float health, Texture texture, String gameMode) {
-        this.position = new Vector2(x, y);
+/**
+ * Ein Gegner beliebigen Typs. Werte, Textur und Verhalten kommen aus dem geteilten
+ * {@link EnemyArchetype}; hier liegt nur der veränderliche Zustand. Statt Unterklassen pro Typ
+ * verzweigt update() nach der Bewegungs-Id, der Aufruf bleibt damit für alle Gegner derselbe.
+ * Einzelne Gegner fliegen eine {@link MotionPath} (gerade oder Zickzack); Position und Bounds
+ * werden erst bei Bedarf für die aktuelle Zeit der Sitzung ausgewertet.
+ */
+public final class Enemy implements CollisionSystem.Collidable {
+    private final EnemyArchetype archetype;
+    // Ziel der Schüsse; null bei Typen, die nicht schießen
+    private final EnemyProjectileSystem projectiles;
+    private final TimerWheel timers;
+
+    private final Vector2 position;
+    // Position vor dem letzten Schritt für Swept-Kollisionen
+    private final Vector2 previousPosition;
+    private final Rectangle bounds;
+    private float health;
+    private boolean alive;
+
+    // Bahn einzelner Gegner; Bomber bleiben ab dem Zünden an ihrem Ende stehen
+    private final MotionPath path = new MotionPath();
+    private float pathEndTime;
+    // Zeit der Sitzung, für die Position und Bounds zuletzt ausgewertet wurden
+    private float materializedTime;
+    // Bomber
+    private Vector2 playerPosition;
+    private boolean exploding;
+    // Zünder abgelaufen oder zerstört: der Modus löst die Explosion im selben Tick auf
+    private boolean detonationPending;
+    // Zünder und Feuerrhythmus laufen im Timing Wheel; geplant wird nur in resolveEffects(),
+    // da update() parallel laufen kann
+    private final TimerWheel.Timer fuse = new TimerWheel.Timer() {
+        @Override
+        protected void onExpire() {
+            detonationPending = true;
+            alive = false;
+        }
+    };
+    private final TimerWheel.Timer fireTimer = new TimerWheel.Timer() {
+        @Override
+        protected void onExpire() {
+            if (!alive) return;
+            materialize();
+            fire(position.x + bounds.width / 2, position.y);
+            timers.schedule(this, archetype.fireRate);
+        }
+    };
+
+    // Mitglied einer Formation: Position wird erst bei Bedarf aus Ursprung + Offset berechnet
+    private Formation formation;
+    private int formationSlot;
+    private int materializedVersion;
+
+    /**
+     * @param projectiles Projektil-Speicher des Modus, nur für schießende Typen nötig
+     * @param timers Timing Wheel der Sitzung für Zünder und Feuerrhythmus
+     */
+    public Enemy(EnemyArchetype archetype, EnemyProjectileSystem projectiles, TimerWheel timers) {
+        this.archetype = archetype;
+        this.projectiles = projectiles;
+        this.timers = timers;
+        this.position = new Vector2();
+        this.previousPosition = new Vector2();
+        this.bounds = new Rectangle(0, 0, archetype.width, archetype.height);
+        reset(0, 0, archetype.health, 0);
+    }
+
+    /**
+     * Für den Pool: setzt den Gegner an eine neue Startposition, wie frisch erzeugt
+     * @param startTime Zeit der Sitzung, zu der der Gegner bei (x, y) steht; liegt sie zurück,
+     *                  steht er sofort dort, wo er inzwischen wäre
+     */
+    public void reset(float x, float y, float health, float startTime) {
+        position.set(x, y);
+        previousPosition.set(x, y);
+        bounds.setPosition(x, y);
         this.health = health;
         this.alive = true;
-        this.speed = Constants.ENEMY_SPEED;
-        this.sprite = new Sprite(texture);
-        sprite.setPosition(x, y);
-        sprite.setSize(Constants.ENEMY_WIDTH, Constants.ENEMY_HEIGHT);
-        bounds = new Rectangle(x, y, Constants.ENEMY_WIDTH, Constants.ENEMY_HEIGHT);
-        this.bullets = new Array<>();
-        this.fireTimer = 0;
+        path.linear(startTime, x, y, 0, -archetype.speed);
+        if (archetype.movement == EnemyArchetype.MOVE_ZIGZAG) {
+            path.waveX(archetype.zigzagAmplitude, archetype.zigzagFrequency);
+        }
+        this.pathEndTime = Float.MAX_VALUE;
+        this.materializedTime = Float.NaN;
+        this.exploding = false;
+        this.detonationPending = false;
+        this.formation = null;
+        cancelTimers();
+    }
+
+    /**
+     * Trägt Zünder und Feuerrhythmus aus dem Timing Wheel aus, z.B. bevor der Gegner in den Pool geht
+     */
+    public void cancelTimers() {
+        if (timers == null) return;
+        timers.cancel(fuse);
+        timers.cancel(fireTimer);
+    }
+
+    void joinFormation(Formation formation, int slot) {
+        this.formation = formation;
+        this.formationSlot = slot;
+        this.materializedVersion = -1;
+    }
+
+    void leaveFormation() {
+        this.formation = null;
+    }
+
+    /**
+     * Bringt Position, vorige Position und Bounds auf den aktuellen Stand: für Formationsmitglieder
+     * aus der Formation (einmal pro Schritt der Formation), sonst aus der Bahn (einmal pro Zeit)
+     */
+    void materialize() {
+        if (formation == null) {
+            materializePath();
+            return;
+        }
+        if (materializedVersion == formation.getVersion()) return;
+        float offsetX = formation.getOffsetX(formationSlot);
+        float offsetY = formation.getOffsetY(formationSlot);
+        position.set(formation.getX() + offsetX, formation.getY() + offsetY);
+        previousPosition.set(formation.getPreviousX() + offsetX, formation.getPreviousY() + offsetY);
+        bounds.setPosition(position.x, position.y);
+        materializedVersion = formation.getVersion();
+    }
+
+    private void materializePath() {
+        if (timers == null) return;
+        float time = timers.getTime();
+        if (time == materializedTime) return;
+        float now = Math.min(time, pathEndTime);
+        float before = Math.min(timers.getPreviousTime(), pathEndTime);
+        path.evaluate(now, position);
+        path.evaluate(before, previousPosition);
+        bounds.setPosition(position.x, position.y);
+        materializedTime = time;
+    }
+
+    public Formation getFormation() {
+        return formation;
+    }
+
+    public int getFormationSlot() {
+        return formationSlot;
     }
 
     // Getter Methoden
+    public EnemyArchetype getArchetype() {
+        return archetype;
+    }
+
     public Vector2 getPosition() {
+        materialize();
         return position;
     }
 
+    @Override
     public Rectangle getBounds() {
+        materialize();
         return bounds;
     }
 
+    @Override
+    public Vector2 getPreviousPosition() {
+        materialize();
+        return previousPosition;
+    }
+
     public float getHealth() {
         return health;
     }
@@ -51,11 +191,23 @@ public class Enemy {
     }
 
     public float getSpeed() {
-        return speed;
+        return archetype.speed;
+    }
+
+    public boolean isExploding() {
+        return exploding;
+    }
+
+    public boolean isDetonationPending() {
+        return detonationPending;
+    }
+
+    public float getExplosionRadius() {
+        return archetype.explosionRadius;
     }
 
-    public Array<Bullet> getBullets() {
-        return bullets;
+    public float getExplosionDamage() {
+        return archetype.explosionDamage;
     }
 
     // Setter Methoden
@@ -67,64 +219,129 @@ public class Enemy {
         this.alive = alive;
     }
 
-    public void setSpeed(float speed) {
-        this.speed = speed;
+    public void setPlayerPosition(Vector2 playerPosition) {
+        this.playerPosition = playerPosition;
     }
 
-    public void update(float delta) {
-        if (!alive) return;
+    /**
+     * Bomber: sofort zünden, z.B. von einer Explosion in der Nähe erfasst
+     */
+    public void triggerDetonation() {
+        if (archetype.movement != EnemyArchetype.MOVE_BOMBER || detonationPending) return;
+        detonationPending = true;
+        alive = false;
+    }
+
+    /**
+     * Vom Modus nach dem Auflösen der Explosion aufgerufen
+     */
+    public void clearDetonation() {
+        detonationPending = false;
+    }
+
+    /**
+     * Unterkante zur aktuellen Zeit, z.B. für die Aktivierungszone; ohne Position oder Bounds zu setzen
+     */
+    public float getApproachY() {
+        if (formation != null) {
+            return formation.getY() + formation.getOffsetY(formationSlot);
+        }
+        return path.getY(Math.min(timers.getTime(), pathEndTime));
+    }
 
-        // Bewege den Gegner nach unten (standardmäßig, anpassen je nach Spielmodus)
-        position.y -= speed * delta;
-        updateBounds();
+    /**
+     * Die Bewegung selbst steckt in der Bahn (oder der Formation); hier bleiben nur die
+     * Entscheidungen, die vom Ort abhängen
+     */
+    public void update(float delta) {
+        // Formationsmitglieder bewegt die Formation einmal für alle
+        if (!alive || formation != null || exploding) return;
 
-        // Entferne Gegner, wenn sie den Bildschirm verlassen (optional)
-        if (position.y < -Constants.ENEMY_HEIGHT) {
+        // Entferne Gegner, wenn sie den Bildschirm verlassen
+        if (getApproachY() < -Constants.ENEMY_HEIGHT) {
             alive = false;
+            return;
         }
 
-        // Update bullets if enemy can shoot
-        for (int i = bullets.size - 1; i >= 0; i--) {
-            Bullet bullet = bullets.get(i);
-            bullet.update(delta);
-            if (!bullet.isAlive()) {
-                bullets.removeIndex(i);
+        // Bomber: Abstand zum Spieler prüfen; ab dem Zünden steht er am Ende seiner Bahn still
+        if (archetype.movement == EnemyArchetype.MOVE_BOMBER && playerPosition != null) {
+            materialize();
+            if (position.dst(playerPosition) < archetype.explosionRadius) {
+                exploding = true;
+                pathEndTime = timers.getTime();
             }
         }
     }
 
-    protected void updateBounds() {
-        sprite.setPosition(position.x, position.y);
-        bounds.setPosition(position.x, position.y);
+    public void render(SpriteBatch batch, CullingSystem culling) {
+        if (!alive) return;
+        // Liegt die ganze Formation außerhalb, muss das Mitglied nicht berechnet werden
+        if (formation != null && !culling.overlapsView(formation.getBounds())) {
+            culling.countCulled();
+            return;
+        }
+        if (!culling.isVisible(getBounds())) return;
+
+        // Textur und Farbe teilen sich alle Gegner eines Typs, statt eines Sprites pro Gegner
+        float previousColor = batch.getPackedColor();
+        batch.setPackedColor(archetype.packedTint);
+        batch.draw(archetype.region, position.x, position.y, archetype.width, archetype.height);
+        batch.setPackedColor(previousColor);
     }
 
-    public void render(SpriteBatch batch) {
-        if (alive) {
-            sprite.draw(batch);
-            // Render bullets if enemy can shoot
-            for (Bullet bullet : bullets) {
-                bullet.render(batch);
+    /**
+     * Auflösungsphase nach dem (ggf. parallelen) Update: Nebenwirkungen werden hier
+     * auf dem Render-Thread als Ereignisse gemeldet statt in update() ausgelöst.
+     */
+    public void resolveEffects(GameEventQueue events) {
+        if (!alive) return;
+        if (exploding && !fuse.isScheduled()) {
+            timers.schedule(fuse, archetype.explosionDuration);
+        }
+        // Erst schießen, wenn der Gegner sichtbar ist; danach hält der Timer den Rhythmus selbst
+        if (archetype.fire != EnemyArchetype.FIRE_NONE && !fireTimer.isScheduled()) {
+            materialize();
+            if (position.y <= Constants.SCREEN_HEIGHT - archetype.height) {
+                // Nach x versetzt, damit eine Reihe von Schützen nicht im Gleichtakt feuert
+                float offset = archetype.fireRate * 0.5f * position.x / Constants.SCREEN_WIDTH;
+                timers.schedule(fireTimer, archetype.fireRate - offset);
             }
         }
     }
 
+    /**
+     * Ein Schuss nach dem Muster des Typs von der Unterkante des Gegners
+     */
+    private void fire(float x, float y) {
+        switch (archetype.fire) {
+            case EnemyArchetype.FIRE_AIMED_SPREAD:
+                float first = -archetype.spreadAngle * (archetype.shots - 1) / 2;
+                for (int i = 0; i < archetype.shots; i++) {
+                    projectiles.fireAtTarget(x, y, archetype.bulletSpeed, first + i * archetype.spreadAngle,
+                        archetype.bulletDamage);
+                }
+                break;
+            default:
+                projectiles.fire(x, y, 0, -archetype.bulletSpeed, archetype.bulletDamage);
+                break;
+        }
+    }
+
     public void takeDamage(float damage) {
         if (alive) {
             health -= damage;
             if (health <= 0) {
                 alive = false;
-                // Spiele Explosions-Sound wenn der Gegner zerstört wird
-                AudioManager.getInstance().playExplosionSound();
+                // Zerstörte Bomber explodieren
+                if (archetype.movement == EnemyArchetype.MOVE_BOMBER) {
+                    detonationPending = true;
+                }
             }
         }
     }
 
     public void dispose() {
         // Textures from enemies are provided by the central AssetManager and must not be disposed here.
-        // Only clear internal collections to release references.
-        for (Bullet b : bullets) {
-            if (b != null) b.destroy();
-        }
-        bullets.clear();
+        // Projektile schießender Gegner gehören dem EnemyProjectileSystem des Modus.
     }
 }
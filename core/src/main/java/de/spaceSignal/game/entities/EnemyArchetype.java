@@ -0,0 +1,98 @@
+package de.spaceSignal.game.entities;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * Unveränderliche Werte eines Gegnertyps aus data/enemies.json (Flyweight). Alle Gegner eines
+ * Typs teilen sich ein Objekt; der Gegner selbst hält nur seinen veränderlichen Zustand.
+ * Bewegung und Schussmuster sind Ids; Enemy legt danach seine Bahn an und verzweigt per switch.
+ */
+public final class EnemyArchetype {
+    public static final int MOVE_STRAIGHT = 0;
+    public static final int MOVE_ZIGZAG = 1;
+    // Fällt gerade und explodiert in der Nähe des Spielers
+    public static final int MOVE_BOMBER = 2;
+
+    public static final int FIRE_NONE = 0;
+    public static final int FIRE_STRAIGHT = 1;
+    public static final int FIRE_AIMED_SPREAD = 2;
+
+    /** Position in der Tabelle, z.B. für Pools pro Typ */
+    public final int index;
+    public final String name;
+    public final float speed;
+    public final float health;
+    public final float width;
+    public final float height;
+    public final TextureRegion region;
+    public final float packedTint;
+
+    public final int movement;
+    public final float zigzagAmplitude;
+    public final float zigzagFrequency;
+    public final float explosionRadius;
+    public final float explosionDamage;
+    public final float explosionDuration;
+
+    public final int fire;
+    public final float fireRate;
+    public final float bulletSpeed;
+    public final float bulletDamage;
+    public final int shots;
+    public final float spreadAngle;
+
+    public EnemyArchetype(int index, JsonValue json, TextureRegion region) {
+        this.index = index;
+        this.name = json.getString("name");
+        this.speed = json.getFloat("speed");
+        this.health = json.getFloat("health");
+        float[] hitbox = json.get("hitbox").asFloatArray();
+        this.width = hitbox[0];
+        this.height = hitbox[1];
+        this.region = region;
+        JsonValue tint = json.get("tint");
+        this.packedTint = tint == null ? Color.WHITE_FLOAT_BITS
+            : Color.toFloatBits(tint.getFloat(0), tint.getFloat(1), tint.getFloat(2), 1f);
+
+        JsonValue move = json.get("movement");
+        this.movement = parseMovement(move.getString("type"));
+        this.zigzagAmplitude = move.getFloat("amplitude", 0);
+        this.zigzagFrequency = move.getFloat("frequency", 0);
+        this.explosionRadius = move.getFloat("radius", 0);
+        this.explosionDamage = move.getFloat("damage", 0);
+        this.explosionDuration = move.getFloat("duration", 0);
+
+        JsonValue shoot = json.get("fire");
+        this.fire = shoot == null ? FIRE_NONE : parseFire(shoot.getString("pattern"));
+        this.fireRate = shoot == null ? 0 : shoot.getFloat("rate");
+        this.bulletSpeed = shoot == null ? 0 : shoot.getFloat("speed");
+        this.bulletDamage = shoot == null ? 0 : shoot.getFloat("damage");
+        this.shots = shoot == null ? 0 : shoot.getInt("shots", 1);
+        this.spreadAngle = shoot == null ? 0 : shoot.getFloat("spread", 0);
+    }
+
+    private static int parseMovement(String type) {
+        switch (type) {
+            case "straight": return MOVE_STRAIGHT;
+            case "zigzag": return MOVE_ZIGZAG;
+            case "bomber": return MOVE_BOMBER;
+            default: throw new GdxRuntimeException("Unknown enemy movement: " + type);
+        }
+    }
+
+    private static int parseFire(String pattern) {
+        switch (pattern) {
+            case "straight": return FIRE_STRAIGHT;
+            case "aimedSpread": return FIRE_AIMED_SPREAD;
+            default: throw new GdxRuntimeException("Unknown enemy fire pattern: " + pattern);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -4,9 +4,11 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
+import de.spaceSignal.game.managers.RandomStreams;
+import de.spaceSignal.game.util.RandomStream;
+
 class ExplosionParticle {
     private Vector2 position;
     private Vector2 velocity;
@@ -22,11 +24,12 @@ class ExplosionParticle {
         this.velocity = new Vector2(velocity);
         this.maxLifetime = lifetime;
         this.lifetime = lifetime;
-        this.initialSize = MathUtils.random(2f, 8f);
+        RandomStream random = RandomStreams.getInstance().visuals();
+        this.initialSize = random.random(2f, 8f);
         this.size = initialSize;
 
         // Zufällige Feuerfarbe (Rot, Orange, Gelb)
-        float colorChoice = MathUtils.random();
+        float colorChoice = random.random();
         if (colorChoice < 0.6f) {
             this.color = new Color(1f, 0.3f, 0.1f, 1f); // Rot
         } else if (colorChoice < 0.9f) {
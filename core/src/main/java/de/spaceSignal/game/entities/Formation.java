@@ -0,0 +1,200 @@
+package de.spaceSignal.game.entities;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.Pool;
+
+import de.spaceSignal.game.util.Constants;
+
+/**
+ * Gruppe von Gegnern mit gemeinsamer Bewegung: pro Schritt wird nur der Ursprung der Formation
+ * verschoben. Die Mitglieder speichern lediglich ihren Platz (Offset) und berechnen Position und
+ * Bounds erst, wenn jemand danach fragt ({@link Enemy#getBounds()} usw.). Kollisions- und
+ * Sichtbarkeitsprüfungen testen vorher die Bounds der ganzen Gruppe, sodass Mitglieder einer
+ * Formation, die nicht in der Nähe ist, gar nicht berechnet werden.
+ * Plätze werden beim Planen der Welle angelegt; die Gegner kommen erst dazu, wenn der
+ * SpawnScheduler sie erzeugt.
+ */
+public class Formation implements Pool.Poolable {
+    private final Vector2 origin;
+    private final Vector2 previousOrigin;
+    private float speed;
+
+    // Offsets der Plätze als x/y-Paare, relativ zum Ursprung
+    private final FloatArray offsets;
+    // Platz -> Gegner, null solange noch nicht erzeugt oder schon entfernt
+    private final Array<Enemy> members;
+    private int pendingCount;
+    private int memberCount;
+
+    // Umriss der aktuellen Mitglieder relativ zum Ursprung; nur bei Änderungen neu berechnet
+    private final Rectangle localExtent;
+    private boolean extentDirty;
+    private final Rectangle bounds;
+    // Bounds der Gruppe vor und nach dem letzten Schritt zusammen, für Swept-Tests
+    private final Rectangle sweptBounds;
+    private int version;
+
+    public Formation() {
+        origin = new Vector2();
+        previousOrigin = new Vector2();
+        offsets = new FloatArray();
+        members = new Array<>();
+        localExtent = new Rectangle();
+        bounds = new Rectangle();
+        sweptBounds = new Rectangle();
+    }
+
+    /**
+     * Neue Formation; Offsets der Plätze sind dann die Startpositionen
+     * @param speed Fallgeschwindigkeit in Pixeln pro Sekunde
+     */
+    public void begin(float speed) {
+        this.speed = speed;
+        origin.setZero();
+        previousOrigin.setZero();
+    }
+
+    /**
+     * Legt einen Platz an der aktuellen Weltposition an
+     * @return Platznummer für {@link #attach(Enemy, int)}
+     */
+    public int addSlot(float x, float y) {
+        offsets.add(x - origin.x, y - origin.y);
+        members.add(null);
+        pendingCount++;
+        return members.size - 1;
+    }
+
+    /**
+     * Setzt einen frisch erzeugten Gegner auf seinen Platz
+     */
+    public void attach(Enemy enemy, int slot) {
+        members.set(slot, enemy);
+        pendingCount--;
+        memberCount++;
+        extentDirty = true;
+        enemy.joinFormation(this, slot);
+        // Sofort in die Gruppen-Bounds aufnehmen, nicht erst beim nächsten Schritt
+        updateBounds();
+    }
+
+    /**
+     * Nimmt einen Gegner aus der Formation (beim Zurückgeben an den Pool)
+     */
+    public void detach(Enemy enemy) {
+        int slot = enemy.getFormationSlot();
+        if (members.get(slot) != enemy) return;
+        // Letzte bekannte Position übernehmen, danach gehört der Gegner nicht mehr zur Gruppe
+        enemy.materialize();
+        members.set(slot, null);
+        memberCount--;
+        extentDirty = true;
+        enemy.leaveFormation();
+    }
+
+    /**
+     * Ein Schritt für alle Mitglieder: Ursprung verschieben und Gruppen-Bounds aktualisieren.
+     * Mitglieder, die den Bildschirm unten verlassen haben, werden wie bei einzelnen Gegnern
+     * als tot markiert.
+     */
+    public void update(float delta) {
+        previousOrigin.set(origin);
+        origin.y -= speed * delta;
+        version++;
+        updateBounds();
+
+        if (memberCount > 0 && bounds.y < -Constants.ENEMY_HEIGHT) {
+            for (int i = 0; i < members.size; i++) {
+                Enemy enemy = members.get(i);
+                if (enemy != null && origin.y + offsets.get(i * 2 + 1) < -Constants.ENEMY_HEIGHT) {
+                    enemy.setAlive(false);
+                }
+            }
+        }
+    }
+
+    private void updateBounds() {
+        if (extentDirty) {
+            updateExtent();
+        }
+        bounds.set(origin.x + localExtent.x, origin.y + localExtent.y, localExtent.width, localExtent.height);
+        // Die Formation fällt nur, daher reicht es, die Bounds um den Weg nach oben zu verlängern
+        sweptBounds.set(bounds);
+        sweptBounds.height += previousOrigin.y - origin.y;
+    }
+
+    private void updateExtent() {
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < members.size; i++) {
+            Enemy enemy = members.get(i);
+            if (enemy == null) continue;
+            float x = offsets.get(i * 2);
+            float y = offsets.get(i * 2 + 1);
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x + enemy.getArchetype().width);
+            maxY = Math.max(maxY, y + enemy.getArchetype().height);
+        }
+        if (minX > maxX) {
+            localExtent.set(0, 0, 0, 0);
+        } else {
+            localExtent.set(minX, minY, maxX - minX, maxY - minY);
+        }
+        extentDirty = false;
+    }
+
+    /**
+     * Grobtest vor dem Swept-Test einzelner Mitglieder: kann ein Rechteck, das sich von
+     * movingFrom nach moving bewegt hat, die Gruppe in diesem Schritt berühren?
+     */
+    public boolean mayOverlap(Rectangle moving, Vector2 movingFrom) {
+        if (memberCount == 0) return false;
+        float minX = Math.min(moving.x, movingFrom.x);
+        float minY = Math.min(moving.y, movingFrom.y);
+        float maxX = Math.max(moving.x, movingFrom.x) + moving.width;
+        float maxY = Math.max(moving.y, movingFrom.y) + moving.height;
+        return minX < sweptBounds.x + sweptBounds.width && maxX > sweptBounds.x
+            && minY < sweptBounds.y + sweptBounds.height && maxY > sweptBounds.y;
+    }
+
+    /**
+     * Keine Mitglieder mehr und keine mehr geplant: kann zurück in den Pool
+     */
+    public boolean isFinished() {
+        return memberCount == 0 && pendingCount == 0;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < members.size; i++) {
+            Enemy enemy = members.get(i);
+            if (enemy != null && enemy.getFormation() == this) {
+                enemy.leaveFormation();
+            }
+        }
+        members.clear();
+        offsets.clear();
+        pendingCount = 0;
+        memberCount = 0;
+        extentDirty = true;
+        localExtent.set(0, 0, 0, 0);
+        bounds.set(0, 0, 0, 0);
+        sweptBounds.set(0, 0, 0, 0);
+    }
+
+    public float getX() { return origin.x; }
+    public float getY() { return origin.y; }
+    public float getPreviousX() { return previousOrigin.x; }
+    public float getPreviousY() { return previousOrigin.y; }
+    public float getOffsetX(int slot) { return offsets.get(slot * 2); }
+    public float getOffsetY(int slot) { return offsets.get(slot * 2 + 1); }
+    public Rectangle getBounds() { return bounds; }
+    public int getVersion() { return version; }
+    public int getMemberCount() { return memberCount; }
+}
@@ -1,7 +1,5 @@
 package de.spaceSignal.game.entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -9,12 +7,14 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 
-import de.spaceSignal.game.managers.AudioManager;
+import de.spaceSignal.game.systems.InputSource;
 import de.spaceSignal.game.util.Constants;
 
 public class Player {
     private Sprite sprite;
     private Vector2 position;
+    // Position vor dem letzten update() für Swept-Kollisionen
+    private Vector2 previousPosition;
     private Rectangle bounds;
     private float health;
     private float fireTimer;
@@ -25,10 +25,21 @@ public class Player {
 
     public Player(float x, float y, Texture texture) {
         position = new Vector2(x, y);
+        previousPosition = new Vector2(x, y);
         sprite = new Sprite(texture);
-        sprite.setPosition(x, y);
         sprite.setSize(Constants.PLAYER_WIDTH, Constants.PLAYER_HEIGHT);
         bounds = new Rectangle(x, y, Constants.PLAYER_WIDTH, Constants.PLAYER_HEIGHT);
+        reset(x, y);
+    }
+
+    /**
+     * Setzt den Spieler für eine neue Runde zurück, ohne Sprite oder Textur neu anzulegen.
+     */
+    public void reset(float x, float y) {
+        position.set(x, y);
+        previousPosition.set(x, y);
+        sprite.setPosition(x, y);
+        bounds.setPosition(x, y);
         health = Constants.PLAYER_MAX_HEALTH;
         fireTimer = 0;
         bulletLevel = 1;
@@ -37,15 +48,17 @@ public class Player {
         canShoot = true; // Standardmäßig kann geschossen werden
     }
 
-    public void update(float delta) {
+    public void update(float delta, InputSource input) {
         if (!alive) return;
 
+        previousPosition.set(position);
+
         // Bewegung
         float speed = Constants.PLAYER_SPEED;
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
+        if (input.isLeftPressed()) {
             position.x -= speed * delta;
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
+        if (input.isRightPressed()) {
             position.x += speed * delta;
         }
         position.x = MathUtils.clamp(position.x, 0, Constants.SCREEN_WIDTH - Constants.PLAYER_WIDTH);
@@ -64,7 +77,6 @@ public class Player {
         health -= damage;
         if (health <= 0) {
             alive = false;
-            AudioManager.getInstance().playExplosionSound();
         }
     }
 
@@ -74,7 +86,6 @@ public class Player {
 
     public void resetFireTimer() {
         fireTimer = 0;
-        AudioManager.getInstance().playShootSound();
     }
 
     public void applyUpgrade(String type) {
@@ -89,7 +100,6 @@ public class Player {
                 damageMultiplier += 0.5f;
                 break;
         }
-        AudioManager.getInstance().playPowerupSound();
     }
 
     // Getter und Setter für canShoot
@@ -109,6 +119,10 @@ public class Player {
         return position;
     }
 
+    public Vector2 getPreviousPosition() {
+        return previousPosition;
+    }
+
     public Rectangle getBounds() {
         return bounds;
     }
@@ -130,6 +144,6 @@ public class Player {
     }
 
     public void dispose() {
-        sprite.getTexture().dispose();
+        // Die Spieler-Textur wird zentral vom AssetManager verwaltet und hier nicht freigegeben.
     }
 }
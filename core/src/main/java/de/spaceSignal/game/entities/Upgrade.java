@@ -56,6 +56,6 @@ public class Upgrade {
     }
 
     public void dispose() {
-        sprite.getTexture().dispose();
+        // Upgrade-Texturen werden zentral vom AssetManager verwaltet und hier nicht freigegeben.
     }
 }
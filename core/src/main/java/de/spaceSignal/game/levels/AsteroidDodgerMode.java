@@ -1,7 +1,5 @@
 package de.spaceSignal.game.levels;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -9,14 +7,28 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
 import de.spaceSignal.game.entities.Bullet;
 import de.spaceSignal.game.entities.Enemy;
 import de.spaceSignal.game.entities.Player;
 import de.spaceSignal.game.entities.Upgrade;
 import de.spaceSignal.game.managers.AssetManager;
-import de.spaceSignal.game.managers.AudioManager;
+import de.spaceSignal.game.managers.ProfilerManager;
+import de.spaceSignal.game.managers.RandomStreams;
+import de.spaceSignal.game.managers.SettingsManager;
+import de.spaceSignal.game.systems.AsteroidPhysics;
+import de.spaceSignal.game.systems.BotInput;
+import de.spaceSignal.game.systems.GameEventQueue;
+import de.spaceSignal.game.systems.JobSystem;
+import de.spaceSignal.game.systems.TimerWheel;
 import de.spaceSignal.game.util.Constants;
+import de.spaceSignal.game.util.EntityArrays;
+import de.spaceSignal.game.util.HudLabel;
+import de.spaceSignal.game.util.RandomStream;
+import de.spaceSignal.game.util.WeightedPicker;
 
 /**
  * Asteroid Dodger Mode:
@@ -34,21 +46,40 @@ public class AsteroidDodgerMode extends GameMode {
     private float baseSpawnInterval;
     private float currentSpeed;
 
-    // Combo-System
+    // Combo-System; Ablauf, Schild und Slow Motion laufen als Timer im Timing Wheel
     private int comboCount;
-    private float comboTimer;
     private float scoreMultiplier;
     private static final float COMBO_TIMEOUT = 3f;
+    private final TimerWheel.Timer comboTimer = new TimerWheel.Timer() {
+        @Override
+        protected void onExpire() {
+            // Ohne laufende Combo bleibt ein eingesammelter Multiplier bis zur nächsten stehen
+            if (comboCount > 0) {
+                comboCount = 0;
+                scoreMultiplier = 1f;
+            }
+        }
+    };
 
     // Shield Power-Up
     private boolean shieldActive;
-    private float shieldTimer;
     private static final float SHIELD_DURATION = 5f;
+    private final TimerWheel.Timer shieldTimer = new TimerWheel.Timer() {
+        @Override
+        protected void onExpire() {
+            shieldActive = false;
+        }
+    };
 
     // Slow Motion
     private boolean slowMotionActive;
-    private float slowMotionTimer;
     private static final float SLOW_MOTION_DURATION = 3f;
+    private final TimerWheel.Timer slowMotionTimer = new TimerWheel.Timer() {
+        @Override
+        protected void onExpire() {
+            slowMotionActive = false;
+        }
+    };
 
     // Power-Ups
     private Array<PowerUp> powerUps;
@@ -69,6 +100,45 @@ public class AsteroidDodgerMode extends GameMode {
     private static final float MIN_SPAWN_INTERVAL = 0.08f;
     private static final float MAX_SPAWN_INTERVAL = 0.3f;
 
+    // Parallele Bewegungs-Phase der Asteroiden
+    private float moveDelta;
+    private float moveTimeScale;
+    private final JobSystem.RangeJob moveAsteroids = new JobSystem.RangeJob() {
+        @Override
+        public void run(int start, int end) {
+            Vector2 playerPos = player.getPosition();
+            for (int i = start; i < end; i++) {
+                asteroids.get(i).update(moveDelta, playerPos, moveTimeScale);
+            }
+        }
+    };
+
+    // Optionale Box2D-Welt (Einstellung "Asteroid Physics"); null, solange sie nie aktiv war
+    private AsteroidPhysics physics;
+    private boolean physicsEnabled;
+    // Beinahe-Treffer: Abstand zur Spielermitte wie bei der einfachen Bewegung
+    private static final float NEAR_MISS_RADIUS = 80f;
+    // Dauer der Asteroiden-Phase (Bewegung + Kollisionen) im letzten Schritt, für den Vergleich beider Pfade
+    private long asteroidPhaseNanos;
+    // Für Benchmarks: hält mindestens so viele Asteroiden im Spiel (0 = normales Spawnen)
+    private int minAsteroidCount;
+    // Asteroiden außerhalb des Spielfelds im letzten Schritt
+    private int dormantCount;
+
+    // Bot: Abstand, ab dem Asteroiden gemieden werden
+    private static final float BOT_AVOID_RANGE = 90f;
+
+    // HUD
+    private final HudLabel scoreLabel = new HudLabel("Score: ", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 10);
+    private final HudLabel waveLabel = new HudLabel("Wave: ", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 35);
+    private final HudLabel healthLabel = new HudLabel("Health: ", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 60);
+    private final HudLabel comboLabel = new HudLabel("COMBO x", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 85);
+    private final HudLabel multiplierLabel = new HudLabel("Multiplier: x", HudLabel.FORMAT_TENTHS, 10, Constants.SCREEN_HEIGHT - 110);
+    private final HudLabel shieldLabel = new HudLabel("SHIELD: ", "s", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 135, 0, Align.left);
+    private final HudLabel slowMotionLabel = new HudLabel("SLOW-MO: ", "s", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 135, 0, Align.left);
+    private final HudLabel hellLabel = new HudLabel("HELL: x", HudLabel.FORMAT_TENTHS, 10, Constants.SCREEN_HEIGHT - 160);
+    private final HudLabel hintLabel = new HudLabel("WASD/Arrows: Move", HudLabel.FORMAT_NONE, 10, 40);
+
     private enum AsteroidType {
         NORMAL,     // Geradeaus
         SPINNING,   // Dreht sich
@@ -81,8 +151,14 @@ public class AsteroidDodgerMode extends GameMode {
         SLOW_MOTION,
         SCORE_MULTIPLIER
     }
+    // values() legt bei jedem Aufruf ein neues Array an
+    private static final PowerUpType[] POWER_UP_TYPES = PowerUpType.values();
+    private final WeightedPicker<AsteroidType> asteroidTypes = new WeightedPicker<>();
 
     private static class Asteroid {
+        // Rotierte Quadrate ragen bis zu Faktor sqrt(2) über die Bounds hinaus
+        static final float ROTATION_PAD = 0.21f;
+
         Vector2 position;
         Vector2 velocity;
         Rectangle bounds;
@@ -91,15 +167,24 @@ public class AsteroidDodgerMode extends GameMode {
         AsteroidType type;
         float size;
         boolean alive;
+        // Noch außerhalb des Spielfelds: fliegt nur geradeaus an, ohne Bounds, Drehung,
+        // Kollisionen, Beinahe-Treffer oder Box2D-Körper
+        boolean dormant;
+        float dormantTime;
+        // Nur mit Box2D gesetzt
+        Body body;
+        boolean wallsEnabled;
 
         Asteroid(float x, float y, float vx, float vy, AsteroidType type) {
             this.position = new Vector2(x, y);
             this.velocity = new Vector2(vx, vy);
             this.type = type;
-            this.size = MathUtils.random(30f, 60f);
+            // Drehung ist mit Box2D Teil der Simulation, daher aus dem Spawn-Strom
+            RandomStream random = RandomStreams.getInstance().spawn();
+            this.size = random.random(30f, 60f);
             this.bounds = new Rectangle(x, y, size, size);
-            this.rotation = MathUtils.random(0f, 360f);
-            this.rotationSpeed = MathUtils.random(-180f, 180f);
+            this.rotation = random.random(0f, 360f);
+            this.rotationSpeed = random.random(-180f, 180f);
             this.alive = true;
         }
 
@@ -107,6 +192,11 @@ public class AsteroidDodgerMode extends GameMode {
             if (!alive) return;
 
             float adjustedDelta = delta * timeScale;
+            if (dormant) {
+                approach(adjustedDelta);
+                if (!dormant) bounds.setPosition(position.x, position.y);
+                return;
+            }
 
             switch (type) {
                 case NORMAL:
@@ -119,8 +209,13 @@ public class AsteroidDodgerMode extends GameMode {
                     break;
 
                 case HOMING:
-                    Vector2 direction = new Vector2(playerPos).sub(position).nor();
-                    velocity.add(direction.scl(50f * adjustedDelta));
+                    // Richtung skalar normieren, läuft pro Asteroid in parallelFor
+                    float dx = playerPos.x - position.x;
+                    float dy = playerPos.y - position.y;
+                    float length = (float) Math.sqrt(dx * dx + dy * dy);
+                    if (length > 0) {
+                        velocity.add(dx / length * 50f * adjustedDelta, dy / length * 50f * adjustedDelta);
+                    }
                     velocity.clamp(0, 250f);
                     position.add(velocity.x * adjustedDelta, velocity.y * adjustedDelta);
                     break;
@@ -149,36 +244,111 @@ public class AsteroidDodgerMode extends GameMode {
         boolean collidesWith(Rectangle other) {
             return alive && bounds.overlaps(other);
         }
+
+        /**
+         * Anflug von außen: gerade Linie, Drehung wird beim Aktivieren in einem Schritt nachgeholt.
+         * Aktiviert sich, sobald ein Pixel des (gedrehten) Asteroiden im Spielfeld liegen kann.
+         */
+        void approach(float adjustedDelta) {
+            position.add(velocity.x * adjustedDelta, velocity.y * adjustedDelta);
+            dormantTime += adjustedDelta;
+            if (entersPlayField()) {
+                if (type == AsteroidType.SPINNING) {
+                    rotation += rotationSpeed * dormantTime;
+                }
+                dormant = false;
+            } else if (position.x < -100 || position.x > Constants.SCREEN_WIDTH + 100 ||
+                position.y < -100 || position.y > Constants.SCREEN_HEIGHT + 100) {
+                alive = false;
+            }
+        }
+
+        boolean entersPlayField() {
+            float pad = size * ROTATION_PAD;
+            return position.x - pad < Constants.SCREEN_WIDTH && position.x + size + pad > 0
+                && position.y - pad < Constants.SCREEN_HEIGHT && position.y + size + pad > 0;
+        }
+
+        /**
+         * Box2D: Zielsuchende Asteroiden vor dem Schritt zum Spieler lenken (wie in update())
+         */
+        void steer(float delta, Vector2 playerPos, float timeScale) {
+            if (type != AsteroidType.HOMING) return;
+            float adjustedDelta = delta * timeScale;
+            Vector2 bodyVelocity = body.getLinearVelocity();
+            velocity.set(AsteroidPhysics.toPixels(bodyVelocity.x), AsteroidPhysics.toPixels(bodyVelocity.y));
+            float dx = playerPos.x - position.x;
+            float dy = playerPos.y - position.y;
+            float length = (float) Math.sqrt(dx * dx + dy * dy);
+            if (length > 0) {
+                velocity.add(dx / length * 50f * adjustedDelta, dy / length * 50f * adjustedDelta);
+            }
+            velocity.clamp(0, 250f);
+            body.setLinearVelocity(AsteroidPhysics.toMeters(velocity.x), AsteroidPhysics.toMeters(velocity.y));
+        }
+
+        /**
+         * Box2D: Position und Drehung nach dem Schritt übernehmen
+         */
+        void syncFromBody(AsteroidPhysics physics) {
+            Vector2 center = body.getPosition();
+            position.set(AsteroidPhysics.toPixels(center.x) - size / 2, AsteroidPhysics.toPixels(center.y) - size / 2);
+            rotation = body.getAngle() * MathUtils.radiansToDegrees;
+            Vector2 bodyVelocity = body.getLinearVelocity();
+            velocity.set(AsteroidPhysics.toPixels(bodyVelocity.x), AsteroidPhysics.toPixels(bodyVelocity.y));
+            bounds.setPosition(position.x, position.y);
+
+            if (type == AsteroidType.BOUNCING && wallsEnabled) return;
+            if (type == AsteroidType.BOUNCING) {
+                // Erst an den Rändern abprallen, wenn der Asteroid ganz im Bild ist; er spawnt außerhalb
+                if (position.x >= 0 && position.y >= 0
+                    && position.x + size <= Constants.SCREEN_WIDTH && position.y + size <= Constants.SCREEN_HEIGHT) {
+                    physics.enableWalls(body);
+                    wallsEnabled = true;
+                    return;
+                }
+            }
+            // Bis dahin gilt auch für abprallende Asteroiden die Grenze außerhalb des Bildes,
+            // sonst treibt einer, der nie ganz hineinkommt (oder hinausgestoßen wird), ewig weiter
+            if (position.x < -100 || position.x > Constants.SCREEN_WIDTH + 100 ||
+                position.y < -100 || position.y > Constants.SCREEN_HEIGHT + 100) {
+                alive = false;
+            }
+        }
     }
 
-    private static class PowerUp {
+    /**
+     * Ein Power-Up ist selbst sein Lebensdauer-Timer; das Wippen ergibt sich aus der Zeit seit dem Spawn
+     */
+    private static class PowerUp extends TimerWheel.Timer {
+        static final float LIFETIME = 10f;
+
         Vector2 position;
         Rectangle bounds;
         PowerUpType type;
         boolean collected;
-        float bobTimer;
-        float lifetime;
+        boolean expired;
+        float spawnTime;
 
-        PowerUp(float x, float y, PowerUpType type) {
+        PowerUp(float x, float y, PowerUpType type, float spawnTime) {
             this.position = new Vector2(x, y);
             this.bounds = new Rectangle(x, y, 35, 35);
             this.type = type;
             this.collected = false;
-            this.bobTimer = 0;
-            this.lifetime = 10f;
+            this.expired = false;
+            this.spawnTime = spawnTime;
         }
 
-        void update(float delta) {
+        void update(float time) {
             if (collected) return;
 
-            bobTimer += delta * 3;
-            lifetime -= delta;
-            float bobOffset = MathUtils.sin(bobTimer) * 8;
+            float bobOffset = MathUtils.sin((time - spawnTime) * 3) * 8;
             bounds.setPosition(position.x, position.y + bobOffset);
         }
 
-        boolean isExpired() {
-            return lifetime <= 0;
+        @Override
+        protected void onExpire() {
+            expired = true;
         }
     }
 
@@ -189,60 +359,61 @@ public class AsteroidDodgerMode extends GameMode {
         powerUps = new Array<>();
         playerVelocity = new Vector2(0, 0);
 
+        asteroidTexture = AssetManager.getInstance().getEnemyTexture();
+        solidTexture = createSolidTexture();
+
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        setPhysicsEnabled(SettingsManager.getInstance().isAsteroidPhysics());
+        asteroids.clear();
+        cancelTimers();
+        powerUps.clear();
+        playerVelocity.set(0, 0);
+
         spawnTimer = 0;
         difficultyTimer = 0;
+        difficultyMultiplier = 1f;
         baseSpawnInterval = 1.5f;
         currentSpeed = 150f;
 
         comboCount = 0;
-        comboTimer = 0;
         scoreMultiplier = 1f;
 
         shieldActive = false;
-        shieldTimer = 0;
         slowMotionActive = false;
-        slowMotionTimer = 0;
         powerUpSpawnTimer = 0;
 
-        try {
-            asteroidTexture = new Texture(Gdx.files.internal("textures/enemy.png"));
-        } catch (Exception e) {
-            asteroidTexture = AssetManager.getInstance().getEnemyTexture();
-        }
-        solidTexture = createSolidTexture();
-
         player.getPosition().set(Constants.SCREEN_WIDTH / 2, Constants.SCREEN_HEIGHT / 2);
     }
 
+    /**
+     * Trägt Combo-, Power-Up- und Lebensdauer-Timer aus; beim ersten reset() aus dem
+     * Konstruktor gibt es noch kein Timing Wheel
+     */
+    private void cancelTimers() {
+        if (timers == null) return;
+        timers.cancel(comboTimer);
+        timers.cancel(shieldTimer);
+        timers.cancel(slowMotionTimer);
+        for (int i = 0; i < powerUps.size; i++) {
+            timers.cancel(powerUps.get(i));
+        }
+    }
+
     @Override
     public void update(float delta) {
         float timeScale = slowMotionActive ? 0.5f : 1f;
 
-        // Power-Up Timer
-        if (shieldActive) {
-            shieldTimer -= delta;
-            if (shieldTimer <= 0) shieldActive = false;
-        }
-        if (slowMotionActive) {
-            slowMotionTimer -= delta;
-            if (slowMotionTimer <= 0) slowMotionActive = false;
-        }
-
-        // Combo Timer
-        if (comboCount > 0) {
-            comboTimer -= delta;
-            if (comboTimer <= 0) {
-                comboCount = 0;
-                scoreMultiplier = 1f;
-            }
-        }
-
         // Spieler-Bewegung
         Vector2 acceleration = new Vector2(0, 0);
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.A)) acceleration.x -= playerAcceleration;
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D)) acceleration.x += playerAcceleration;
-        if (Gdx.input.isKeyPressed(Input.Keys.UP) || Gdx.input.isKeyPressed(Input.Keys.W)) acceleration.y += playerAcceleration;
-        if (Gdx.input.isKeyPressed(Input.Keys.DOWN) || Gdx.input.isKeyPressed(Input.Keys.S)) acceleration.y -= playerAcceleration;
+        if (input.isLeftPressed()) acceleration.x -= playerAcceleration;
+        if (input.isRightPressed()) acceleration.x += playerAcceleration;
+        if (input.isUpPressed()) acceleration.y += playerAcceleration;
+        if (input.isDownPressed()) acceleration.y -= playerAcceleration;
 
         playerVelocity.add(acceleration.scl(delta));
         playerVelocity.clamp(0, playerMaxSpeed);
@@ -275,82 +446,262 @@ public class AsteroidDodgerMode extends GameMode {
             spawnTimer = 0;
         }
 
-        // Asteroiden updaten
-        for (int i = asteroids.size - 1; i >= 0; i--) {
-            Asteroid asteroid = asteroids.get(i);
-            asteroid.update(delta, playerPos, timeScale);
-            if (!asteroid.alive) {
-                asteroids.removeIndex(i);
-                continue;
-            }
-            if (asteroid.collidesWith(player.getBounds())) {
-                if (shieldActive) {
-                    asteroid.alive = false;
-                    asteroids.removeIndex(i);
-                    AudioManager.getInstance().playExplosionSound();
-                    incrementScore((int)(50 * scoreMultiplier));
-                } else {
-                    player.takeDamage(1);
-                    asteroid.alive = false;
-                    asteroids.removeIndex(i);
-                    AudioManager.getInstance().playExplosionSound();
-                    comboCount = 0;
-                    scoreMultiplier = 1f;
-                    if (!player.isAlive()) setGameOver(true);
-                }
-            }
+        // Für Benchmarks das Feld auf die Mindestanzahl auffüllen
+        while (asteroids.size < minAsteroidCount) {
+            spawnAsteroid();
         }
 
-        // Combo für knappes Ausweichen
-        for (Asteroid asteroid : asteroids) {
-            float distance = asteroid.position.dst(playerPos);
-            if (distance < 80f && distance > 50f) {
-                comboCount++;
-                comboTimer = COMBO_TIMEOUT;
-                scoreMultiplier = 1f + (comboCount * 0.1f);
-                incrementScore((int)(5 * scoreMultiplier));
-            }
+        long phaseStart = TimeUtils.nanoTime();
+        if (physicsEnabled) {
+            updateAsteroidsPhysics(delta, timeScale);
+        } else {
+            updateAsteroidsSimple(delta, timeScale);
         }
+        asteroidPhaseNanos = TimeUtils.nanoTime() - phaseStart;
+        ProfilerManager profiler = ProfilerManager.getInstance();
+        profiler.setCounter("Asteroid phase us", (int) (asteroidPhaseNanos / 1000));
+        profiler.setCounter("Asteroids active", asteroids.size - dormantCount);
+        profiler.setCounter("Asteroids dormant", dormantCount);
 
         // Power-Ups spawnen
         powerUpSpawnTimer += delta;
-        if (powerUpSpawnTimer >= 8f && MathUtils.random() < 0.5f) {
+        if (powerUpSpawnTimer >= 8f && RandomStreams.getInstance().loot().chance(0.5f)) {
             spawnPowerUp();
             powerUpSpawnTimer = 0;
         }
 
         // Power-Ups updaten
+        float time = timers.getTime();
         for (int i = powerUps.size - 1; i >= 0; i--) {
             PowerUp powerUp = powerUps.get(i);
-            powerUp.update(delta);
-            if (powerUp.isExpired()) {
-                powerUps.removeIndex(i);
+            if (powerUp.expired) {
+                EntityArrays.swapRemove(powerUps, i);
                 continue;
             }
+            powerUp.update(time);
             if (!powerUp.collected && powerUp.bounds.overlaps(player.getBounds())) {
                 powerUp.collected = true;
+                timers.cancel(powerUp);
                 applyPowerUp(powerUp.type);
-                powerUps.removeIndex(i);
-                AudioManager.getInstance().playPowerupSound();
+                EntityArrays.swapRemove(powerUps, i);
+                events.publish(GameEventQueue.UPGRADE_COLLECTED, powerUp.bounds.x, powerUp.bounds.y, 0);
+            }
+        }
+    }
+
+    /**
+     * Einfache Bewegung: Asteroiden fliegen unabhängig voneinander, Treffer per Rechteck-Test,
+     * Beinahe-Treffer in jedem Schritt, in dem ein Asteroid 50-80 px vom Spieler entfernt ist.
+     */
+    private void updateAsteroidsSimple(float delta, float timeScale) {
+        // Asteroiden bewegen (ggf. parallel), Kollisionen danach auf diesem Thread
+        moveDelta = delta;
+        moveTimeScale = timeScale;
+        jobs.parallelFor(asteroids.size, moveAsteroids);
+        dormantCount = 0;
+        for (int i = asteroids.size - 1; i >= 0; i--) {
+            Asteroid asteroid = asteroids.get(i);
+            if (!asteroid.alive) {
+                EntityArrays.swapRemove(asteroids, i);
+                continue;
             }
+            if (asteroid.dormant) {
+                dormantCount++;
+                continue;
+            }
+            if (asteroid.collidesWith(player.getBounds())) {
+                onPlayerHit(asteroid);
+                EntityArrays.swapRemove(asteroids, i);
+            }
+        }
+
+        // Combo für knappes Ausweichen
+        Vector2 playerPos = player.getPosition();
+        for (int i = 0; i < asteroids.size; i++) {
+            Asteroid asteroid = asteroids.get(i);
+            if (asteroid.dormant) continue;
+            float distance = asteroid.position.dst(playerPos);
+            if (distance < NEAR_MISS_RADIUS && distance > 50f) {
+                awardNearMiss(asteroid);
+            }
+        }
+    }
+
+    /**
+     * Box2D: Asteroiden stoßen sich gegenseitig ab, springende prallen an den Rändern ab.
+     * Treffer und Beinahe-Treffer kommen aus den Kontakt-Callbacks; ein Beinahe-Treffer zählt
+     * einmal, wenn ein Asteroid den Radius um den Spieler wieder verlässt, ohne ihn zu treffen.
+     */
+    private void updateAsteroidsPhysics(float delta, float timeScale) {
+        Vector2 playerPos = player.getPosition();
+        dormantCount = 0;
+        for (int i = 0; i < asteroids.size; i++) {
+            Asteroid asteroid = asteroids.get(i);
+            if (asteroid.dormant) {
+                // Der Körper entsteht erst beim Eintritt ins Spielfeld
+                asteroid.approach(delta * timeScale);
+                if (asteroid.dormant) {
+                    dormantCount++;
+                } else if (asteroid.alive) {
+                    asteroid.bounds.setPosition(asteroid.position.x, asteroid.position.y);
+                    createBody(asteroid);
+                }
+                continue;
+            }
+            asteroid.steer(delta, playerPos, timeScale);
+        }
+        physics.step(delta * timeScale, player.getBounds());
+        for (int i = 0; i < asteroids.size; i++) {
+            Asteroid asteroid = asteroids.get(i);
+            if (asteroid.body != null) asteroid.syncFromBody(physics);
+        }
+
+        // Treffer zuerst, damit getroffene Asteroiden nicht noch als knapp zählen
+        Array<Object> hits = physics.getPlayerHits();
+        for (int i = 0; i < hits.size; i++) {
+            Asteroid asteroid = (Asteroid) hits.get(i);
+            if (!asteroid.alive) continue;
+            physics.cancelNearMiss(asteroid);
+            onPlayerHit(asteroid);
+        }
+        hits.clear();
+
+        Array<Object> nearMisses = physics.getNearMisses();
+        for (int i = 0; i < nearMisses.size; i++) {
+            Asteroid asteroid = (Asteroid) nearMisses.get(i);
+            if (asteroid.alive) awardNearMiss(asteroid);
+        }
+        nearMisses.clear();
+
+        for (int i = asteroids.size - 1; i >= 0; i--) {
+            Asteroid asteroid = asteroids.get(i);
+            if (!asteroid.alive) {
+                if (asteroid.body != null) physics.free(asteroid.body);
+                asteroid.body = null;
+                EntityArrays.swapRemove(asteroids, i);
+            }
+        }
+    }
+
+    private void onPlayerHit(Asteroid asteroid) {
+        float centerX = asteroid.position.x + asteroid.size / 2;
+        float centerY = asteroid.position.y + asteroid.size / 2;
+        asteroid.alive = false;
+        if (shieldActive) {
+            events.publish(GameEventQueue.ENEMY_KILLED, centerX, centerY, (int)(50 * scoreMultiplier));
+        } else {
+            player.takeDamage(1);
+            // Kein Abschuss: der Asteroid zerschellt nur am Spieler
+            events.publish(GameEventQueue.EXPLOSION, centerX, centerY, 0);
+            events.publish(GameEventQueue.PLAYER_HIT, player.getPosition().x, player.getPosition().y,
+                (int) player.getHealth());
+            comboCount = 0;
+            scoreMultiplier = 1f;
+            if (!player.isAlive()) setGameOver(true);
+        }
+    }
+
+    private void awardNearMiss(Asteroid asteroid) {
+        comboCount++;
+        timers.schedule(comboTimer, COMBO_TIMEOUT);
+        scoreMultiplier = 1f + (comboCount * 0.1f);
+        events.publish(GameEventQueue.SCORE_AWARDED, asteroid.position.x, asteroid.position.y,
+            (int)(5 * scoreMultiplier));
+    }
+
+    /**
+     * Schaltet zwischen Box2D und einfacher Bewegung um; laufende Asteroiden werden entfernt.
+     * Normalerweise über die Einstellung beim Rundenstart, direkt z.B. für Benchmarks.
+     */
+    public void setPhysicsEnabled(boolean enabled) {
+        if (physics != null) physics.freeAll();
+        asteroids.clear();
+        physicsEnabled = enabled;
+        if (enabled && physics == null) {
+            physics = new AsteroidPhysics(NEAR_MISS_RADIUS);
         }
     }
 
+    public boolean isPhysicsEnabled() {
+        return physicsEnabled;
+    }
+
+    /**
+     * Für Benchmarks: hält mindestens so viele Asteroiden im Spiel
+     */
+    public void setMinAsteroidCount(int count) {
+        minAsteroidCount = count;
+    }
+
+    /**
+     * Dauer der Asteroiden-Phase (Bewegung, Physik-Schritt, Kollisionen) im letzten Schritt
+     */
+    public long getAsteroidPhaseNanos() {
+        return asteroidPhaseNanos;
+    }
+
+    public int getAsteroidCount() {
+        return asteroids.size;
+    }
+
+    /**
+     * Bot: Potentialfeld – nahe Asteroiden stoßen ab, die Bildschirmmitte zieht leicht an.
+     * So sucht der Bot die Lücken zwischen den Asteroiden statt an den Rand gedrängt zu werden.
+     */
+    @Override
+    public void controlBot(BotInput bot) {
+        float playerX = player.getPosition().x + Constants.PLAYER_WIDTH / 2;
+        float playerY = player.getPosition().y + Constants.PLAYER_HEIGHT / 2;
+
+        float steerX = (Constants.SCREEN_WIDTH / 2 - playerX) * 0.002f;
+        float steerY = (Constants.SCREEN_HEIGHT / 2 - playerY) * 0.002f;
+
+        for (Asteroid asteroid : asteroids) {
+            if (!asteroid.alive) continue;
+            // Position kurz voraus schätzen, damit der Bot nicht in Asteroiden hineinläuft
+            float dx = playerX - (asteroid.position.x + asteroid.size / 2 + asteroid.velocity.x * 0.25f);
+            float dy = playerY - (asteroid.position.y + asteroid.size / 2 + asteroid.velocity.y * 0.25f);
+            float distSq = dx * dx + dy * dy;
+            float range = asteroid.size + BOT_AVOID_RANGE;
+            if (distSq < range * range) {
+                float weight = range * range / Math.max(distSq, 1f);
+                steerX += dx * weight * 0.01f;
+                steerY += dy * weight * 0.01f;
+            }
+        }
+
+        // Power-Ups einsammeln, wenn keine Gefahr droht
+        if (Math.abs(steerX) < 0.2f && Math.abs(steerY) < 0.2f && powerUps.size > 0) {
+            PowerUp powerUp = powerUps.first();
+            steerX = powerUp.bounds.x - playerX;
+            steerY = powerUp.bounds.y - playerY;
+        }
+
+        bot.setHorizontal(steerX > 0.1f ? 1 : steerX < -0.1f ? -1 : 0);
+        bot.setVertical(steerY > 0.1f ? 1 : steerY < -0.1f ? -1 : 0);
+    }
+
+    @Override
+    public int getEntityCount() {
+        return super.getEntityCount() + asteroids.size + powerUps.size;
+    }
+
     private void spawnAsteroid() {
-        int side = MathUtils.random(3);
+        RandomStream random = RandomStreams.getInstance().spawn();
+        int side = random.random(3);
         float x, y, vx, vy;
 
         switch (side) {
-            case 0: x = MathUtils.random(0f, Constants.SCREEN_WIDTH); y = Constants.SCREEN_HEIGHT + 50; vx = MathUtils.random(-50f, 50f); vy = -currentSpeed; break;
-            case 1: x = Constants.SCREEN_WIDTH + 50; y = MathUtils.random(0f, Constants.SCREEN_HEIGHT); vx = -currentSpeed; vy = MathUtils.random(-50f, 50f); break;
-            case 2: x = MathUtils.random(0f, Constants.SCREEN_WIDTH); y = -50; vx = MathUtils.random(-50f, 50f); vy = currentSpeed; break;
-            default: x = -50; y = MathUtils.random(0f, Constants.SCREEN_HEIGHT); vx = currentSpeed; vy = MathUtils.random(-50f, 50f); break;
+            case 0: x = random.random(0f, Constants.SCREEN_WIDTH); y = Constants.SCREEN_HEIGHT + 50; vx = random.random(-50f, 50f); vy = -currentSpeed; break;
+            case 1: x = Constants.SCREEN_WIDTH + 50; y = random.random(0f, Constants.SCREEN_HEIGHT); vx = -currentSpeed; vy = random.random(-50f, 50f); break;
+            case 2: x = random.random(0f, Constants.SCREEN_WIDTH); y = -50; vx = random.random(-50f, 50f); vy = currentSpeed; break;
+            default: x = -50; y = random.random(0f, Constants.SCREEN_HEIGHT); vx = currentSpeed; vy = random.random(-50f, 50f); break;
         }
 
         AsteroidType type = getWeightedAsteroidType();
         float minSize = 30f + wave * 3f;
         float maxSize = 60f + wave * 5f;
-        float size = MathUtils.random(minSize, maxSize);
+        float size = random.random(minSize, maxSize);
 
         Asteroid asteroid = new Asteroid(x, y, vx, vy, type);
         asteroid.size = size;
@@ -360,30 +711,50 @@ public class AsteroidDodgerMode extends GameMode {
             asteroid.velocity.scl(1.3f);
         }
 
+        asteroid.dormant = !asteroid.entersPlayField();
+        if (physicsEnabled && !asteroid.dormant) {
+            createBody(asteroid);
+        }
+
         asteroids.add(asteroid);
     }
 
+    private void createBody(Asteroid asteroid) {
+        asteroid.body = physics.obtainAsteroid(asteroid, asteroid.position.x, asteroid.position.y,
+            asteroid.size, asteroid.rotation, asteroid.velocity.x, asteroid.velocity.y,
+            asteroid.type == AsteroidType.SPINNING ? asteroid.rotationSpeed : 0,
+            asteroid.type == AsteroidType.BOUNCING ? 1f : 0.5f);
+    }
+
     private AsteroidType getWeightedAsteroidType() {
-        float r = MathUtils.random();
+        // Mit jeder Welle verschieben sich die Anteile zu zielsuchenden Asteroiden
         float waveFactor = MathUtils.clamp(wave * 0.1f, 0f, 0.6f);
-        if (r < 0.3f + waveFactor) return AsteroidType.HOMING;
-        if (r < 0.55f + waveFactor) return AsteroidType.BOUNCING;
-        if (r < 0.75f + waveFactor) return AsteroidType.SPINNING;
-        return AsteroidType.NORMAL;
+        float homing = Math.min(1f, 0.3f + waveFactor);
+        float bouncing = Math.min(1f, 0.55f + waveFactor);
+        float spinning = Math.min(1f, 0.75f + waveFactor);
+        asteroidTypes.clear();
+        asteroidTypes.add(AsteroidType.HOMING, homing)
+            .add(AsteroidType.BOUNCING, bouncing - homing)
+            .add(AsteroidType.SPINNING, spinning - bouncing)
+            .add(AsteroidType.NORMAL, 1f - spinning);
+        return asteroidTypes.pick(RandomStreams.getInstance().spawn());
     }
 
     private void spawnPowerUp() {
-        float x = MathUtils.random(50f, Constants.SCREEN_WIDTH - 50f);
-        float y = MathUtils.random(50f, Constants.SCREEN_HEIGHT - 50f);
-        PowerUpType type = PowerUpType.values()[MathUtils.random(PowerUpType.values().length - 1)];
-        powerUps.add(new PowerUp(x, y, type));
+        RandomStream random = RandomStreams.getInstance().loot();
+        float x = random.random(50f, Constants.SCREEN_WIDTH - 50f);
+        float y = random.random(50f, Constants.SCREEN_HEIGHT - 50f);
+        PowerUpType type = POWER_UP_TYPES[random.random(POWER_UP_TYPES.length - 1)];
+        PowerUp powerUp = new PowerUp(x, y, type, timers.getTime());
+        timers.schedule(powerUp, PowerUp.LIFETIME);
+        powerUps.add(powerUp);
     }
 
     private void applyPowerUp(PowerUpType type) {
         switch (type) {
-            case SHIELD: shieldActive = true; shieldTimer = SHIELD_DURATION; break;
-            case SLOW_MOTION: slowMotionActive = true; slowMotionTimer = SLOW_MOTION_DURATION; break;
-            case SCORE_MULTIPLIER: scoreMultiplier += 1f; comboTimer = COMBO_TIMEOUT; break;
+            case SHIELD: shieldActive = true; timers.schedule(shieldTimer, SHIELD_DURATION); break;
+            case SLOW_MOTION: slowMotionActive = true; timers.schedule(slowMotionTimer, SLOW_MOTION_DURATION); break;
+            case SCORE_MULTIPLIER: scoreMultiplier += 1f; timers.schedule(comboTimer, COMBO_TIMEOUT); break;
         }
     }
 
@@ -391,7 +762,13 @@ public class AsteroidDodgerMode extends GameMode {
     public void renderEntities(SpriteBatch batch) {
         // === ASTEROIDEN RENDERN ===
         for (Asteroid asteroid : asteroids) {
-            if (!asteroid.alive) continue;
+            if (!asteroid.alive || asteroid.dormant) continue;
+
+            float pad = asteroid.size * Asteroid.ROTATION_PAD;
+            if (!culling.isVisible(asteroid.position.x - pad, asteroid.position.y - pad,
+                asteroid.size + pad * 2, asteroid.size + pad * 2)) {
+                continue;
+            }
 
             Color color;
             switch (asteroid.type) {
@@ -426,7 +803,7 @@ public class AsteroidDodgerMode extends GameMode {
 
         // === POWER-UPS RENDERN ===
         for (PowerUp powerUp : powerUps) {
-            if (powerUp.collected) continue;
+            if (powerUp.collected || !culling.isVisible(powerUp.bounds)) continue;
 
             Color color;
             switch (powerUp.type) {
@@ -464,39 +841,44 @@ public class AsteroidDodgerMode extends GameMode {
 
     @Override
     public void renderUI(SpriteBatch batch, BitmapFont uiFont) {
-        uiFont.draw(batch, "Score: " + score, 10, Constants.SCREEN_HEIGHT - 10);
-        uiFont.draw(batch, "Wave: " + wave, 10, Constants.SCREEN_HEIGHT - 35);
-        uiFont.draw(batch, "Health: " + (int) player.getHealth(), 10, Constants.SCREEN_HEIGHT - 60);
+        scoreLabel.setValue(score);
+        waveLabel.setValue(wave);
+        healthLabel.setValue((int) player.getHealth());
+
+        scoreLabel.draw(batch, uiFont);
+        waveLabel.draw(batch, uiFont);
+        healthLabel.draw(batch, uiFont);
 
         if (comboCount > 0) {
-            uiFont.setColor(1f, 1f, 0.3f, 1f);
-            uiFont.draw(batch, "COMBO x" + comboCount, 10, Constants.SCREEN_HEIGHT - 85);
-            uiFont.draw(batch, "Multiplier: x" + String.format("%.1f", scoreMultiplier), 10, Constants.SCREEN_HEIGHT - 110);
-            uiFont.setColor(1, 1, 1, 1);
+            comboLabel.setValue(comboCount);
+            multiplierLabel.setValue(HudLabel.toTenths(scoreMultiplier));
+            comboLabel.setColor(1f, 1f, 0.3f, 1f);
+            multiplierLabel.setColor(1f, 1f, 0.3f, 1f);
+            comboLabel.draw(batch, uiFont);
+            multiplierLabel.draw(batch, uiFont);
         }
 
         float powerUpY = Constants.SCREEN_HEIGHT - 135;
         if (shieldActive) {
-            uiFont.setColor(0.3f, 0.3f, 1f, 1f);
-            uiFont.draw(batch, "SHIELD: " + (int)shieldTimer + "s", 10, powerUpY);
+            shieldLabel.setValue((int) timers.getRemaining(shieldTimer));
+            shieldLabel.setColor(0.3f, 0.3f, 1f, 1f);
+            shieldLabel.draw(batch, uiFont);
             powerUpY -= 25;
-            uiFont.setColor(1, 1, 1, 1);
         }
         if (slowMotionActive) {
-            uiFont.setColor(0.8f, 0.3f, 1f, 1f);
-            uiFont.draw(batch, "SLOW-MO: " + (int)slowMotionTimer + "s", 10, powerUpY);
-            uiFont.setColor(1, 1, 1, 1);
+            slowMotionLabel.setValue((int) timers.getRemaining(slowMotionTimer));
+            slowMotionLabel.setPosition(10, powerUpY);
+            slowMotionLabel.setColor(0.8f, 0.3f, 1f, 1f);
+            slowMotionLabel.draw(batch, uiFont);
         }
 
         // === HÖLLEN-ANZEIGE ===
-        uiFont.setColor(1f, 0.3f, 0.3f, 1f);
-        uiFont.draw(batch, "HELL: x" + String.format("%.1f", difficultyMultiplier),
-            10, Constants.SCREEN_HEIGHT - 160);
-        uiFont.setColor(1, 1, 1, 1);
-
-        uiFont.setColor(0.6f, 0.6f, 0.7f, 0.6f);
-        uiFont.draw(batch, "WASD/Arrows: Move", 10, 40);
-        uiFont.setColor(1, 1, 1, 1);
+        hellLabel.setValue(HudLabel.toTenths(difficultyMultiplier));
+        hellLabel.setColor(1f, 0.3f, 0.3f, 1f);
+        hellLabel.draw(batch, uiFont);
+
+        hintLabel.setColor(0.6f, 0.6f, 0.7f, 0.6f);
+        hintLabel.draw(batch, uiFont);
     }
 
     @Override
@@ -525,5 +907,6 @@ public class AsteroidDodgerMode extends GameMode {
     @Override
     public void dispose() {
         if (solidTexture != null) solidTexture.dispose();
+        if (physics != null) physics.dispose();
     }
 }
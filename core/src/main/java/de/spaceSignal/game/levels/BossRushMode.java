@@ -1,51 +1,153 @@
 package de.spaceSignal.game.levels;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
 import de.spaceSignal.game.entities.*;
+import de.spaceSignal.game.managers.AssetManager;
+import de.spaceSignal.game.managers.PoolManager;
+import de.spaceSignal.game.systems.BotInput;
+import de.spaceSignal.game.systems.CollisionSystem;
+import de.spaceSignal.game.systems.GameEventQueue;
+import de.spaceSignal.game.systems.TimerWheel;
 import de.spaceSignal.game.util.Constants;
+import de.spaceSignal.game.util.HudLabel;
+import de.spaceSignal.game.util.InstrumentedPool;
 
 public class BossRushMode extends GameMode {
     private Boss boss;
+    // Überlebt den Boss-Wechsel, damit neue Bosse die Bullets der alten wiederverwenden
+    private final InstrumentedPool<BossBullet> bossBulletPool;
+    // Sweep and Prune für dichte Bullet-Muster auf hohen Stufen
+    private final CollisionSystem collisions = new CollisionSystem();
     private int bossLevel;
     private Texture solidTexture;
     private boolean victory;
 
+    // Boss Health Bar
+    private static final float BAR_WIDTH = 250;
+    private static final float BAR_HEIGHT = 25;
+    private static final float BAR_X = Constants.SCREEN_WIDTH - BAR_WIDTH - 250;
+    private static final float BAR_Y = Constants.SCREEN_HEIGHT - 50;
+    private static final Color HEALTH_COLOR = new Color(1, 0, 0, 0.9f);
+    // Bot: Höhe über dem Spieler, in der Boss-Bullets als Bedrohung gelten
+    private static final float BOT_DODGE_HEIGHT = 120;
+
+    private static final Color HEALTH_LOW_COLOR = new Color(1, 0.5f, 0, 0.9f);
+
+    // HUD
+    private final HudLabel scoreLabel = new HudLabel("Score: ", HudLabel.FORMAT_INTEGER, 15, Constants.SCREEN_HEIGHT - 25);
+    private final HudLabel levelLabel = new HudLabel("Lvl: ", HudLabel.FORMAT_INTEGER, 15, Constants.SCREEN_HEIGHT - 50);
+    private final HudLabel healthLabel = new HudLabel("HP: ", HudLabel.FORMAT_INTEGER, 15, Constants.SCREEN_HEIGHT - 75);
+    private final HudLabel bulletLabel = new HudLabel("Bullets: ", HudLabel.FORMAT_INTEGER, 15, Constants.SCREEN_HEIGHT - 100);
+    private final HudLabel bossHealthLabel = new HudLabel("BOSS ", "", HudLabel.FORMAT_INTEGER,
+        BAR_X, BAR_Y + BAR_HEIGHT + 20, BAR_WIDTH, Align.center);
+    private final HudLabel explodingLabel = new HudLabel("BOSS EXPLODING!", HudLabel.FORMAT_NONE,
+        Constants.SCREEN_WIDTH / 2 - 80, Constants.SCREEN_HEIGHT - 30);
+
     public BossRushMode(Player player, Array<Bullet> bullets, Array<Enemy> enemies, Array<Upgrade> upgrades) {
         super(player, bullets, enemies, upgrades);
         this.bossLevel = Constants.BOSS_RUSH_START_LEVEL;
         this.victory = false;
 
+        bossBulletPool = new InstrumentedPool<BossBullet>("BossBullet") {
+            @Override
+            protected BossBullet newObject() {
+                return new BossBullet(AssetManager.getInstance().getBossBulletTexture());
+            }
+        };
+
         solidTexture = createSolidTexture();
+        explodingLabel.setColor(1f, 0.5f, 0f, 1f);
         spawnBoss();
     }
 
     private void spawnBoss() {
-        try {
-            Texture bossTexture = new Texture(Gdx.files.internal("textures/boss.png"));
-            Texture bossBulletTexture = new Texture(Gdx.files.internal("textures/boss_bullet.png"));
-            boss = new Boss(bossLevel, bossTexture, bossBulletTexture);
-        } catch (Exception e) {
-            Gdx.app.error("BossRushMode", "Failed to load boss textures, using fallback", e);
-            Texture bossTexture = new Texture(Gdx.files.internal("textures/enemy.png"));
-            Texture bossBulletTexture = new Texture(Gdx.files.internal("textures/bullet.png"));
-            boss = new Boss(bossLevel, bossTexture, bossBulletTexture);
+        AssetManager assetManager = AssetManager.getInstance();
+        if (boss != null) boss.dispose();
+        boss = new Boss(bossLevel, assetManager.getBossTexture(), bossBulletPool);
+        boss.setEventQueue(events);
+        boss.setTimerWheel(timers);
+        // Einmal pro Boss statt pro Frame
+        bossHealthLabel.setSuffix("/" + (int) boss.getMaxHealth());
+    }
+
+    @Override
+    public void setEventQueue(GameEventQueue events) {
+        super.setEventQueue(events);
+        if (boss != null) boss.setEventQueue(events);
+    }
+
+    @Override
+    public void setTimerWheel(TimerWheel timers) {
+        super.setTimerWheel(timers);
+        if (boss != null) boss.setTimerWheel(timers);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        bossLevel = Constants.BOSS_RUSH_START_LEVEL;
+        victory = false;
+        spawnBoss();
+    }
+
+    /**
+     * Bot: bleibt unter dem Boss und weicht Boss-Bullets aus, die auf ihn zufliegen.
+     */
+    @Override
+    public void controlBot(BotInput bot) {
+        bot.setFire(true);
+        if (boss == null || !boss.isAlive()) return;
+
+        float playerCenter = player.getPosition().x + Constants.PLAYER_WIDTH / 2;
+        float playerTop = player.getPosition().y + Constants.PLAYER_HEIGHT;
+
+        Array<BossBullet> bossBullets = boss.getBullets();
+        for (int i = 0; i < bossBullets.size; i++) {
+            BossBullet bossBullet = bossBullets.get(i);
+            if (!bossBullet.isAlive()) continue;
+            Rectangle bounds = bossBullet.getBounds();
+            float bulletCenter = bounds.x + bounds.width / 2;
+            if (bounds.y < playerTop + BOT_DODGE_HEIGHT && bounds.y + bounds.height > player.getPosition().y
+                && Math.abs(bulletCenter - playerCenter) < Constants.PLAYER_WIDTH) {
+                bot.setHorizontal(dodgeDirection(bulletCenter, playerCenter));
+                return;
+            }
         }
+
+        float bossCenter = boss.getBounds().x + boss.getBounds().width / 2;
+        if (bossCenter < playerCenter - 8) bot.setHorizontal(-1);
+        else if (bossCenter > playerCenter + 8) bot.setHorizontal(1);
+    }
+
+    private int dodgeDirection(float threatX, float playerCenter) {
+        // Am Rand bleibt nur die Gegenrichtung
+        if (player.getPosition().x <= 0) return 1;
+        if (player.getPosition().x >= Constants.SCREEN_WIDTH - Constants.PLAYER_WIDTH) return -1;
+        return threatX < playerCenter ? 1 : -1;
+    }
+
+    @Override
+    public int getEntityCount() {
+        return super.getEntityCount() + (boss != null ? 1 + boss.getBullets().size : 0);
     }
 
     @Override
     public void update(float delta) {
+        bossBulletPool.tick();
         if (boss == null) return;
 
         if (boss.isExploding()) {
             boss.update(delta);
 
             if (boss.isExplosionFinished()) {
-                incrementScore(100 * bossLevel);
+                events.publish(GameEventQueue.SCORE_AWARDED, boss.getPosition().x, boss.getPosition().y, 100 * bossLevel);
                 bossLevel++;
 
                 if (bossLevel > Constants.BOSS_RUSH_MAX_LEVEL) {
@@ -56,13 +158,25 @@ public class BossRushMode extends GameMode {
                 }
             }
         } else if (boss.isAlive()) {
-            boss.updateWithSinusMovement(delta);
+            boss.update(delta);
 
-            // Boss-Bullets vs Player
-            for (BossBullet bossBullet : boss.getBullets()) {
-                if (bossBullet.isAlive() && player.getBounds().overlaps(bossBullet.getBounds())) {
+            collisions.begin();
+
+            // Boss-Bullets vs Player: nur Bullets im y-Band des Spielers testen,
+            // Treffer entlang des Wegs seit dem letzten Schritt (unabhängig von der Frame-Zeit)
+            Array<BossBullet> bossBullets = boss.getBullets();
+            Rectangle playerBounds = player.getBounds();
+            Vector2 playerFrom = player.getPreviousPosition();
+            collisions.sort(bossBullets);
+            collisions.query(bossBullets, playerBounds, playerFrom.y);
+            for (int i = collisions.getBandStart(); i < collisions.getBandEnd(); i++) {
+                BossBullet bossBullet = bossBullets.get(i);
+                if (bossBullet.isAlive() && CollisionSystem.sweep(bossBullet.getBounds(),
+                    bossBullet.getPreviousPosition(), playerBounds, playerFrom) >= 0) {
                     player.takeDamage(bossBullet.getDamage());
                     bossBullet.destroy();
+                    events.publish(GameEventQueue.PLAYER_HIT, player.getPosition().x, player.getPosition().y,
+                        (int) player.getHealth());
 
                     if (!player.isAlive()) {
                         setGameOver(true);
@@ -70,31 +184,42 @@ public class BossRushMode extends GameMode {
                 }
             }
 
-            // Player-Bullets vs Boss
-            for (int i = bullets.size - 1; i >= 0; i--) {
+            // Player-Bullets vs Boss: nur Bullets im y-Band des Bosses testen
+            Rectangle bossBounds = boss.getBounds();
+            collisions.sort(bullets);
+            collisions.query(bullets, bossBounds);
+            for (int i = collisions.getBandEnd() - 1; i >= collisions.getBandStart(); i--) {
                 Bullet bullet = bullets.get(i);
-                if (bullet.isAlive() && boss.getBounds().overlaps(bullet.getBounds())) {
+                // Der Boss bewegt sich langsam und ist groß genug, um als ruhend zu gelten
+                if (bullet.isAlive() && CollisionSystem.sweep(bullet.getBounds(), bullet.getPreviousPosition(), bossBounds) >= 0) {
                     boss.takeDamage(bullet.getDamage());
                     bullet.destroy();
                 }
             }
+
+            collisions.end();
         }
     }
 
     @Override
     public void renderEntities(SpriteBatch batch) {
         if (boss != null) {
-            boss.render(batch);
+            boss.render(batch, culling);
         }
     }
 
     @Override
     public void renderUI(SpriteBatch batch, BitmapFont uiFont) {
         // Spieler-Info
-        uiFont.draw(batch, "Score: " + score, 15, Constants.SCREEN_HEIGHT - 25);
-        uiFont.draw(batch, "Lvl: " + bossLevel, 15, Constants.SCREEN_HEIGHT - 50);
-        uiFont.draw(batch, "HP: " + (int) player.getHealth(), 15, Constants.SCREEN_HEIGHT - 75);
-        uiFont.draw(batch, "Bullets: " + player.getBulletLevel(), 15, Constants.SCREEN_HEIGHT - 100);
+        scoreLabel.setValue(score);
+        levelLabel.setValue(bossLevel);
+        healthLabel.setValue((int) player.getHealth());
+        bulletLabel.setValue(player.getBulletLevel());
+
+        scoreLabel.draw(batch, uiFont);
+        levelLabel.draw(batch, uiFont);
+        healthLabel.draw(batch, uiFont);
+        bulletLabel.draw(batch, uiFont);
 
         // Boss Health Bar
         if (boss != null && boss.isAlive() && !boss.isExploding()) {
@@ -103,43 +228,33 @@ public class BossRushMode extends GameMode {
 
         // Explosion Info
         if (boss != null && boss.isExploding()) {
-            uiFont.setColor(1f, 0.5f, 0f, 1f);
-            uiFont.draw(batch, "BOSS EXPLODING!", Constants.SCREEN_WIDTH / 2 - 80, Constants.SCREEN_HEIGHT - 30);
-            uiFont.setColor(1, 1, 1, 1);
+            explodingLabel.draw(batch, uiFont);
         }
     }
 
     private void drawBossHealthBar(SpriteBatch batch, BitmapFont font) {
         float healthPercent = boss.getHealth() / boss.getMaxHealth();
-        float barWidth = 250;
-        float barHeight = 25;
-        float barX = Constants.SCREEN_WIDTH - barWidth - 250;
-        float barY = Constants.SCREEN_HEIGHT - 50;
 
         // Hintergrund
         batch.setColor(0.3f, 0, 0, 0.9f);
-        batch.draw(solidTexture, barX, barY, barWidth, barHeight);
+        batch.draw(solidTexture, BAR_X, BAR_Y, BAR_WIDTH, BAR_HEIGHT);
 
         // Lebensbalken
-        Color healthColor = healthPercent > 0.3f
-            ? new Color(1, 0, 0, 0.9f)
-            : new Color(1, 0.5f, 0, 0.9f);
-        batch.setColor(healthColor);
-        batch.draw(solidTexture, barX, barY, barWidth * healthPercent, barHeight);
+        batch.setColor(healthPercent > 0.3f ? HEALTH_COLOR : HEALTH_LOW_COLOR);
+        batch.draw(solidTexture, BAR_X, BAR_Y, BAR_WIDTH * healthPercent, BAR_HEIGHT);
         batch.setColor(1, 1, 1, 1);
 
         // Rahmen
         batch.setColor(1, 1, 1, 0.8f);
-        batch.draw(solidTexture, barX, barY, barWidth, 2);
-        batch.draw(solidTexture, barX, barY, 2, barHeight);
-        batch.draw(solidTexture, barX + barWidth, barY, 2, barHeight);
-        batch.draw(solidTexture, barX, barY + barHeight, barWidth, 2);
+        batch.draw(solidTexture, BAR_X, BAR_Y, BAR_WIDTH, 2);
+        batch.draw(solidTexture, BAR_X, BAR_Y, 2, BAR_HEIGHT);
+        batch.draw(solidTexture, BAR_X + BAR_WIDTH, BAR_Y, 2, BAR_HEIGHT);
+        batch.draw(solidTexture, BAR_X, BAR_Y + BAR_HEIGHT, BAR_WIDTH, 2);
         batch.setColor(1, 1, 1, 1);
 
         // Health Text
-        String healthText = "BOSS " + (int)boss.getHealth() + "/" + (int)boss.getMaxHealth();
-        float textX = barX + (barWidth - (healthText.length() * 8)) / 2;
-        font.draw(batch, healthText, textX, barY + barHeight + 20);
+        bossHealthLabel.setValue((int) boss.getHealth());
+        bossHealthLabel.draw(batch, font);
     }
 
     @Override
@@ -158,9 +273,21 @@ public class BossRushMode extends GameMode {
         return texture;
     }
 
+    @Override
+    public void activate() {
+        PoolManager.getInstance().register(bossBulletPool);
+    }
+
+    @Override
+    public void deactivate() {
+        PoolManager.getInstance().unregister(bossBulletPool);
+    }
+
     @Override
     public void dispose() {
         if (boss != null) boss.dispose();
+        bossBulletPool.clear();
+        PoolManager.getInstance().unregister(bossBulletPool);
         if (solidTexture != null) solidTexture.dispose();
     }
 }
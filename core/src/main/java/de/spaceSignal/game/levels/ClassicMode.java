@@ -4,73 +4,144 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Predicate;
 import de.spaceSignal.game.entities.*;
 import de.spaceSignal.game.managers.AssetManager;
+import de.spaceSignal.game.managers.ProfilerManager;
+import de.spaceSignal.game.managers.RandomStreams;
+import de.spaceSignal.game.systems.BotInput;
+import de.spaceSignal.game.systems.CollisionSystem;
+import de.spaceSignal.game.systems.EnemyProjectileSystem;
+import de.spaceSignal.game.systems.GameEventQueue;
+import de.spaceSignal.game.systems.JobSystem;
+import de.spaceSignal.game.systems.SpatialGrid;
 import de.spaceSignal.game.systems.SpawnSystem;
+import de.spaceSignal.game.systems.TimerWheel;
 import de.spaceSignal.game.systems.UpgradeSystem;
 import de.spaceSignal.game.util.Constants;
+import de.spaceSignal.game.util.EntityArrays;
+import de.spaceSignal.game.util.HudLabel;
 
 public class ClassicMode extends GameMode {
     private SpawnSystem spawnSystem;
     private UpgradeSystem upgradeSystem;
+    // Alle Projektile von Schützen und Elite-Gegnern
+    private final EnemyProjectileSystem enemyProjectiles;
+
+    private static final int ENEMY_POINTS = 10;
+
+    // Parallele Bewegungs-Phase der Gegner
+    private float moveDelta;
+    private final JobSystem.RangeJob moveEnemies = new JobSystem.RangeJob() {
+        @Override
+        public void run(int start, int end) {
+            for (int i = start; i < end; i++) {
+                enemies.get(i).update(moveDelta);
+            }
+        }
+    };
+    // Tote Gegner beim Kompaktieren an ihren Pool im Spawn-System zurückgeben
+    private final Predicate<Enemy> releaseDeadEnemy = new Predicate<Enemy>() {
+        @Override
+        public boolean evaluate(Enemy enemy) {
+            if (enemy.isAlive()) return false;
+            spawnSystem.free(enemy);
+            return true;
+        }
+    };
+
+    // Bomber-Explosionen: Umkreis-Abfragen über ein Raster statt Abstand zu allen Gegnern.
+    // Das Raster reicht über den Wellen-Start oberhalb des Bildschirms hinaus.
+    private static final float GRID_CELL_SIZE = 64;
+    private final SpatialGrid enemyGrid = new SpatialGrid(-GRID_CELL_SIZE, -GRID_CELL_SIZE,
+        Constants.SCREEN_WIDTH + 2 * GRID_CELL_SIZE, Constants.SCREEN_HEIGHT + 6 * GRID_CELL_SIZE, GRID_CELL_SIZE);
+    private final Array<Enemy> detonations = new Array<>();
+    private final IntArray blastHits = new IntArray();
+
+    // Bot: Höhe über dem Spieler, in der Gegner als Bedrohung gelten
+    private static final float BOT_DODGE_HEIGHT = 150;
+
+    // HUD
+    private final HudLabel scoreLabel = new HudLabel("Score: ", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 10);
+    private final HudLabel waveLabel = new HudLabel("Wave: ", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 35);
+    private final HudLabel healthLabel = new HudLabel("Health: ", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 60);
+    private final HudLabel bulletLabel = new HudLabel("Bullets: Lvl ", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 85);
 
     public ClassicMode(Player player, Array<Bullet> bullets, Array<Enemy> enemies, Array<Upgrade> upgrades) {
         super(player, bullets, enemies, upgrades);
 
         AssetManager assetManager = AssetManager.getInstance();
-        this.spawnSystem = new SpawnSystem(
-            assetManager.getEnemyTexture(),
-            assetManager.getBulletTexture(),
-            assetManager.getBomberTexture(),
-            assetManager.getScoutTexture()
-        );
+        this.enemyProjectiles = new EnemyProjectileSystem(assetManager.getBossBulletTexture());
+        this.spawnSystem = new SpawnSystem(enemyProjectiles);
         this.upgradeSystem = new UpgradeSystem();
     }
 
+    @Override
+    public void setTimerWheel(TimerWheel timers) {
+        super.setTimerWheel(timers);
+        spawnSystem.setTimerWheel(timers);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        spawnSystem.reset();
+        enemyProjectiles.reset();
+    }
+
     @Override
     public void update(float delta) {
         // Spawn-System aktualisieren
         spawnSystem.update(delta);
         Array<Enemy> newEnemies = spawnSystem.getEnemies();
+        for (int i = 0; i < newEnemies.size; i++) {
+            // Bomber zünden in der Nähe des Spielers
+            newEnemies.get(i).setPlayerPosition(player.getPosition());
+        }
         enemies.addAll(newEnemies);
         newEnemies.clear();
+        ProfilerManager.getInstance().setCounter("Enemies active", enemies.size);
 
-        // Gegner updaten
+        // Gegner bewegen (ggf. parallel), Punkte und Upgrades danach auf diesem Thread
+        moveDelta = delta;
+        jobs.parallelFor(enemies.size, moveEnemies);
         for (int i = enemies.size - 1; i >= 0; i--) {
             Enemy enemy = enemies.get(i);
-            enemy.update(delta);
+            enemy.resolveEffects(events);
 
-            if (!enemy.isAlive()) {
-                enemies.removeIndex(i);
-                incrementScore(10);
+            // Gezündete Bomber bleiben bis zum Auflösen der Explosion in checkCollisions()
+            if (!enemy.isAlive() && !enemy.isDetonationPending()) {
+                EntityArrays.swapRemove(enemies, i);
+                events.publish(GameEventQueue.SCORE_AWARDED, enemy.getPosition().x, enemy.getPosition().y, ENEMY_POINTS);
 
                 // Upgrade spawnen
                 String possibleUpgrade = upgradeSystem.getValidUpgradeType(player);
-                if (possibleUpgrade != null && MathUtils.random() < Constants.UPGRADE_SPAWN_CHANCE) {
+                if (possibleUpgrade != null && RandomStreams.getInstance().loot().chance(Constants.UPGRADE_SPAWN_CHANCE)) {
                     spawnUpgrade(enemy.getPosition().x, enemy.getPosition().y);
                 }
-
-                // Wave-Erhöhung
-                if (score % 100 == 0) {
-                    incrementWave();
-                    spawnSystem.increaseDifficulty();
-                }
+                spawnSystem.free(enemy);
             }
         }
 
+        // Gegner-Projektile: ein Durchlauf für alle Schützen
+        enemyProjectiles.setTarget(player.getPosition());
+        enemyProjectiles.update(delta);
+
         // Upgrades updaten
         for (int i = upgrades.size - 1; i >= 0; i--) {
             Upgrade upgrade = upgrades.get(i);
             upgrade.update(delta);
 
             if (!upgrade.isAlive()) {
-                upgrades.removeIndex(i);
+                EntityArrays.swapRemove(upgrades, i);
             } else if (player.getBounds().overlaps(upgrade.getBounds())) {
                 String type = upgrade.getType();
                 if (upgradeSystem.isUpgradeValid(type, player)) {
                     player.applyUpgrade(type);
+                    events.publish(GameEventQueue.UPGRADE_COLLECTED, upgrade.getBounds().x, upgrade.getBounds().y, 0);
                 }
                 upgrade.collect();
             }
@@ -80,25 +151,81 @@ public class ClassicMode extends GameMode {
         checkCollisions();
     }
 
+    /**
+     * Bot: weicht Gegnern knapp über dem Spieler aus, sonst zielt er auf den tiefsten Gegner.
+     */
+    @Override
+    public void controlBot(BotInput bot) {
+        bot.setFire(true);
+
+        float playerCenter = player.getPosition().x + Constants.PLAYER_WIDTH / 2;
+        float playerTop = player.getPosition().y + Constants.PLAYER_HEIGHT;
+        Enemy threat = null;
+        Enemy target = null;
+
+        for (Enemy enemy : enemies) {
+            if (!enemy.isAlive()) continue;
+            float enemyCenter = enemy.getBounds().x + enemy.getBounds().width / 2;
+            if (enemy.getPosition().y < playerTop + BOT_DODGE_HEIGHT
+                && Math.abs(enemyCenter - playerCenter) < Constants.PLAYER_WIDTH) {
+                if (threat == null || enemy.getPosition().y < threat.getPosition().y) threat = enemy;
+            }
+            if (target == null || enemy.getPosition().y < target.getPosition().y) target = enemy;
+        }
+
+        // Gegner-Projektile auf Kollisionskurs sind dringender als Gegner
+        Array<BossBullet> projectiles = enemyProjectiles.getProjectiles();
+        for (int i = 0; i < projectiles.size; i++) {
+            Rectangle bounds = projectiles.get(i).getBounds();
+            float projectileCenter = bounds.x + bounds.width / 2;
+            if (bounds.y < playerTop + BOT_DODGE_HEIGHT / 2 && bounds.y + bounds.height > player.getPosition().y
+                && Math.abs(projectileCenter - playerCenter) < Constants.PLAYER_WIDTH) {
+                if (player.getPosition().x <= 0) bot.setHorizontal(1);
+                else if (player.getPosition().x >= Constants.SCREEN_WIDTH - Constants.PLAYER_WIDTH) bot.setHorizontal(-1);
+                else bot.setHorizontal(projectileCenter < playerCenter ? 1 : -1);
+                return;
+            }
+        }
+
+        if (threat != null) {
+            float threatCenter = threat.getBounds().x + threat.getBounds().width / 2;
+            if (player.getPosition().x <= 0) bot.setHorizontal(1);
+            else if (player.getPosition().x >= Constants.SCREEN_WIDTH - Constants.PLAYER_WIDTH) bot.setHorizontal(-1);
+            else bot.setHorizontal(threatCenter < playerCenter ? 1 : -1);
+        } else if (target != null) {
+            float targetCenter = target.getBounds().x + target.getBounds().width / 2;
+            if (targetCenter < playerCenter - 4) bot.setHorizontal(-1);
+            else if (targetCenter > playerCenter + 4) bot.setHorizontal(1);
+        }
+    }
+
     @Override
     public void renderEntities(SpriteBatch batch) {
         // Gegner rendern
         for (Enemy enemy : enemies) {
-            enemy.render(batch);
+            enemy.render(batch, culling);
         }
+        enemyProjectiles.render(batch, culling);
 
         // Upgrades rendern
         for (Upgrade upgrade : upgrades) {
-            upgrade.render(batch);
+            if (culling.isVisible(upgrade.getBounds())) {
+                upgrade.render(batch);
+            }
         }
     }
 
     @Override
     public void renderUI(SpriteBatch batch, BitmapFont uiFont) {
-        uiFont.draw(batch, "Score: " + score, 10, Constants.SCREEN_HEIGHT - 10);
-        uiFont.draw(batch, "Wave: " + wave, 10, Constants.SCREEN_HEIGHT - 35);
-        uiFont.draw(batch, "Health: " + (int) player.getHealth(), 10, Constants.SCREEN_HEIGHT - 60);
-        uiFont.draw(batch, "Bullets: Lvl " + player.getBulletLevel(), 10, Constants.SCREEN_HEIGHT - 85);
+        scoreLabel.setValue(score);
+        waveLabel.setValue(wave);
+        healthLabel.setValue((int) player.getHealth());
+        bulletLabel.setValue(player.getBulletLevel());
+
+        scoreLabel.draw(batch, uiFont);
+        waveLabel.draw(batch, uiFont);
+        healthLabel.draw(batch, uiFont);
+        bulletLabel.draw(batch, uiFont);
     }
 
     @Override
@@ -116,29 +243,40 @@ public class ClassicMode extends GameMode {
     }
 
     private void checkCollisions() {
-        // Bullets vs Enemies
+        // Bullets vs Enemies: Swept AABB entlang der Wege seit dem letzten Schritt, damit
+        // schnelle Bullets bei großen Frame-Zeiten nicht durch Gegner springen.
+        // Kreuzt eine Bullet mehrere Gegner, trifft sie den, den sie zuerst erreicht.
         for (int i = bullets.size - 1; i >= 0; i--) {
             Bullet bullet = bullets.get(i);
+            if (!bullet.isAlive()) continue;
+
+            int hitIndex = -1;
+            float hitTime = 1f;
             for (int j = enemies.size - 1; j >= 0; j--) {
                 Enemy enemy = enemies.get(j);
-                if (bullet.getBounds().overlaps(enemy.getBounds()) && enemy.isAlive()) {
-                    enemy.takeDamage(bullet.getDamage());
-                    bullet.destroy();
-
-                    if (!enemy.isAlive()) {
-                        enemies.removeIndex(j);
-                        incrementScore(10);
-
-                        String possibleUpgrade = upgradeSystem.getValidUpgradeType(player);
-                        if (possibleUpgrade != null && MathUtils.random() < Constants.UPGRADE_SPAWN_CHANCE) {
-                            spawnUpgrade(enemy.getPosition().x, enemy.getPosition().y);
-                        }
-
-                        if (score % 100 == 0) {
-                            incrementWave();
-                        }
-                    }
-                    break;
+                if (!enemy.isAlive()) continue;
+                // Verfehlt die Bullet die ganze Formation, bleibt das Mitglied unberechnet
+                Formation formation = enemy.getFormation();
+                if (formation != null && !formation.mayOverlap(bullet.getBounds(), bullet.getPreviousPosition())) continue;
+                float time = CollisionSystem.sweep(bullet.getBounds(), bullet.getPreviousPosition(),
+                    enemy.getBounds(), enemy.getPreviousPosition());
+                if (time >= 0 && (hitIndex < 0 || time < hitTime)) {
+                    hitIndex = j;
+                    hitTime = time;
+                }
+            }
+            if (hitIndex < 0) continue;
+
+            Enemy enemy = enemies.get(hitIndex);
+            enemy.takeDamage(bullet.getDamage());
+            bullet.destroy();
+
+            if (!enemy.isAlive()) {
+                publishKill(enemy, ENEMY_POINTS);
+
+                String possibleUpgrade = upgradeSystem.getValidUpgradeType(player);
+                if (possibleUpgrade != null && RandomStreams.getInstance().loot().chance(Constants.UPGRADE_SPAWN_CHANCE)) {
+                    spawnUpgrade(enemy.getPosition().x, enemy.getPosition().y);
                 }
             }
         }
@@ -146,37 +284,150 @@ public class ClassicMode extends GameMode {
         // Player vs Enemies
         for (int i = enemies.size - 1; i >= 0; i--) {
             Enemy enemy = enemies.get(i);
+            Formation formation = enemy.getFormation();
+            if (formation != null && !player.getBounds().overlaps(formation.getBounds())) continue;
             if (player.getBounds().overlaps(enemy.getBounds()) && enemy.isAlive()) {
                 player.takeDamage(1);
                 enemy.takeDamage(999);
+                events.publish(GameEventQueue.PLAYER_HIT, player.getPosition().x, player.getPosition().y,
+                    (int) player.getHealth());
+                publishKill(enemy, 0);
 
                 if (!player.isAlive()) {
                     setGameOver(true);
                 }
+            }
+        }
+
+        // Gegner-Projektile vs Player
+        float projectileDamage = enemyProjectiles.collide(player);
+        if (projectileDamage > 0) {
+            player.takeDamage(projectileDamage);
+            events.publish(GameEventQueue.PLAYER_HIT, player.getPosition().x, player.getPosition().y,
+                (int) player.getHealth());
+            if (!player.isAlive()) {
+                setGameOver(true);
+            }
+        }
 
-                if (!enemy.isAlive()) {
-                    enemies.removeIndex(i);
+        // Zerstörte und gezündete Bomber explodieren, auch in Ketten
+        resolveDetonations();
+
+        // Getroffene Gegner bleiben bis hier markiert im Array (die Schleifen überspringen sie)
+        // und werden in einem Durchlauf entfernt
+        EntityArrays.compact(enemies, releaseDeadEnemy);
+    }
+
+    /**
+     * Löst alle anstehenden Bomber-Explosionen in diesem Tick auf. Jede Explosion fragt das Raster
+     * nach Gegnern im Radius ab (quadrierte Abstände); erfasste Bomber zünden ebenfalls und kommen
+     * hinten in dieselbe Warteschlange, andere Gegner nehmen Schaden. Der Spieler im Radius auch.
+     */
+    private void resolveDetonations() {
+        detonations.clear();
+        for (int i = 0; i < enemies.size; i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isDetonationPending()) detonations.add(enemy);
+        }
+        if (detonations.size == 0) return;
+
+        enemyGrid.build(enemies);
+        Rectangle playerBounds = player.getBounds();
+        float playerX = playerBounds.x + playerBounds.width / 2;
+        float playerY = playerBounds.y + playerBounds.height / 2;
+
+        // Die Warteschlange wächst während des Durchlaufs um die Kettenreaktionen
+        for (int d = 0; d < detonations.size; d++) {
+            Enemy bomber = detonations.get(d);
+            bomber.clearDetonation();
+            Rectangle bounds = bomber.getBounds();
+            float x = bounds.x + bounds.width / 2;
+            float y = bounds.y + bounds.height / 2;
+            float radius = bomber.getExplosionRadius();
+            float damage = bomber.getExplosionDamage();
+            // Der Abschuss eines Bombers ist schon gemeldet; die Explosion selbst zählt nicht als Kill
+            events.publish(GameEventQueue.EXPLOSION, x, y, 0);
+
+            float dx = playerX - x;
+            float dy = playerY - y;
+            if (player.isAlive() && dx * dx + dy * dy <= radius * radius) {
+                player.takeDamage(damage);
+                events.publish(GameEventQueue.PLAYER_HIT, player.getPosition().x, player.getPosition().y,
+                    (int) player.getHealth());
+                if (!player.isAlive()) {
+                    setGameOver(true);
                 }
             }
+
+            enemyGrid.query(x, y, radius, blastHits);
+            for (int k = 0; k < blastHits.size; k++) {
+                Enemy victim = enemies.get(blastHits.get(k));
+                if (!victim.isAlive()) continue;
+                if (victim.getArchetype().movement == EnemyArchetype.MOVE_BOMBER) {
+                    victim.triggerDetonation();
+                    detonations.add(victim);
+                } else {
+                    victim.takeDamage(damage);
+                    if (!victim.isAlive()) {
+                        publishKill(victim, ENEMY_POINTS);
+                    }
+                }
+            }
+        }
+        detonations.clear();
+    }
+
+    private void publishKill(Enemy enemy, int points) {
+        Rectangle bounds = enemy.getBounds();
+        events.publish(GameEventQueue.ENEMY_KILLED, bounds.x + bounds.width / 2, bounds.y + bounds.height / 2, points);
+    }
+
+    /**
+     * Punkte-Konsument: jede volle Hunderterstufe erhöht Welle und Schwierigkeit.
+     */
+    @Override
+    public void onEvent(int type, float x, float y, int value) {
+        int previousScore = score;
+        super.onEvent(type, x, y, value);
+        if (score != previousScore && score % 100 == 0) {
+            incrementWave();
+            spawnSystem.increaseDifficulty();
         }
     }
 
     private void spawnUpgrade(float x, float y) {
         String type = upgradeSystem.getValidUpgradeType(player);
         if (type != null) {
-            try {
-                Texture upgradeTexture = new Texture(
-                    Gdx.files.internal("textures/upgrade_" + type.toLowerCase() + ".png")
-                );
+            Texture upgradeTexture = AssetManager.getInstance().getUpgradeTexture(type);
+            if (upgradeTexture != null) {
                 upgrades.add(new Upgrade(x, y, type, upgradeTexture));
-            } catch (Exception e) {
-                Gdx.app.error("ClassicMode", "Failed to load upgrade texture", e);
+            } else {
+                Gdx.app.error("ClassicMode", "Missing upgrade texture for " + type);
             }
         }
     }
 
+    @Override
+    public void activate() {
+        spawnSystem.registerPools();
+        enemyProjectiles.registerPool();
+    }
+
+    @Override
+    public void deactivate() {
+        spawnSystem.unregisterPools();
+        enemyProjectiles.unregisterPool();
+    }
+
     @Override
     public void dispose() {
-        // Cleanup wenn nötig
+        spawnSystem.dispose();
+        enemyProjectiles.dispose();
+    }
+
+    @Override
+    public int getEntityCount() {
+        // Wartende Gegner oberhalb des Bildschirms zählen mit, auch wenn sie noch nicht aktiv sind
+        return super.getEntityCount() + enemyProjectiles.size() + spawnSystem.getDormantCount();
     }
 }
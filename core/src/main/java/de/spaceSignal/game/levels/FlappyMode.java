@@ -1,7 +1,5 @@
 package de.spaceSignal.game.levels;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -10,13 +8,19 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Predicate;
 import de.spaceSignal.game.entities.Bullet;
 import de.spaceSignal.game.entities.Enemy;
 import de.spaceSignal.game.entities.Player;
 import de.spaceSignal.game.entities.Upgrade;
 import de.spaceSignal.game.managers.AssetManager;
-import de.spaceSignal.game.managers.AudioManager;
+import de.spaceSignal.game.managers.RandomStreams;
+import de.spaceSignal.game.systems.BotInput;
+import de.spaceSignal.game.systems.GameEventQueue;
 import de.spaceSignal.game.util.Constants;
+import de.spaceSignal.game.util.EntityArrays;
+import de.spaceSignal.game.util.HudLabel;
+import de.spaceSignal.game.util.RandomStream;
 
 public class FlappyMode extends GameMode {
     private float velocity;
@@ -44,7 +48,24 @@ public class FlappyMode extends GameMode {
     private float shootCooldown = 0f;
     private static final float SHOOT_COOLDOWN_TIME = 0.3f;
 
+    // Bot: Abstand unter der Lückenmitte, ab dem geflattert wird
+    private static final float BOT_GAP_MARGIN = 20f;
+
+    // HUD
+    private final HudLabel scoreLabel = new HudLabel("Score: ", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 10);
+    private final HudLabel passedLabel = new HudLabel("Passed: ", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 35);
+    private final HudLabel healthLabel = new HudLabel("Health: ", HudLabel.FORMAT_INTEGER, 10, Constants.SCREEN_HEIGHT - 60);
+    private final HudLabel hintLabel = new HudLabel("SPACE: Fly", HudLabel.FORMAT_NONE, 10, Constants.SCREEN_HEIGHT - 85);
+
     private static class Obstacle {
+        // Hindernisse bleiben in Spawn-Reihenfolge (der Bot sucht das nächste), daher kompaktieren statt tauschen
+        static final Predicate<Obstacle> OFF_SCREEN = new Predicate<Obstacle>() {
+            @Override
+            public boolean evaluate(Obstacle obstacle) {
+                return obstacle.isOffScreen();
+            }
+        };
+
         Rectangle top;
         Rectangle bottom;
         float x;
@@ -88,21 +109,21 @@ public class FlappyMode extends GameMode {
         Rectangle bounds;
         String type;
         boolean collected;
-        float bobTimer;
+        // Das Wippen ergibt sich aus der Zeit seit dem Spawn (Uhr des Timing Wheels)
+        float spawnTime;
 
-        PowerUp(float x, float y, String type) {
+        PowerUp(float x, float y, String type, float spawnTime) {
             this.position = new Vector2(x, y);
             this.bounds = new Rectangle(x, y, 30, 30);
             this.type = type;
             this.collected = false;
-            this.bobTimer = 0;
+            this.spawnTime = spawnTime;
         }
 
-        void update(float delta, float speed) {
+        void update(float delta, float speed, float time) {
             if (!collected) {
                 position.x -= speed * delta;
-                bobTimer += delta * 3;
-                float bobOffset = MathUtils.sin(bobTimer) * 5;
+                float bobOffset = MathUtils.sin((time - spawnTime) * 3) * 5;
                 bounds.setPosition(position.x, position.y + bobOffset);
             }
         }
@@ -115,29 +136,62 @@ public class FlappyMode extends GameMode {
     public FlappyMode(Player player, Array<Bullet> bullets, Array<Enemy> enemies, Array<Upgrade> upgrades) {
         super(player, bullets, enemies, upgrades);
 
+        gravity = -800f;
+        flapStrength = 350f;
+
+        obstacles = new Array<>();
+        powerUps = new Array<>();
+        playerPos = new Vector2();
+
+        obstacleTexture = AssetManager.getInstance().getObstacleTexture();
+        solidTexture = createSolidTexture();
+
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+
         // Schießen deaktivieren für Flappy Mode
         player.setCanShoot(false);
 
         velocity = 0;
-        gravity = -800f;
-        flapStrength = 350f;
+        shootCooldown = 0;
 
-        obstacles = new Array<>();
+        obstacles.clear();
         obstacleTimer = 0;
         obstacleSpawnInterval = 2.0f;
         passedObstacles = 0;
 
-        powerUps = new Array<>();
+        powerUps.clear();
         powerUpTimer = 0;
 
-        playerPos = new Vector2(100, Constants.SCREEN_HEIGHT / 2);
+        playerPos.set(100, Constants.SCREEN_HEIGHT / 2);
+    }
 
-        try {
-            obstacleTexture = new Texture(Gdx.files.internal("textures/obstacle.png"));
-        } catch (Exception e) {
-            obstacleTexture = AssetManager.getInstance().getEnemyTexture();
+    /**
+     * Bot: flattert, sobald er unter die Mitte der nächsten Lücke fällt.
+     */
+    @Override
+    public void controlBot(BotInput bot) {
+        float targetY = Constants.SCREEN_HEIGHT / 2;
+        for (Obstacle obstacle : obstacles) {
+            if (!obstacle.passed && obstacle.x + 60 >= playerPos.x) {
+                targetY = obstacle.gapY;
+                break;
+            }
         }
-        solidTexture = createSolidTexture();
+
+        float playerCenter = playerPos.y + playerHeight / 2;
+        if (playerCenter < targetY - BOT_GAP_MARGIN && velocity <= 0) {
+            bot.flap();
+        }
+    }
+
+    @Override
+    public int getEntityCount() {
+        return super.getEntityCount() + obstacles.size + powerUps.size;
     }
 
     @Override
@@ -148,9 +202,9 @@ public class FlappyMode extends GameMode {
         }
 
         // Flappy-Steuerung: SPACE zum Fliegen
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+        if (input.isFlapJustPressed()) {
             velocity = flapStrength;
-            AudioManager.getInstance().playShootSound();
+            events.publish(GameEventQueue.PLAYER_FLAP, playerPos.x, playerPos.y, 0);
         }
 
         // Schwerkraft anwenden
@@ -178,7 +232,7 @@ public class FlappyMode extends GameMode {
         if (obstacleTimer >= obstacleSpawnInterval) {
             spawnObstacle();
             obstacleTimer = 0;
-            obstacleSpawnInterval = MathUtils.random(1.8f, 2.8f);
+            obstacleSpawnInterval = RandomStreams.getInstance().spawn().random(1.8f, 2.8f);
         }
 
         // Hindernisse updaten
@@ -191,15 +245,14 @@ public class FlappyMode extends GameMode {
             Rectangle playerBounds = new Rectangle(playerPos.x, playerPos.y, playerWidth, playerHeight);
             if (obstacle.collidesWith(playerBounds)) {
                 setGameOver(true);
-                AudioManager.getInstance().playExplosionSound();
+                events.publish(GameEventQueue.PLAYER_HIT, playerPos.x, playerPos.y, 0);
             }
 
             // Punkte zählen wenn passiert
             if (!obstacle.passed && obstacle.x + 60 < playerPos.x) {
                 obstacle.passed = true;
                 passedObstacles++;
-                incrementScore(10);
-                AudioManager.getInstance().playPowerupSound();
+                events.publish(GameEventQueue.OBSTACLE_PASSED, obstacle.x, obstacle.gapY, 10);
 
                 if (passedObstacles % 5 == 0) {
                     incrementWave();
@@ -207,51 +260,50 @@ public class FlappyMode extends GameMode {
             }
 
             // Hindernisse können NICHT mehr zerstört werden (kein Schießen)
-
-            if (obstacle.isOffScreen()) {
-                obstacles.removeIndex(i);
-            }
         }
+        EntityArrays.compact(obstacles, Obstacle.OFF_SCREEN);
 
         // Power-Ups spawnen
         powerUpTimer += delta;
-        if (powerUpTimer >= 6f && MathUtils.random() < 0.4f) {
+        if (powerUpTimer >= 6f && RandomStreams.getInstance().loot().chance(0.4f)) {
             spawnPowerUp();
             powerUpTimer = 0;
         }
 
         // Power-Ups updaten
+        float time = timers.getTime();
         for (int i = powerUps.size - 1; i >= 0; i--) {
             PowerUp powerUp = powerUps.get(i);
-            powerUp.update(delta, obstacleSpeed);
+            powerUp.update(delta, obstacleSpeed, time);
 
             Rectangle playerBounds = new Rectangle(playerPos.x, playerPos.y, playerWidth, playerHeight);
             if (!powerUp.collected && powerUp.bounds.overlaps(playerBounds)) {
                 powerUp.collected = true;
                 player.applyUpgrade(powerUp.type);
-                incrementScore(20);
-                powerUps.removeIndex(i);
-                AudioManager.getInstance().playPowerupSound();
+                EntityArrays.swapRemove(powerUps, i);
+                events.publish(GameEventQueue.UPGRADE_COLLECTED, powerUp.bounds.x, powerUp.bounds.y, 20);
             } else if (powerUp.isOffScreen()) {
-                powerUps.removeIndex(i);
+                EntityArrays.swapRemove(powerUps, i);
             }
         }
     }
 
     private void spawnObstacle() {
-        float gapSize = MathUtils.random(140f, 200f);
+        RandomStream random = RandomStreams.getInstance().spawn();
+        float gapSize = random.random(140f, 200f);
         float minY = 150f;
         float maxY = Constants.SCREEN_HEIGHT - 150f;
-        float gapY = MathUtils.random(minY, maxY);
+        float gapY = random.random(minY, maxY);
 
         obstacles.add(new Obstacle(Constants.SCREEN_WIDTH, gapY, gapSize));
     }
 
     private void spawnPowerUp() {
         float x = Constants.SCREEN_WIDTH;
-        float y = MathUtils.random(100f, Constants.SCREEN_HEIGHT - 100f);
-        String type = MathUtils.random() < 0.5f ? "Health" : "Damage";
-        powerUps.add(new PowerUp(x, y, type));
+        RandomStream random = RandomStreams.getInstance().loot();
+        float y = random.random(100f, Constants.SCREEN_HEIGHT - 100f);
+        String type = random.chance(0.5f) ? "Health" : "Damage";
+        powerUps.add(new PowerUp(x, y, type, timers.getTime()));
     }
 
     @Override
@@ -263,6 +315,9 @@ public class FlappyMode extends GameMode {
 
         // Hindernisse rendern
         for (Obstacle obstacle : obstacles) {
+            if (!culling.isVisible(obstacle.x, 0, 60, Constants.SCREEN_HEIGHT)) {
+                continue;
+            }
             if (!obstacle.destroyed) {
                 batch.setColor(0.8f, 0.2f, 0.2f, 1f);
                 batch.draw(solidTexture, obstacle.top.x, obstacle.top.y,
@@ -290,7 +345,7 @@ public class FlappyMode extends GameMode {
 
         // Power-Ups rendern
         for (PowerUp powerUp : powerUps) {
-            if (!powerUp.collected) {
+            if (!powerUp.collected && culling.isVisible(powerUp.bounds)) {
                 Color color = powerUp.type.equals("Health")
                     ? new Color(0.2f, 1f, 0.2f, 1f)
                     : new Color(1f, 0.8f, 0.2f, 1f);
@@ -304,13 +359,16 @@ public class FlappyMode extends GameMode {
 
     @Override
     public void renderUI(SpriteBatch batch, BitmapFont uiFont) {
-        uiFont.draw(batch, "Score: " + score, 10, Constants.SCREEN_HEIGHT - 10);
-        uiFont.draw(batch, "Passed: " + passedObstacles, 10, Constants.SCREEN_HEIGHT - 35);
-        uiFont.draw(batch, "Health: " + (int) player.getHealth(), 10, Constants.SCREEN_HEIGHT - 60);
+        scoreLabel.setValue(score);
+        passedLabel.setValue(passedObstacles);
+        healthLabel.setValue((int) player.getHealth());
+
+        scoreLabel.draw(batch, uiFont);
+        passedLabel.draw(batch, uiFont);
+        healthLabel.draw(batch, uiFont);
 
-        uiFont.setColor(0.8f, 0.8f, 0.8f, 0.6f);
-        uiFont.draw(batch, "SPACE: Fly", 10, Constants.SCREEN_HEIGHT - 85);
-        uiFont.setColor(1, 1, 1, 1);
+        hintLabel.setColor(0.8f, 0.8f, 0.8f, 0.6f);
+        hintLabel.draw(batch, uiFont);
     }
 
     @Override
@@ -7,12 +7,18 @@ import de.spaceSignal.game.entities.Bullet;
 import de.spaceSignal.game.entities.Enemy;
 import de.spaceSignal.game.entities.Player;
 import de.spaceSignal.game.entities.Upgrade;
+import de.spaceSignal.game.systems.BotInput;
+import de.spaceSignal.game.systems.CullingSystem;
+import de.spaceSignal.game.systems.GameEventQueue;
+import de.spaceSignal.game.systems.InputSource;
+import de.spaceSignal.game.systems.JobSystem;
+import de.spaceSignal.game.systems.TimerWheel;
 
 /**
  * Abstrakte Basisklasse für alle Spielmodi.
  * Definiert die gemeinsame Schnittstelle und Logik.
  */
-public abstract class GameMode {
+public abstract class GameMode implements GameEventQueue.Listener {
     protected Player player;
     protected Array<Bullet> bullets;
     protected Array<Enemy> enemies;
@@ -20,6 +26,11 @@ public abstract class GameMode {
     protected int score;
     protected int wave;
     protected boolean isGameOver;
+    protected CullingSystem culling;
+    protected InputSource input;
+    protected JobSystem jobs;
+    protected GameEventQueue events;
+    protected TimerWheel timers;
 
     public GameMode(Player player, Array<Bullet> bullets, Array<Enemy> enemies, Array<Upgrade> upgrades) {
         this.player = player;
@@ -56,11 +67,105 @@ public abstract class GameMode {
      */
     public abstract String getVictoryMessage();
 
+    /**
+     * Setzt den Modus für eine neue Runde zurück (z.B. Retry), ohne Texturen
+     * oder andere Ressourcen neu zu laden. Unterklassen rufen super.reset() auf.
+     */
+    public void reset() {
+        this.score = 0;
+        this.wave = 1;
+        this.isGameOver = false;
+    }
+
+    /**
+     * Die Sitzung wechselt in diesen Modus (auch beim ersten Start). Modi mit eigenen Pools
+     * melden sie hier beim PoolManager an.
+     */
+    public void activate() {
+    }
+
+    /**
+     * Die Sitzung verlässt diesen Modus; er bleibt für später erhalten, wird aber nicht mehr
+     * aktualisiert. Modi mit eigenen Pools melden sie hier ab.
+     */
+    public void deactivate() {
+    }
+
     /**
      * Cleanup beim Beenden
      */
     public abstract void dispose();
 
+    /**
+     * Setzt die Culling-Stufe, gegen die renderEntities prüft
+     */
+    public void setCullingSystem(CullingSystem culling) {
+        this.culling = culling;
+    }
+
+    /**
+     * Setzt die Eingabequelle (Tastatur oder Bot), die der Modus abfragt
+     */
+    public void setInputSource(InputSource input) {
+        this.input = input;
+    }
+
+    /**
+     * Setzt das Job-System für parallele Bewegungs-Updates
+     */
+    public void setJobSystem(JobSystem jobs) {
+        this.jobs = jobs;
+    }
+
+    /**
+     * Setzt die Ereignis-Queue, über die Sounds, Punkte und Partikel ausgelöst werden
+     */
+    public void setEventQueue(GameEventQueue events) {
+        this.events = events;
+    }
+
+    /**
+     * Setzt das Timing Wheel der Sitzung; es läuft vor update() und wird bei jeder neuen Runde
+     * vor reset() geleert
+     */
+    public void setTimerWheel(TimerWheel timers) {
+        this.timers = timers;
+    }
+
+    /**
+     * Punkte-Konsument: Punkte werden beim Abarbeiten der Ereignisse am Frame-Ende gutgeschrieben.
+     */
+    @Override
+    public void onEvent(int type, float x, float y, int value) {
+        switch (type) {
+            case GameEventQueue.ENEMY_KILLED:
+            case GameEventQueue.UPGRADE_COLLECTED:
+            case GameEventQueue.OBSTACLE_PASSED:
+            case GameEventQueue.SCORE_AWARDED:
+                if (value > 0) incrementScore(value);
+                break;
+        }
+    }
+
+    @Override
+    public void onEventsDrained() {
+    }
+
+    /**
+     * Bot-Steuerung: setzt die Eingaben des Bots anhand des aktuellen Spielzustands.
+     * Jeder Modus kennt seine eigenen Gefahren, daher liegt die Heuristik hier.
+     */
+    public void controlBot(BotInput bot) {
+        bot.setFire(true);
+    }
+
+    /**
+     * Anzahl der aktiven Entities dieses Modus (für Profiler und Soak-Tests)
+     */
+    public int getEntityCount() {
+        return enemies.size + upgrades.size;
+    }
+
     // Getter
     public int getScore() { return score; }
     public int getWave() { return wave; }
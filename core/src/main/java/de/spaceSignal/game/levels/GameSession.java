@@ -0,0 +1,294 @@
+package de.spaceSignal.game.levels;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import de.spaceSignal.game.entities.Bullet;
+import de.spaceSignal.game.entities.Enemy;
+import de.spaceSignal.game.entities.Player;
+import de.spaceSignal.game.entities.Upgrade;
+import de.spaceSignal.game.managers.AssetManager;
+import de.spaceSignal.game.managers.PoolManager;
+import de.spaceSignal.game.systems.AudioEventListener;
+import de.spaceSignal.game.systems.CullingSystem;
+import de.spaceSignal.game.systems.GameEventQueue;
+import de.spaceSignal.game.systems.InputSource;
+import de.spaceSignal.game.systems.JobSystem;
+import de.spaceSignal.game.systems.ParticleSystem;
+import de.spaceSignal.game.systems.SessionStats;
+import de.spaceSignal.game.systems.TimerWheel;
+import de.spaceSignal.game.util.Constants;
+import de.spaceSignal.game.util.EntityArrays;
+import de.spaceSignal.game.util.InstrumentedPool;
+
+/**
+ * Spielsimulation ohne Rendering: Spieler, Bullets, Gegner, Upgrades und der aktive Spielmodus.
+ * Wird vom GameScreen gezeichnet und kann ohne Grafik (z.B. im Soak-Test) mit einem Bot laufen.
+ */
+public class GameSession {
+    private final InputSource input;
+
+    // Entities
+    private final Player player;
+    private final Array<Bullet> bullets;
+    private final Array<Enemy> enemies;
+    private final Array<Upgrade> upgrades;
+    private final InstrumentedPool<Bullet> bulletPool;
+
+    // Aktueller Spielmodus
+    private GameMode currentGameMode;
+    private String modeName;
+    private final ObjectMap<String, GameMode> gameModes;
+    private CullingSystem culling;
+
+    // Ereignisse und ihre Konsumenten (Sound, Partikel, Statistik; Punkte im Spielmodus)
+    private final GameEventQueue events;
+    private final ParticleSystem particles;
+    private final SessionStats stats;
+
+    // Ablauf-Timer aller Entities (Zünder, Feuerrhythmus, Power-Up-Dauer)
+    private final TimerWheel timers;
+
+    // Parallele Bewegungs-Phase
+    private final JobSystem jobs;
+    private float moveDelta;
+    private final JobSystem.RangeJob moveBullets = new JobSystem.RangeJob() {
+        @Override
+        public void run(int start, int end) {
+            for (int i = start; i < end; i++) {
+                bullets.get(i).update(moveDelta);
+            }
+        }
+    };
+
+    public GameSession(InputSource input) {
+        this.input = input;
+        gameModes = new ObjectMap<>();
+        jobs = new JobSystem();
+        timers = new TimerWheel();
+
+        events = new GameEventQueue();
+        particles = new ParticleSystem();
+        stats = new SessionStats();
+        events.addListener(new AudioEventListener());
+        events.addListener(particles);
+        events.addListener(stats);
+
+        player = new Player(
+            Constants.SCREEN_WIDTH / 2 - Constants.PLAYER_WIDTH / 2,
+            50,
+            AssetManager.getInstance().getPlayerTexture()
+        );
+        bullets = new Array<>();
+        enemies = new Array<>();
+        upgrades = new Array<>();
+
+        bulletPool = new InstrumentedPool<Bullet>("Bullet") {
+            @Override
+            protected Bullet newObject() {
+                return new Bullet(0, 0, 0, 0, 0,
+                    AssetManager.getInstance().getBulletTexture(), modeName);
+            }
+        };
+        PoolManager.getInstance().register(bulletPool);
+    }
+
+    /**
+     * Startet eine neue Runde im angegebenen Modus. Texturen, Pool und bereits
+     * erzeugte Spielmodi bleiben erhalten, es wird nur der Zustand zurückgesetzt.
+     */
+    public void reset(String modeId) {
+        long startTime = TimeUtils.nanoTime();
+
+        // Bullets tragen den Modus-Namen, daher den Pool nur bei Moduswechsel leeren
+        bulletPool.freeAll(bullets);
+        bullets.clear();
+        if (!modeId.equals(modeName)) {
+            bulletPool.clear();
+        }
+        for (Enemy enemy : enemies) {
+            enemy.dispose();
+        }
+        enemies.clear();
+        for (Upgrade upgrade : upgrades) {
+            upgrade.dispose();
+        }
+        upgrades.clear();
+
+        player.reset(Constants.SCREEN_WIDTH / 2 - Constants.PLAYER_WIDTH / 2, 50);
+
+        events.clear();
+        particles.clear();
+        stats.reset();
+        // Timer der alten Runde verfallen, ohne auszulösen; der Modus plant beim Reset neu
+        timers.clear();
+        boolean modeChanged = !modeId.equals(modeName);
+        if (currentGameMode != null) {
+            events.removeListener(currentGameMode);
+            if (modeChanged) currentGameMode.deactivate();
+        }
+
+        modeName = modeId;
+        currentGameMode = gameModes.get(modeId);
+        if (currentGameMode == null) {
+            currentGameMode = createGameMode(modeId);
+            gameModes.put(modeId, currentGameMode);
+        } else {
+            currentGameMode.reset();
+        }
+        if (modeChanged) currentGameMode.activate();
+        events.addListener(currentGameMode);
+
+        Gdx.app.debug("GameSession", "Reset to " + modeId + " in "
+            + TimeUtils.timeSinceNanos(startTime) / 1000 + " us");
+    }
+
+    private GameMode createGameMode(String modeId) {
+        GameMode gameMode;
+        switch (modeId) {
+            case "Boss Rush":
+                gameMode = new BossRushMode(player, bullets, enemies, upgrades);
+                break;
+            case "Asteroid Dodger":
+                gameMode = new AsteroidDodgerMode(player, bullets, enemies, upgrades);
+                break;
+            case "Flappy":
+                gameMode = new FlappyMode(player, bullets, enemies, upgrades);
+                break;
+            case "Classic":
+            default:
+                gameMode = new ClassicMode(player, bullets, enemies, upgrades);
+                break;
+        }
+        gameMode.setInputSource(input);
+        gameMode.setJobSystem(jobs);
+        gameMode.setEventQueue(events);
+        gameMode.setTimerWheel(timers);
+        gameMode.setCullingSystem(culling);
+        return gameMode;
+    }
+
+    /**
+     * Ein Simulationsschritt: Eingabe, Spieler, Bullets und Spielmodus.
+     */
+    public void update(float delta) {
+        input.update(currentGameMode);
+
+        player.update(delta, input);
+
+        // Spieler-Schießen
+        if (input.isFirePressed() && player.canFire()) {
+            fireBullets();
+            player.resetFireTimer();
+            events.publish(GameEventQueue.SHOT_FIRED, player.getPosition().x, player.getPosition().y,
+                GameEventQueue.SOURCE_PLAYER);
+        }
+
+        // Bullets bewegen (ggf. parallel), danach tote Bullets in einem Durchlauf einsammeln.
+        // Die Reihenfolge bleibt erhalten, Boss Rush hält das Array nach y sortiert.
+        moveDelta = delta;
+        jobs.parallelFor(bullets.size, moveBullets);
+        EntityArrays.compact(bullets, Bullet.DEAD, bulletPool);
+
+        // Fällige Timer auslösen, danach GameMode-spezifische Updates
+        timers.advance(delta);
+        currentGameMode.update(delta);
+        currentGameMode.checkGameOver();
+
+        // Nebenwirkungen des Frames gesammelt abarbeiten
+        particles.update(delta);
+        events.drain();
+
+        bulletPool.tick();
+        PoolManager.getInstance().update();
+    }
+
+    private void fireBullets() {
+        float centerX = player.getPosition().x + Constants.PLAYER_WIDTH / 2;
+        float topY = player.getPosition().y + Constants.PLAYER_HEIGHT;
+        float damage = 10 * player.getDamageMultiplier();
+
+        switch (player.getBulletLevel()) {
+            case 1:
+                Bullet bullet1 = bulletPool.obtain();
+                bullet1.reset(centerX - Constants.BULLET_WIDTH / 2, topY, 0,
+                    Constants.BULLET_SPEED, damage);
+                bullets.add(bullet1);
+                break;
+
+            case 2:
+                Bullet bullet2a = bulletPool.obtain();
+                bullet2a.reset(centerX - Constants.BULLET_WIDTH / 2 - 10, topY, 0,
+                    Constants.BULLET_SPEED, damage);
+                Bullet bullet2b = bulletPool.obtain();
+                bullet2b.reset(centerX - Constants.BULLET_WIDTH / 2 + 10, topY, 0,
+                    Constants.BULLET_SPEED, damage);
+                bullets.add(bullet2a);
+                bullets.add(bullet2b);
+                break;
+
+            case 3:
+                Bullet bullet3a = bulletPool.obtain();
+                bullet3a.reset(centerX - Constants.BULLET_WIDTH / 2, topY, 0,
+                    Constants.BULLET_SPEED, damage);
+                Bullet bullet3b = bulletPool.obtain();
+                bullet3b.reset(centerX - Constants.BULLET_WIDTH / 2 - 15, topY, -50,
+                    Constants.BULLET_SPEED, damage);
+                Bullet bullet3c = bulletPool.obtain();
+                bullet3c.reset(centerX - Constants.BULLET_WIDTH / 2 + 15, topY, 50,
+                    Constants.BULLET_SPEED, damage);
+                bullets.add(bullet3a);
+                bullets.add(bullet3b);
+                bullets.add(bullet3c);
+                break;
+        }
+    }
+
+    /**
+     * Setzt die Culling-Stufe für alle bestehenden und künftigen Spielmodi
+     */
+    public void setCullingSystem(CullingSystem culling) {
+        this.culling = culling;
+        for (GameMode gameMode : gameModes.values()) {
+            gameMode.setCullingSystem(culling);
+        }
+    }
+
+    /**
+     * Anzahl aller aktiven Entities inklusive Spieler
+     */
+    public int getEntityCount() {
+        return 1 + bullets.size + currentGameMode.getEntityCount();
+    }
+
+    public boolean isGameOver() { return currentGameMode.isGameOver(); }
+    public GameMode getGameMode() { return currentGameMode; }
+    public String getModeName() { return modeName; }
+    public Player getPlayer() { return player; }
+    public Array<Bullet> getBullets() { return bullets; }
+    public ParticleSystem getParticles() { return particles; }
+    public SessionStats getStats() { return stats; }
+
+    public void dispose() {
+        player.dispose();
+        bulletPool.freeAll(bullets);
+        bullets.clear();
+        for (Enemy enemy : enemies) {
+            if (enemy != null) enemy.dispose();
+        }
+        enemies.clear();
+        for (Upgrade upgrade : upgrades) {
+            if (upgrade != null) upgrade.dispose();
+        }
+        upgrades.clear();
+        bulletPool.clear();
+        PoolManager.getInstance().unregister(bulletPool);
+        for (GameMode gameMode : gameModes.values()) {
+            gameMode.dispose();
+        }
+        gameModes.clear();
+        jobs.dispose();
+        particles.dispose();
+    }
+}
@@ -15,6 +15,16 @@ public class AssetManager implements Disposable {
     private Texture bomberTexture;
     private Texture bulletTexture;
 
+    // Gemeinsam genutzte Texturen für Screens und Spielmodi
+    private Texture playerTexture;
+    private Texture backgroundTexture;
+    private Texture bossTexture;
+    private Texture bossBulletTexture;
+    private Texture obstacleTexture;
+    private Texture upgradeBulletLevelTexture;
+    private Texture upgradeHealthTexture;
+    private Texture upgradeDamageTexture;
+
     private AssetManager() {
         manager = new com.badlogic.gdx.assets.AssetManager();
     }
@@ -42,6 +52,16 @@ public class AssetManager implements Disposable {
             manager.load("textures/enemies/bomber.png", Texture.class);
             manager.load("textures/enemies/bullet.png", Texture.class);
 
+            // Lade Spieler-, Boss- und Hintergrund-Texturen einmalig für alle Screens
+            manager.load("textures/player.png", Texture.class);
+            manager.load("textures/background.png", Texture.class);
+            manager.load("textures/boss.png", Texture.class);
+            manager.load("textures/boss_bullet.png", Texture.class);
+            manager.load("textures/obstacle.png", Texture.class);
+            manager.load("textures/upgrade_bulletlevel.png", Texture.class);
+            manager.load("textures/upgrade_health.png", Texture.class);
+            manager.load("textures/upgrade_damage.png", Texture.class);
+
             // Warte bis alles geladen ist
             manager.finishLoading();
 
@@ -50,6 +70,14 @@ public class AssetManager implements Disposable {
             scoutTexture = manager.get("textures/enemies/scout.png", Texture.class);
             bomberTexture = manager.get("textures/enemies/bomber.png", Texture.class);
             bulletTexture = manager.get("textures/enemies/bullet.png", Texture.class);
+            playerTexture = manager.get("textures/player.png", Texture.class);
+            backgroundTexture = manager.get("textures/background.png", Texture.class);
+            bossTexture = manager.get("textures/boss.png", Texture.class);
+            bossBulletTexture = manager.get("textures/boss_bullet.png", Texture.class);
+            obstacleTexture = manager.get("textures/obstacle.png", Texture.class);
+            upgradeBulletLevelTexture = manager.get("textures/upgrade_bulletlevel.png", Texture.class);
+            upgradeHealthTexture = manager.get("textures/upgrade_health.png", Texture.class);
+            upgradeDamageTexture = manager.get("textures/upgrade_damage.png", Texture.class);
 
             // Initialisiere den AudioManager mit den geladenen Assets
             AudioManager.getInstance().setAssets(
@@ -69,6 +97,32 @@ public class AssetManager implements Disposable {
     public Texture getScoutTexture() { return scoutTexture; }
     public Texture getBomberTexture() { return bomberTexture; }
     public Texture getBulletTexture() { return bulletTexture; }
+    public Texture getPlayerTexture() { return playerTexture; }
+    public Texture getBackgroundTexture() { return backgroundTexture; }
+    public Texture getBossTexture() { return bossTexture; }
+    public Texture getBossBulletTexture() { return bossBulletTexture; }
+    public Texture getObstacleTexture() { return obstacleTexture; }
+
+    /**
+     * Gegnertexturen nach dem Namen aus data/enemies.json
+     */
+    public Texture getEnemyTexture(String name) {
+        switch (name) {
+            case "enemy": return enemyTexture;
+            case "scout": return scoutTexture;
+            case "bomber": return bomberTexture;
+            default: return null;
+        }
+    }
+
+    public Texture getUpgradeTexture(String type) {
+        switch (type) {
+            case "BulletLevel": return upgradeBulletLevelTexture;
+            case "Health": return upgradeHealthTexture;
+            case "Damage": return upgradeDamageTexture;
+            default: return null;
+        }
+    }
 
     @Override
     public void dispose() {
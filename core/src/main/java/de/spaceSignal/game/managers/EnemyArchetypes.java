@@ -0,0 +1,77 @@
+package de.spaceSignal.game.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import de.spaceSignal.game.entities.EnemyArchetype;
+
+/**
+ * Tabelle der Gegnertypen, einmalig aus data/enemies.json geladen. Braucht die Texturen des
+ * AssetManagers, darf also erst nach AssetManager.loadAll() zum ersten Mal abgefragt werden.
+ */
+public class EnemyArchetypes {
+    private static EnemyArchetypes instance;
+
+    private static final String TAG = "EnemyArchetypes";
+    public static final String FILE = "data/enemies.json";
+
+    private final Array<EnemyArchetype> archetypes;
+    private final ObjectMap<String, EnemyArchetype> byName;
+
+    private EnemyArchetypes() {
+        archetypes = new Array<>();
+        byName = new ObjectMap<>();
+        load();
+    }
+
+    public static EnemyArchetypes getInstance() {
+        if (instance == null) {
+            instance = new EnemyArchetypes();
+        }
+        return instance;
+    }
+
+    private void load() {
+        JsonValue root = new JsonReader().parse(Gdx.files.internal(FILE));
+        // Ein Region-Objekt pro Textur, alle Gegner mit derselben Textur teilen es
+        ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
+        for (JsonValue json = root.get("archetypes").child; json != null; json = json.next) {
+            String textureName = json.getString("texture");
+            TextureRegion region = regions.get(textureName);
+            if (region == null) {
+                Texture texture = AssetManager.getInstance().getEnemyTexture(textureName);
+                if (texture == null) {
+                    throw new GdxRuntimeException("Unknown enemy texture: " + textureName);
+                }
+                region = new TextureRegion(texture);
+                regions.put(textureName, region);
+            }
+            EnemyArchetype archetype = new EnemyArchetype(archetypes.size, json, region);
+            archetypes.add(archetype);
+            byName.put(archetype.name, archetype);
+        }
+        Gdx.app.debug(TAG, archetypes.size + " archetypes loaded");
+    }
+
+    public EnemyArchetype get(String name) {
+        EnemyArchetype archetype = byName.get(name);
+        if (archetype == null) {
+            throw new GdxRuntimeException("Unknown enemy archetype: " + name);
+        }
+        return archetype;
+    }
+
+    public EnemyArchetype get(int index) {
+        return archetypes.get(index);
+    }
+
+    public int size() {
+        return archetypes.size;
+    }
+}
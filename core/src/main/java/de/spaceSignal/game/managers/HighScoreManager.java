@@ -0,0 +1,377 @@
+package de.spaceSignal.game.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Highscores und Rundenstatistik pro Spielmodus.
+ * Jede Runde wird als Datensatz fester Länge an ein Binär-Log im lokalen Speicher angehängt
+ * (nur anhängen, nie überschreiben). Jeder Datensatz trägt eine CRC32-Prüfsumme, sodass ein
+ * abgebrochener Schreibvorgang beim Laden erkannt und übersprungen wird.
+ * Nach jedem Anhängen wird zusätzlich ein Checkpoint des Top-N-Index geschrieben; beim Start
+ * wird nur der Teil des Logs nach dem Checkpoint gelesen (Memory-Mapped). Ist der Checkpoint
+ * ungültig, wird das ganze Log neu eingelesen. Geschrieben wird auf einem Hintergrund-Thread.
+ */
+public class HighScoreManager {
+    private static HighScoreManager instance;
+
+    public static final String[] MODES = {"Classic", "Boss Rush", "Asteroid Dodger", "Flappy"};
+    public static final int TOP_N = 10;
+
+    private static final String FILE_NAME = "highscores.bin";
+    private static final String INDEX_FILE_NAME = "highscores.idx";
+    private static final int MAGIC = 0x53534853; // "SSHS"
+    private static final int INDEX_MAGIC = 0x58494853; // "SHIX"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+
+    // Checkpoint: Magic, Version, Log-Länge, je Modus Statistik und Top-N, CRC32
+    private static final int INDEX_LOG_LENGTH_OFFSET = 8;
+    private static final int INDEX_PAYLOAD_SIZE = 16 + MODES.length * (4 + 4 + 8 + 4 + TOP_N * 8);
+    private static final int INDEX_SIZE = INDEX_PAYLOAD_SIZE + 4;
+
+    // Datensatz: Modus (1), Flags (1), frei (2), Score (4), Welle (4), Zeitstempel (8), CRC32 (4)
+    private static final int RECORD_SIZE = 24;
+    private static final int PAYLOAD_SIZE = RECORD_SIZE - 4;
+    private static final int FLAG_VICTORY = 1;
+
+    // Top-N je Modus, absteigend sortiert
+    private final int[][] topScores;
+    private final int[][] topWaves;
+    private final int[] topCount;
+
+    // Rundenstatistik je Modus
+    private final int[] runs;
+    private final int[] victories;
+    private final long[] totalScore;
+
+    private final CRC32 crc;
+    private final CRC32 writerCrc;
+    private ExecutorService writer;
+    private boolean loaded;
+
+    private HighScoreManager() {
+        topScores = new int[MODES.length][TOP_N];
+        topWaves = new int[MODES.length][TOP_N];
+        topCount = new int[MODES.length];
+        runs = new int[MODES.length];
+        victories = new int[MODES.length];
+        totalScore = new long[MODES.length];
+        crc = new CRC32();
+        writerCrc = new CRC32();
+    }
+
+    public static HighScoreManager getInstance() {
+        if (instance == null) {
+            instance = new HighScoreManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Liest Checkpoint und Log einmalig und baut den Top-N-Index auf.
+     */
+    public void load() {
+        if (loaded) return;
+        loaded = true;
+
+        long startTime = TimeUtils.nanoTime();
+        File file = getFile().file();
+        if (!file.exists() || file.length() < HEADER_SIZE) return;
+
+        int records = 0;
+        int corrupt = 0;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                Gdx.app.error("HighScoreManager", "Unknown high-score file format, ignoring " + file);
+                return;
+            }
+
+            // Ein unvollständiger Datensatz am Ende (abgebrochener Schreibvorgang) wird ignoriert
+            int end = HEADER_SIZE + (buffer.limit() - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+            int start = loadCheckpoint(end);
+
+            byte[] payload = new byte[PAYLOAD_SIZE];
+            for (int offset = start; offset < end; offset += RECORD_SIZE) {
+                buffer.position(offset);
+                buffer.get(payload);
+                crc.reset();
+                crc.update(payload, 0, PAYLOAD_SIZE);
+                if ((int) crc.getValue() != buffer.getInt(offset + PAYLOAD_SIZE)) {
+                    corrupt++;
+                    continue;
+                }
+
+                int mode = buffer.get(offset);
+                if (mode < 0 || mode >= MODES.length) {
+                    corrupt++;
+                    continue;
+                }
+                boolean victory = (buffer.get(offset + 1) & FLAG_VICTORY) != 0;
+                addToIndex(mode, buffer.getInt(offset + 4), buffer.getInt(offset + 8), victory);
+                records++;
+            }
+
+            // Checkpoint nachziehen, damit der nächste Start wieder nur den Rest lesen muss
+            if (start < end) {
+                final ByteBuffer index = createCheckpoint();
+                final long logLength = end;
+                getWriter().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        writeCheckpoint(index, logLength);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            Gdx.app.error("HighScoreManager", "Failed to read " + file, e);
+        }
+
+        Gdx.app.debug("HighScoreManager", "Loaded index + " + records + " logged run(s) (" + corrupt
+            + " corrupt) in " + TimeUtils.timeSinceNanos(startTime) / 1000 + " us");
+    }
+
+    /**
+     * Übernimmt den Index aus dem Checkpoint, falls er gültig ist und zum Log passt.
+     * @return Offset im Log, ab dem noch gelesen werden muss
+     */
+    private int loadCheckpoint(int logEnd) {
+        FileHandle indexFile = getIndexFile();
+        if (!indexFile.exists() || indexFile.length() != INDEX_SIZE) return HEADER_SIZE;
+
+        ByteBuffer index = ByteBuffer.wrap(indexFile.readBytes()).order(ByteOrder.LITTLE_ENDIAN);
+        crc.reset();
+        crc.update(index.array(), 0, INDEX_PAYLOAD_SIZE);
+        long logLength = index.getLong(INDEX_LOG_LENGTH_OFFSET);
+        if (index.getInt(0) != INDEX_MAGIC || index.getInt(4) != VERSION
+            || (int) crc.getValue() != index.getInt(INDEX_PAYLOAD_SIZE)
+            || logLength < HEADER_SIZE || logLength > logEnd) {
+            return HEADER_SIZE;
+        }
+
+        index.position(16);
+        for (int mode = 0; mode < MODES.length; mode++) {
+            runs[mode] = index.getInt();
+            victories[mode] = index.getInt();
+            totalScore[mode] = index.getLong();
+            topCount[mode] = Math.min(TOP_N, Math.max(0, index.getInt()));
+            for (int i = 0; i < TOP_N; i++) {
+                topScores[mode][i] = index.getInt();
+                topWaves[mode][i] = index.getInt();
+            }
+        }
+        return (int) logLength;
+    }
+
+    /**
+     * Schreibt den aktuellen Index in einen Puffer (auf dem Render-Thread);
+     * Log-Länge und Prüfsumme trägt der Schreib-Thread ein.
+     */
+    private ByteBuffer createCheckpoint() {
+        ByteBuffer index = ByteBuffer.allocate(INDEX_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        index.putInt(INDEX_MAGIC).putInt(VERSION).putLong(0);
+        for (int mode = 0; mode < MODES.length; mode++) {
+            index.putInt(runs[mode]).putInt(victories[mode]).putLong(totalScore[mode]).putInt(topCount[mode]);
+            for (int i = 0; i < TOP_N; i++) {
+                index.putInt(topScores[mode][i]).putInt(topWaves[mode][i]);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Trägt eine beendete Runde ein. Der Index wird sofort aktualisiert,
+     * das Schreiben auf die Platte passiert im Hintergrund.
+     * @return Platz in der Top-N-Liste (1 = neuer Highscore) oder 0, wenn nicht in der Liste
+     */
+    public int recordRun(String modeName, int score, int wave, boolean victory) {
+        int mode = getModeIndex(modeName);
+        if (mode < 0) return 0;
+
+        int rank = addToIndex(mode, score, wave, victory);
+
+        final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        record.put((byte) mode);
+        record.put((byte) (victory ? FLAG_VICTORY : 0));
+        record.putShort((short) 0);
+        record.putInt(score);
+        record.putInt(wave);
+        record.putLong(TimeUtils.millis());
+        crc.reset();
+        crc.update(record.array(), 0, PAYLOAD_SIZE);
+        record.putInt((int) crc.getValue());
+        record.flip();
+
+        final ByteBuffer index = createCheckpoint();
+        getWriter().execute(new Runnable() {
+            @Override
+            public void run() {
+                long logLength = append(record);
+                if (logLength > 0) writeCheckpoint(index, logLength);
+            }
+        });
+        return rank;
+    }
+
+    /**
+     * Hängt einen Datensatz an (Schreib-Thread). Ein abgebrochener Datensatz am Ende
+     * wird vorher abgeschnitten, damit alle folgenden Datensätze wieder ausgerichtet sind.
+     * @return neue Log-Länge oder -1 bei Fehler
+     */
+    private long append(ByteBuffer record) {
+        File file = getFile().file();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+             FileChannel channel = raf.getChannel()) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                channel.truncate(0);
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).flip();
+                while (header.hasRemaining()) channel.write(header, channel.size());
+                size = HEADER_SIZE;
+            }
+            long aligned = HEADER_SIZE + (size - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+            if (aligned != size) channel.truncate(aligned);
+
+            long position = aligned;
+            while (record.hasRemaining()) position += channel.write(record, position);
+            return position;
+        } catch (IOException e) {
+            Gdx.app.error("HighScoreManager", "Failed to append to " + file, e);
+            return -1;
+        }
+    }
+
+    /**
+     * Schreib-Thread; ein abgebrochener Checkpoint fällt beim Laden über die Prüfsumme auf
+     */
+    private void writeCheckpoint(ByteBuffer index, long logLength) {
+        index.putLong(INDEX_LOG_LENGTH_OFFSET, logLength);
+        writerCrc.reset();
+        writerCrc.update(index.array(), 0, INDEX_PAYLOAD_SIZE);
+        index.putInt(INDEX_PAYLOAD_SIZE, (int) writerCrc.getValue());
+        getIndexFile().writeBytes(index.array(), false);
+    }
+
+    private int addToIndex(int mode, int score, int wave, boolean victory) {
+        runs[mode]++;
+        if (victory) victories[mode]++;
+        totalScore[mode] += score;
+
+        int[] scores = topScores[mode];
+        int[] waves = topWaves[mode];
+        int count = topCount[mode];
+
+        // Einfügeposition suchen; bei Gleichstand bleibt die ältere Runde vorne
+        int position = count;
+        while (position > 0 && scores[position - 1] < score) {
+            position--;
+        }
+        if (position >= TOP_N) return 0;
+
+        int last = Math.min(count, TOP_N - 1);
+        for (int i = last; i > position; i--) {
+            scores[i] = scores[i - 1];
+            waves[i] = waves[i - 1];
+        }
+        scores[position] = score;
+        waves[position] = wave;
+        if (count < TOP_N) topCount[mode] = count + 1;
+        return position + 1;
+    }
+
+    private FileHandle getFile() {
+        return Gdx.files.local(FILE_NAME);
+    }
+
+    private FileHandle getIndexFile() {
+        return Gdx.files.local(INDEX_FILE_NAME);
+    }
+
+    private ExecutorService getWriter() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "HighScoreWriter");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return writer;
+    }
+
+    public static int getModeIndex(String modeName) {
+        for (int i = 0; i < MODES.length; i++) {
+            if (MODES[i].equals(modeName)) return i;
+        }
+        return -1;
+    }
+
+    // Getter
+    public int getBestScore(String modeName) {
+        int mode = getModeIndex(modeName);
+        return mode < 0 || topCount[mode] == 0 ? 0 : topScores[mode][0];
+    }
+
+    public int getTopCount(String modeName) {
+        int mode = getModeIndex(modeName);
+        return mode < 0 ? 0 : topCount[mode];
+    }
+
+    public int getTopScore(String modeName, int rank) {
+        return topScores[getModeIndex(modeName)][rank];
+    }
+
+    public int getTopWave(String modeName, int rank) {
+        return topWaves[getModeIndex(modeName)][rank];
+    }
+
+    public int getRunCount(String modeName) {
+        int mode = getModeIndex(modeName);
+        return mode < 0 ? 0 : runs[mode];
+    }
+
+    public int getVictoryCount(String modeName) {
+        int mode = getModeIndex(modeName);
+        return mode < 0 ? 0 : victories[mode];
+    }
+
+    public long getTotalScore(String modeName) {
+        int mode = getModeIndex(modeName);
+        return mode < 0 ? 0 : totalScore[mode];
+    }
+
+    /**
+     * Wartet kurz auf ausstehende Schreibvorgänge, damit beim Beenden keine Runde verloren geht.
+     */
+    public void dispose() {
+        if (writer == null) return;
+        writer.shutdown();
+        try {
+            writer.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+}
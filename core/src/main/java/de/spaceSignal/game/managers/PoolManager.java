@@ -0,0 +1,102 @@
+package de.spaceSignal.game.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+
+import de.spaceSignal.game.util.InstrumentedPool;
+
+/**
+ * Kennt alle instrumentierten Pools, zeigt ihre Zahlen im Debug-Overlay (F3)
+ * und schreibt sie periodisch als eine Log-Zeile.
+ * Angemeldet sind nur Pools, deren Besitzer gerade läuft; Pools eines verlassenen Spielmodus
+ * werden nicht mehr getickt und melden sich ab, sonst stünden ihre alten Zahlen weiter hier.
+ */
+public class PoolManager {
+    private static PoolManager instance;
+
+    private static final String TAG = "Pools";
+    // 30 Sekunden bei 60 Ticks
+    private static final int LOG_INTERVAL_FRAMES = 1800;
+
+    private final Array<InstrumentedPool<?>> pools;
+    // Overlay-Namen pro Pool einmalig zusammensetzen statt jeden Frame
+    private final Array<String[]> counterNames;
+    private final StringBuilder logBuilder;
+    private int frame;
+
+    private PoolManager() {
+        pools = new Array<>();
+        counterNames = new Array<>();
+        logBuilder = new StringBuilder(128);
+    }
+
+    public static PoolManager getInstance() {
+        if (instance == null) {
+            instance = new PoolManager();
+        }
+        return instance;
+    }
+
+    public void register(InstrumentedPool<?> pool) {
+        if (pools.contains(pool, true)) return;
+        pools.add(pool);
+        String name = pool.getName();
+        counterNames.add(new String[] {
+            name + " live", name + " peak", name + " free", name + " leaks"
+        });
+    }
+
+    public void unregister(InstrumentedPool<?> pool) {
+        int index = pools.indexOf(pool, true);
+        if (index < 0) return;
+        pools.removeIndex(index);
+        String[] names = counterNames.removeIndex(index);
+        ProfilerManager profiler = ProfilerManager.getInstance();
+        for (String name : names) {
+            profiler.removeCounter(name);
+        }
+    }
+
+    /**
+     * Einmal pro Simulationsschritt: Overlay-Zähler setzen und periodisch loggen
+     */
+    public void update() {
+        ProfilerManager profiler = ProfilerManager.getInstance();
+        for (int i = 0; i < pools.size; i++) {
+            InstrumentedPool<?> pool = pools.get(i);
+            String[] names = counterNames.get(i);
+            profiler.setCounter(names[0], pool.getLive());
+            profiler.setCounter(names[1], pool.getPeakLive());
+            profiler.setCounter(names[2], pool.getFree());
+            profiler.setCounter(names[3], pool.getLeakSuspects());
+        }
+
+        frame++;
+        if (frame % LOG_INTERVAL_FRAMES == 0) {
+            log();
+        }
+    }
+
+    /**
+     * Eine Zeile mit allen Pools, z.B. "Bullet: live 12 peak 40 free 28 obtained 1234 freed 1222 leaks 0"
+     */
+    public void log() {
+        if (pools.size == 0) return;
+        logBuilder.setLength(0);
+        for (int i = 0; i < pools.size; i++) {
+            InstrumentedPool<?> pool = pools.get(i);
+            if (i > 0) logBuilder.append(" | ");
+            logBuilder.append(pool.getName())
+                .append(": live ").append(pool.getLive())
+                .append(" peak ").append(pool.getPeakLive())
+                .append(" free ").append(pool.getFree())
+                .append(" obtained ").append(pool.getObtainCount())
+                .append(" freed ").append(pool.getFreeCount())
+                .append(" leaks ").append(pool.getLeakSuspects());
+            if (pool.getInvalidFrees() > 0) {
+                logBuilder.append(" invalid frees ").append(pool.getInvalidFrees());
+            }
+        }
+        Gdx.app.log(TAG, logBuilder.toString());
+    }
+}
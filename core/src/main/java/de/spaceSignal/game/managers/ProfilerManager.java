@@ -0,0 +1,92 @@
+package de.spaceSignal.game.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import de.spaceSignal.game.util.Constants;
+
+/**
+ * Sammelt Laufzeit-Zähler (z.B. gezeichnete/verworfene Sprites) und zeigt sie
+ * als Debug-Overlay an. Umschalten im Spiel mit F3.
+ */
+public class ProfilerManager {
+    private static ProfilerManager instance;
+
+    private final ObjectIntMap<String> counters;
+    private final Array<String> counterOrder;
+    private final StringBuilder lineBuilder;
+    private boolean enabled;
+
+    private ProfilerManager() {
+        counters = new ObjectIntMap<>();
+        counterOrder = new Array<>();
+        lineBuilder = new StringBuilder(64);
+        enabled = false;
+    }
+
+    public static ProfilerManager getInstance() {
+        if (instance == null) {
+            instance = new ProfilerManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Setzt einen Zähler auf den aktuellen Wert. Neue Zähler werden in der
+     * Reihenfolge ihres ersten Auftretens im Overlay angezeigt.
+     */
+    public void setCounter(String name, int value) {
+        if (!counters.containsKey(name)) {
+            counterOrder.add(name);
+        }
+        counters.put(name, value);
+    }
+
+    /**
+     * Entfernt einen Zähler aus dem Overlay, z.B. wenn sein Besitzer nicht mehr läuft
+     */
+    public void removeCounter(String name) {
+        counters.remove(name, 0);
+        counterOrder.removeValue(name, false);
+    }
+
+    public int getCounter(String name) {
+        return counters.get(name, 0);
+    }
+
+    public void render(SpriteBatch batch, BitmapFont font) {
+        if (!enabled) return;
+
+        float x = Constants.SCREEN_WIDTH - 220;
+        float y = Constants.SCREEN_HEIGHT - 10;
+
+        font.setColor(0.4f, 1f, 0.4f, 1f);
+        lineBuilder.setLength(0);
+        lineBuilder.append("FPS: ").append(Gdx.graphics.getFramesPerSecond());
+        font.draw(batch, lineBuilder, x, y);
+
+        for (int i = 0; i < counterOrder.size; i++) {
+            String name = counterOrder.get(i);
+            y -= 20;
+            lineBuilder.setLength(0);
+            lineBuilder.append(name).append(": ").append(counters.get(name, 0));
+            font.draw(batch, lineBuilder, x, y);
+        }
+        font.setColor(1, 1, 1, 1);
+    }
+
+    public void toggle() {
+        enabled = !enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
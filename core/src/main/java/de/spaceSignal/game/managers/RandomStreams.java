@@ -0,0 +1,67 @@
+package de.spaceSignal.game.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import de.spaceSignal.game.util.RandomStream;
+
+/**
+ * Getrennte Zufallsströme pro Subsystem, alle aus einem Start-Seed abgeleitet:
+ * <ul>
+ * <li>spawn: Gegner, Formationen, Asteroiden, Hindernisse, Boss-Feuerrhythmus</li>
+ * <li>loot: ob und welches Upgrade oder Power-Up erscheint</li>
+ * <li>visuals: Partikel und Explosionen, beeinflusst die Simulation nie</li>
+ * </ul>
+ * Mit gleichem Seed und gleichen Eingaben verläuft eine Runde damit gleich, auch wenn
+ * z.B. mehr oder weniger Partikel entstehen.
+ */
+public class RandomStreams {
+    private static RandomStreams instance;
+
+    private static final String TAG = "RandomStreams";
+
+    private final RandomStream spawn;
+    private final RandomStream loot;
+    private final RandomStream visuals;
+    private long seed;
+
+    private RandomStreams() {
+        spawn = new RandomStream("spawn", 1);
+        loot = new RandomStream("loot", 2);
+        visuals = new RandomStream("visuals", 3);
+        seed(TimeUtils.millis());
+    }
+
+    public static RandomStreams getInstance() {
+        if (instance == null) {
+            instance = new RandomStreams();
+        }
+        return instance;
+    }
+
+    /**
+     * Setzt alle Ströme neu; jeder bekommt einen eigenen, aus dem Seed abgeleiteten Startwert
+     */
+    public void seed(long seed) {
+        this.seed = seed;
+        spawn.setSeed(split(seed, 1));
+        loot.setSeed(split(seed, 2));
+        visuals.setSeed(split(seed, 3));
+        if (Gdx.app != null) {
+            Gdx.app.debug(TAG, "seed " + seed);
+        }
+    }
+
+    // SplitMix64: benachbarte Stream-Nummern ergeben unkorrelierte Startwerte
+    private static long split(long seed, int stream) {
+        long z = seed + stream * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public RandomStream spawn() { return spawn; }
+    public RandomStream loot() { return loot; }
+    public RandomStream visuals() { return visuals; }
+    public long getSeed() { return seed; }
+}
@@ -0,0 +1,249 @@
+package de.spaceSignal.game.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dauerhafte Einstellungen (Audio, VSync, FPS-Limit, Fenstergröße, Profiler).
+ * Wird einmalig beim Start geladen und auf AudioManager/ProfilerManager angewendet.
+ * Änderungen werden nur als "dirty" markiert und erst nach einer kurzen Ruhephase
+ * gesammelt auf einem Hintergrund-Thread geschrieben, damit z.B. gehaltene
+ * Lautstärke-Tasten keine Schreibzugriffe pro Frame auslösen.
+ */
+public class SettingsManager {
+    private static SettingsManager instance;
+
+    /** Name der Preferences-Datei (Desktop: ~/.prefs/SpaceSignal) */
+    public static final String PREFERENCES_NAME = "SpaceSignal";
+
+    public static final String KEY_MUSIC_VOLUME = "musicVolume";
+    public static final String KEY_SOUND_VOLUME = "soundVolume";
+    public static final String KEY_MUSIC_ENABLED = "musicEnabled";
+    public static final String KEY_SOUND_ENABLED = "soundEnabled";
+    public static final String KEY_VSYNC = "vsync";
+    public static final String KEY_FPS_CAP = "fpsCap";
+    public static final String KEY_WINDOW_WIDTH = "windowWidth";
+    public static final String KEY_WINDOW_HEIGHT = "windowHeight";
+    public static final String KEY_PROFILER = "profiler";
+    public static final String KEY_ASTEROID_PHYSICS = "asteroidPhysics";
+
+    // Nur vom Launcher gelesen (siehe LaunchOptions), bleiben beim Speichern erhalten
+    public static final String KEY_IDLE_FPS = "idleFps";
+    public static final String KEY_GL_BACKEND = "glBackend";
+    public static final String KEY_MSAA = "msaa";
+    public static final String KEY_WINDOW_MODE = "windowMode";
+
+    /** Auswählbare FPS-Limits, 0 = Bildwiederholrate des Monitors */
+    public static final int[] FPS_CAP_OPTIONS = {0, 30, 60, 120, 144, 240};
+
+    public static final int DEFAULT_WINDOW_WIDTH = 640;
+    public static final int DEFAULT_WINDOW_HEIGHT = 480;
+
+    // Ruhephase nach der letzten Änderung, bevor geschrieben wird
+    private static final long FLUSH_DELAY_MS = 500;
+
+    private Preferences preferences;
+    private ExecutorService writer;
+    private Future<?> pendingFlush;
+
+    private boolean vsync = true;
+    private int fpsCap = 0;
+    private int windowWidth = DEFAULT_WINDOW_WIDTH;
+    private int windowHeight = DEFAULT_WINDOW_HEIGHT;
+    // Asteroid Dodger mit Box2D statt der einfachen Bewegung
+    private boolean asteroidPhysics = false;
+
+    private boolean dirty;
+    private long lastChangeTime;
+    private int flushCount;
+
+    private SettingsManager() {
+        // Private Konstruktor für Singleton
+    }
+
+    public static SettingsManager getInstance() {
+        if (instance == null) {
+            instance = new SettingsManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Liest die Einstellungen und wendet Audio- und Profiler-Werte an.
+     * Muss vor dem Laden der Assets aufgerufen werden, damit die Musik mit der
+     * gespeicherten Lautstärke startet.
+     */
+    public void load() {
+        if (preferences != null) return;
+        preferences = Gdx.app.getPreferences(PREFERENCES_NAME);
+
+        AudioManager audio = AudioManager.getInstance();
+        audio.setMusicVolume(preferences.getFloat(KEY_MUSIC_VOLUME, audio.getMusicVolume()));
+        audio.setSoundVolume(preferences.getFloat(KEY_SOUND_VOLUME, audio.getSoundVolume()));
+        audio.setMusicEnabled(preferences.getBoolean(KEY_MUSIC_ENABLED, audio.isMusicEnabled()));
+        audio.setSoundEnabled(preferences.getBoolean(KEY_SOUND_ENABLED, audio.isSoundEnabled()));
+
+        ProfilerManager.getInstance().setEnabled(preferences.getBoolean(KEY_PROFILER, false));
+
+        vsync = preferences.getBoolean(KEY_VSYNC, vsync);
+        fpsCap = Math.max(0, preferences.getInteger(KEY_FPS_CAP, fpsCap));
+        windowWidth = preferences.getInteger(KEY_WINDOW_WIDTH, windowWidth);
+        windowHeight = preferences.getInteger(KEY_WINDOW_HEIGHT, windowHeight);
+        asteroidPhysics = preferences.getBoolean(KEY_ASTEROID_PHYSICS, asteroidPhysics);
+        // VSync, FPS-Limit und Fenster setzt der Launcher beim Start aus derselben Datei,
+        // ggf. von der Kommandozeile überschrieben; daher hier nicht erneut anwenden
+    }
+
+    /**
+     * Merkt eine Änderung vor. Audio- und Profiler-Werte werden beim Schreiben
+     * direkt aus AudioManager/ProfilerManager übernommen.
+     */
+    public void markDirty() {
+        dirty = true;
+        lastChangeTime = TimeUtils.millis();
+    }
+
+    /**
+     * Einmal pro Frame aufrufen; schreibt, sobald seit der letzten Änderung
+     * die Ruhephase verstrichen ist.
+     */
+    public void update() {
+        if (!dirty || preferences == null) return;
+        if (TimeUtils.timeSinceMillis(lastChangeTime) < FLUSH_DELAY_MS) return;
+        // Preferences nicht anfassen, solange der letzte Schreibvorgang noch läuft
+        if (pendingFlush != null && !pendingFlush.isDone()) return;
+
+        storeValues();
+        dirty = false;
+        pendingFlush = getWriter().submit(new Runnable() {
+            @Override
+            public void run() {
+                preferences.flush();
+            }
+        });
+        flushCount++;
+    }
+
+    private void storeValues() {
+        AudioManager audio = AudioManager.getInstance();
+        preferences.putFloat(KEY_MUSIC_VOLUME, audio.getMusicVolume());
+        preferences.putFloat(KEY_SOUND_VOLUME, audio.getSoundVolume());
+        preferences.putBoolean(KEY_MUSIC_ENABLED, audio.isMusicEnabled());
+        preferences.putBoolean(KEY_SOUND_ENABLED, audio.isSoundEnabled());
+        preferences.putBoolean(KEY_PROFILER, ProfilerManager.getInstance().isEnabled());
+        preferences.putBoolean(KEY_VSYNC, vsync);
+        preferences.putInteger(KEY_FPS_CAP, fpsCap);
+        preferences.putInteger(KEY_WINDOW_WIDTH, windowWidth);
+        preferences.putInteger(KEY_WINDOW_HEIGHT, windowHeight);
+        preferences.putBoolean(KEY_ASTEROID_PHYSICS, asteroidPhysics);
+    }
+
+    private ExecutorService getWriter() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "SettingsWriter");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return writer;
+    }
+
+    // Grafik-Einstellungen; Änderungen wirken sofort, Fenstergröße erst beim nächsten Start
+
+    public void setVsync(boolean vsync) {
+        this.vsync = vsync;
+        Gdx.graphics.setVSync(vsync);
+        markDirty();
+    }
+
+    public void toggleVsync() {
+        setVsync(!vsync);
+    }
+
+    public void setFpsCap(int fpsCap) {
+        this.fpsCap = Math.max(0, fpsCap);
+        Gdx.graphics.setForegroundFPS(getEffectiveFpsCap());
+        markDirty();
+    }
+
+    /**
+     * Wechselt zum nächsten/vorherigen Eintrag aus {@link #FPS_CAP_OPTIONS}
+     */
+    public void cycleFpsCap(int direction) {
+        int index = 0;
+        for (int i = 0; i < FPS_CAP_OPTIONS.length; i++) {
+            if (FPS_CAP_OPTIONS[i] == fpsCap) index = i;
+        }
+        index = (index + direction + FPS_CAP_OPTIONS.length) % FPS_CAP_OPTIONS.length;
+        setFpsCap(FPS_CAP_OPTIONS[index]);
+    }
+
+    /**
+     * FPS-Limit für das Backend; 0 = Monitor-Bildwiederholrate + 1 (wie im Launcher)
+     */
+    public int getEffectiveFpsCap() {
+        if (fpsCap > 0) return fpsCap;
+        // Ohne Monitor (z.B. Headless) gibt es keinen Display-Modus
+        Graphics.DisplayMode displayMode = Gdx.graphics.getDisplayMode();
+        return (displayMode != null ? displayMode.refreshRate : 60) + 1;
+    }
+
+    public void setWindowSize(int width, int height) {
+        if (width <= 0 || height <= 0) return;
+        if (width == windowWidth && height == windowHeight) return;
+        windowWidth = width;
+        windowHeight = height;
+        markDirty();
+    }
+
+    /**
+     * Gilt ab der nächsten Runde im Asteroid Dodger
+     */
+    public void setAsteroidPhysics(boolean asteroidPhysics) {
+        this.asteroidPhysics = asteroidPhysics;
+        markDirty();
+    }
+
+    public void toggleAsteroidPhysics() {
+        setAsteroidPhysics(!asteroidPhysics);
+    }
+
+    public boolean isVsync() { return vsync; }
+    public int getFpsCap() { return fpsCap; }
+    public int getWindowWidth() { return windowWidth; }
+    public int getWindowHeight() { return windowHeight; }
+    public boolean isAsteroidPhysics() { return asteroidPhysics; }
+    public int getFlushCount() { return flushCount; }
+
+    /**
+     * Schreibt ausstehende Änderungen synchron (beim Beenden)
+     */
+    public void dispose() {
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+        if (dirty && preferences != null) {
+            storeValues();
+            preferences.flush();
+            dirty = false;
+        }
+    }
+}
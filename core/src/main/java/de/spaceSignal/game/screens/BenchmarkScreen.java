@@ -0,0 +1,168 @@
+package de.spaceSignal.game.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.TimeUtils;
+import de.spaceSignal.game.Main;
+import de.spaceSignal.game.managers.HighScoreManager;
+import de.spaceSignal.game.managers.RandomStreams;
+import de.spaceSignal.game.systems.BotInput;
+import de.spaceSignal.game.util.FrameTimeStats;
+import de.spaceSignal.game.util.ProcessStats;
+
+import java.util.Locale;
+
+/**
+ * Reproduzierbare Benchmark-Szene: ein Bot spielt nacheinander die gewählten Modi
+ * mit festem Zufalls-Seed, während die echte Frame-Zeit (Update + Rendern + Swap) gemessen wird.
+ * Beim Beenden werden durchschnittliche FPS und Perzentile ausgegeben, um Backends
+ * (ANGLE/natives GL), MSAA-Stufen und Rechner miteinander zu vergleichen.
+ */
+public class BenchmarkScreen extends BaseScreen {
+    private static final String TAG = "Benchmark";
+
+    /**
+     * Ablauf des Benchmarks; wird vom Launcher befüllt
+     */
+    public static class Options {
+        public String[] modes = HighScoreManager.MODES;
+        public float secondsPerMode = 15f;
+        /** Anlaufzeit pro Modus, die nicht mitgemessen wird (JIT, Texturen, Pools) */
+        public float warmupSeconds = 2f;
+        public long seed = 1234L;
+        /** Beschreibung der Konfiguration für den Bericht, z.B. "gl=angle msaa=4" */
+        public String label = "";
+    }
+
+    private final Options options;
+    private final GameScreen gameScreen;
+
+    private final FrameTimeStats modeFrameTimes;
+    private final FrameTimeStats totalFrameTimes;
+
+    private int modeIndex;
+    private float modeTime;
+    private int rounds;
+    private int totalRounds;
+    private long lastFrameTime;
+    private long measureStartTime;
+    private double totalMeasuredSeconds;
+    private boolean finished;
+
+    public BenchmarkScreen(Main game, Options options) {
+        super(game);
+        this.options = options;
+        gameScreen = new GameScreen(game, new BotInput());
+
+        // Platz für ca. 1000 FPS über die gesamte Messzeit, wächst bei Bedarf
+        int expectedFrames = (int) (options.secondsPerMode * 1000);
+        modeFrameTimes = new FrameTimeStats(expectedFrames);
+        totalFrameTimes = new FrameTimeStats(expectedFrames * options.modes.length);
+    }
+
+    @Override
+    public void show() {
+        Gdx.app.log(TAG, "Renderer: " + Gdx.gl.glGetString(GL20.GL_RENDERER)
+            + " / " + Gdx.gl.glGetString(GL20.GL_VERSION));
+        Gdx.app.log(TAG, String.format(Locale.ROOT, "%s | %d mode(s), %.0f s each (+%.0f s warm-up)",
+            options.label, options.modes.length, options.secondsPerMode, options.warmupSeconds));
+        startMode(0);
+    }
+
+    private void startMode(int index) {
+        modeIndex = index;
+        modeTime = 0;
+        rounds = 1;
+        totalRounds++;
+        modeFrameTimes.clear();
+        // Gleicher Seed => gleiche Gegnerwellen in jedem Durchlauf
+        RandomStreams.getInstance().seed(options.seed);
+        gameScreen.reset(options.modes[index]);
+        lastFrameTime = 0;
+        measureStartTime = 0;
+    }
+
+    @Override
+    public void render(float delta) {
+        if (finished) return;
+
+        // Abstand zwischen zwei render()-Aufrufen = komplette Frame-Zeit inkl. Buffer-Swap
+        long now = TimeUtils.nanoTime();
+        if (lastFrameTime != 0 && modeTime >= options.warmupSeconds) {
+            if (measureStartTime == 0) measureStartTime = lastFrameTime;
+            float frameMs = (now - lastFrameTime) / 1_000_000f;
+            modeFrameTimes.add(frameMs);
+            totalFrameTimes.add(frameMs);
+        }
+        lastFrameTime = now;
+        modeTime += delta;
+
+        // Runde vorbei: im selben Modus neu starten statt zum Game Over Screen zu wechseln
+        if (gameScreen.isGameOver()) {
+            gameScreen.reset(options.modes[modeIndex]);
+            rounds++;
+            totalRounds++;
+        }
+        gameScreen.render(delta);
+
+        if (modeTime >= options.warmupSeconds + options.secondsPerMode) {
+            double seconds = (now - measureStartTime) / 1_000_000_000.0;
+            totalMeasuredSeconds += seconds;
+            report(options.modes[modeIndex], modeFrameTimes, rounds, seconds);
+            if (modeIndex + 1 < options.modes.length) {
+                startMode(modeIndex + 1);
+            } else {
+                finish();
+                Gdx.app.exit();
+            }
+        }
+    }
+
+    private void report(String name, FrameTimeStats frameTimes, int rounds, double seconds) {
+        if (frameTimes.getCount() == 0) return;
+        Gdx.app.log(TAG, String.format(Locale.ROOT,
+            "[%s] %d frames, %d round(s): avg %.1f FPS  p50 %.1f  p95 %.1f  p99 %.1f FPS (1%% low)",
+            name, frameTimes.getCount(), rounds, frameTimes.getCount() / seconds,
+            toFps(frameTimes.getPercentile(50)), toFps(frameTimes.getPercentile(95)),
+            toFps(frameTimes.getPercentile(99))));
+        Gdx.app.log(TAG, String.format(Locale.ROOT,
+            "  frame ms: avg %.3f  p50 %.3f  p95 %.3f  p99 %.3f  max %.3f",
+            frameTimes.getAverage(), frameTimes.getPercentile(50), frameTimes.getPercentile(95),
+            frameTimes.getPercentile(99), frameTimes.getMax()));
+    }
+
+    /**
+     * Gesamtbericht; wird auch bei vorzeitigem Schließen des Fensters ausgegeben
+     */
+    private void finish() {
+        if (finished) return;
+        finished = true;
+        if (modeFrameTimes.getCount() > 0 && modeTime < options.warmupSeconds + options.secondsPerMode) {
+            double seconds = (lastFrameTime - measureStartTime) / 1_000_000_000.0;
+            totalMeasuredSeconds += seconds;
+            report(options.modes[modeIndex] + ", aborted", modeFrameTimes, rounds, seconds);
+        }
+        if (totalMeasuredSeconds > 0) {
+            report("Total", totalFrameTimes, totalRounds, totalMeasuredSeconds);
+        }
+        long peakResidentKb = ProcessStats.getPeakResidentKb();
+        if (peakResidentKb >= 0) {
+            Gdx.app.log(TAG, String.format(Locale.ROOT, "Peak RSS: %.1f MB", peakResidentKb / 1024.0));
+        }
+    }
+
+    private static float toFps(float frameMs) {
+        return frameMs > 0 ? 1000f / frameMs : 0;
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        gameScreen.resize(width, height);
+    }
+
+    @Override
+    public void dispose() {
+        finish();
+        gameScreen.dispose();
+    }
+}
@@ -19,6 +19,7 @@ public class CreditsScreen extends BaseScreen {
     private BitmapFont highlightedFont;
     private GlyphLayout layout;
     private ScrollingBackground background;
+    private Texture solidTexture;
     private float scrollOffset = 0;
     private float animationTimer = 0;
     private int currentHighlightedIndex = -1;
@@ -112,12 +113,20 @@ public class CreditsScreen extends BaseScreen {
         super(game);
         initializeFonts();
         layout = new GlyphLayout();
-        initializeBackground();
+        background = ScreenRegistry.createBackground();
+        solidTexture = createSolidTexture();
 
         // Start mit erstem Element unten
         scrollOffset = Constants.SCREEN_HEIGHT;
     }
 
+    @Override
+    public void show() {
+        // Bei jedem Aufruf wieder von unten starten
+        scrollOffset = Constants.SCREEN_HEIGHT;
+        animationTimer = 0;
+    }
+
     private void initializeFonts() {
         try {
             FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/Orbitron-Regular.ttf"));
@@ -165,19 +174,6 @@ public class CreditsScreen extends BaseScreen {
         }
     }
 
-    private void initializeBackground() {
-        try {
-            String bgPath = "textures/background.png";
-            if (Gdx.files.internal(bgPath).exists()) {
-                background = new ScrollingBackground(new Texture(Gdx.files.internal(bgPath)));
-                // Hintergrund-Scrolling wird automatisch langsamer sein,
-                // da das Background-Update mit delta passiert
-            }
-        } catch (Exception e) {
-            Gdx.app.error("CreditsScreen", "Failed to initialize background", e);
-        }
-    }
-
     @Override
     public void render(float delta) {
         Gdx.gl.glClearColor(0.01f, 0.01f, 0.05f, 1f);
@@ -216,8 +212,7 @@ public class CreditsScreen extends BaseScreen {
         }
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            game.setScreen(new MainMenuScreen(game));
-            dispose();
+            game.screens.showMainMenu();
         }
     }
 
@@ -246,11 +241,11 @@ public class CreditsScreen extends BaseScreen {
             
             // Zweite Ebene: Dunkleres Overlay mit Verlauf
             game.batch.setColor(0.02f, 0.02f, 0.08f, 0.7f);
-            game.batch.draw(createSolidTexture(), 0, 0, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT / 2f);
+            game.batch.draw(solidTexture, 0, 0, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT / 2f);
             
             // Dritte Ebene: Noch dunkleres Overlay für die untere Hälfte
             game.batch.setColor(0.01f, 0.01f, 0.04f, 0.8f);
-            game.batch.draw(createSolidTexture(), 0, Constants.SCREEN_HEIGHT / 2f, 
+            game.batch.draw(solidTexture, 0, Constants.SCREEN_HEIGHT / 2f, 
                           Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT / 2f);
         }
 
@@ -309,7 +304,7 @@ public class CreditsScreen extends BaseScreen {
                 float highlightAlpha = alphaFade * 0.5f * highlightFactor;
 
                 game.batch.setColor(0.1f, 0.3f, 0.6f, highlightAlpha);
-                game.batch.draw(createSolidTexture(),
+                game.batch.draw(solidTexture,
                     centerX - layout.width / 2 - padding,
                     y - layout.height / 2 - padding / 2,
                     layout.width + padding * 2,
@@ -364,5 +359,6 @@ public class CreditsScreen extends BaseScreen {
         if (creditsFont != null) creditsFont.dispose();
         if (highlightedFont != null) highlightedFont.dispose();
         if (background != null) background.dispose();
+        if (solidTexture != null) solidTexture.dispose();
     }
 }
@@ -10,6 +10,7 @@ import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.MathUtils;
 import de.spaceSignal.game.Main;
+import de.spaceSignal.game.managers.HighScoreManager;
 import de.spaceSignal.game.util.Constants;
 import de.spaceSignal.game.util.ScrollingBackground;
 
@@ -17,17 +18,20 @@ import de.spaceSignal.game.util.ScrollingBackground;
  * Dedizierter Game Over Screen mit Statistiken und Optionen
  */
 public class GameOverScreen extends BaseScreen {
-    private BitmapFont titleFont;
+    private BitmapFont victoryTitleFont;
+    private BitmapFont gameOverTitleFont;
     private BitmapFont statsFont;
     private BitmapFont menuFont;
     private GlyphLayout layout;
     private ScrollingBackground background;
+    private Texture solidTexture;
 
-    private final String gameMode;
-    private final int finalScore;
-    private final int wave;
-    private final boolean isVictory;
-    private final String victoryMessage;
+    private String gameMode;
+    private int finalScore;
+    private int wave;
+    private boolean isVictory;
+    private String victoryMessage;
+    private String[] stats;
 
     private float animationTimer;
     private float fadeInTimer;
@@ -72,23 +76,42 @@ public class GameOverScreen extends BaseScreen {
 
     private java.util.ArrayList<Particle> particles;
 
-    public GameOverScreen(Main game, String gameMode, int finalScore, int wave,
-                          boolean isVictory, String victoryMessage) {
+    public GameOverScreen(Main game) {
         super(game);
+        this.particles = new java.util.ArrayList<>();
+
+        initializeFonts();
+        background = ScreenRegistry.createBackground();
+        solidTexture = createSolidTexture();
+        layout = new GlyphLayout();
+    }
+
+    /**
+     * Übernimmt das Ergebnis der letzten Runde. Fonts und Texturen bleiben erhalten.
+     */
+    public void reset(String gameMode, int finalScore, int wave, boolean isVictory, String victoryMessage) {
         this.gameMode = gameMode;
         this.finalScore = finalScore;
         this.wave = wave;
         this.isVictory = isVictory;
         this.victoryMessage = victoryMessage;
 
+        // Runde dauerhaft speichern; Rang 1 = neuer Highscore im Modus
+        HighScoreManager highScores = HighScoreManager.getInstance();
+        int rank = highScores.recordRun(gameMode, finalScore, wave, isVictory);
+        String scoreLine = rank == 1 && finalScore > 0
+            ? "New High Score: " + finalScore + "!"
+            : "Final Score: " + finalScore + " (Best: " + highScores.getBestScore(gameMode) + ")";
+        this.stats = new String[] {
+            "Mode: " + gameMode,
+            scoreLine,
+            "Wave: " + wave
+        };
+
         this.animationTimer = 0;
         this.fadeInTimer = 0;
         this.selectedOption = 0;
-        this.particles = new java.util.ArrayList<>();
-
-        initializeFonts();
-        initializeBackground();
-        layout = new GlyphLayout();
+        this.particles.clear();
 
         // Victory-Partikel spawnen
         if (isVictory) {
@@ -105,12 +128,14 @@ public class GameOverScreen extends BaseScreen {
                 new FreeTypeFontGenerator.FreeTypeFontParameter();
             float scaleFactor = Constants.SCREEN_WIDTH / 1280f;
 
-            // Titel-Font (Game Over / Victory)
+            // Titel-Fonts (Victory / Game Over), beide vorab erzeugt, da der Screen wiederverwendet wird
             param.size = (int) (64 * scaleFactor);
-            param.color = isVictory ? new Color(0.2f, 1f, 0.2f, 1f) : new Color(1f, 0.2f, 0.2f, 1f);
+            param.color = new Color(0.2f, 1f, 0.2f, 1f);
             param.borderColor = Color.BLACK;
             param.borderWidth = 3 * scaleFactor;
-            titleFont = generator.generateFont(param);
+            victoryTitleFont = generator.generateFont(param);
+            param.color = new Color(1f, 0.2f, 0.2f, 1f);
+            gameOverTitleFont = generator.generateFont(param);
 
             // Stats-Font
             param.size = (int) (28 * scaleFactor);
@@ -129,8 +154,10 @@ public class GameOverScreen extends BaseScreen {
             generator.dispose();
         } catch (Exception e) {
             Gdx.app.error("GameOverScreen", "Font error", e);
-            titleFont = new BitmapFont();
-            titleFont.getData().setScale(3f);
+            victoryTitleFont = new BitmapFont();
+            victoryTitleFont.getData().setScale(3f);
+            gameOverTitleFont = new BitmapFont();
+            gameOverTitleFont.getData().setScale(3f);
             statsFont = new BitmapFont();
             statsFont.getData().setScale(1.5f);
             menuFont = new BitmapFont();
@@ -138,17 +165,6 @@ public class GameOverScreen extends BaseScreen {
         }
     }
 
-    private void initializeBackground() {
-        try {
-            String bgPath = "textures/background.png";
-            if (Gdx.files.internal(bgPath).exists()) {
-                background = new ScrollingBackground(new Texture(Gdx.files.internal(bgPath)));
-            }
-        } catch (Exception e) {
-            Gdx.app.error("GameOverScreen", "Background error", e);
-        }
-    }
-
     private void spawnVictoryParticles() {
         for (int i = 0; i < 50; i++) {
             particles.add(new Particle(
@@ -207,12 +223,10 @@ public class GameOverScreen extends BaseScreen {
     private void handleSelection() {
         switch (menuOptions[selectedOption]) {
             case "Retry":
-                game.setScreen(new GameScreen(game, gameMode));
-                dispose();
+                game.screens.showGame(gameMode);
                 break;
             case "Main Menu":
-                game.setScreen(new MainMenuScreen(game));
-                dispose();
+                game.screens.showMainMenu();
                 break;
             case "Exit":
                 Gdx.app.exit();
@@ -232,12 +246,13 @@ public class GameOverScreen extends BaseScreen {
 
         // Dunkles Overlay
         game.batch.setColor(0, 0, 0, 0.7f * fadeInTimer);
-        game.batch.draw(createSolidTexture(), 0, 0, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT);
+        game.batch.draw(solidTexture, 0, 0, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT);
         game.batch.setColor(1, 1, 1, 1);
 
         float alpha = fadeInTimer;
 
         // Titel (Game Over / Victory)
+        BitmapFont titleFont = isVictory ? victoryTitleFont : gameOverTitleFont;
         String titleText = isVictory ? "VICTORY!" : "GAME OVER";
         float pulse = MathUtils.sin(animationTimer * 3f) * 0.15f + 0.85f;
 
@@ -262,11 +277,6 @@ public class GameOverScreen extends BaseScreen {
 
         // Statistiken
         statsFont.setColor(0.9f, 0.9f, 1f, alpha * 0.9f);
-        String[] stats = {
-            "Mode: " + gameMode,
-            "Final Score: " + finalScore,
-            "Wave: " + wave
-        };
 
         float statsY = Constants.SCREEN_HEIGHT * 0.55f;
         for (int i = 0; i < stats.length; i++) {
@@ -296,10 +306,9 @@ public class GameOverScreen extends BaseScreen {
         }
 
         // Partikel rendern
-        Texture particleTexture = createSolidTexture();
         for (Particle p : particles) {
             game.batch.setColor(p.color);
-            game.batch.draw(particleTexture, p.x - 3, p.y - 3, 6, 6);
+            game.batch.draw(solidTexture, p.x - 3, p.y - 3, 6, 6);
         }
         game.batch.setColor(1, 1, 1, 1);
 
@@ -314,9 +323,11 @@ public class GameOverScreen extends BaseScreen {
 
     @Override
     public void dispose() {
-        if (titleFont != null) titleFont.dispose();
+        if (victoryTitleFont != null) victoryTitleFont.dispose();
+        if (gameOverTitleFont != null) gameOverTitleFont.dispose();
         if (statsFont != null) statsFont.dispose();
         if (menuFont != null) menuFont.dispose();
         if (background != null) background.dispose();
+        if (solidTexture != null) solidTexture.dispose();
     }
 }
@@ -3,19 +3,19 @@ package de.spaceSignal.game.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.ScreenUtils;
 import de.spaceSignal.game.Main;
 import de.spaceSignal.game.entities.Bullet;
-import de.spaceSignal.game.entities.Enemy;
-import de.spaceSignal.game.entities.Player;
-import de.spaceSignal.game.entities.Upgrade;
-import de.spaceSignal.game.levels.*;
-import de.spaceSignal.game.managers.AssetManager;
+import de.spaceSignal.game.levels.GameMode;
+import de.spaceSignal.game.levels.GameSession;
+import de.spaceSignal.game.managers.ProfilerManager;
+import de.spaceSignal.game.managers.SettingsManager;
+import de.spaceSignal.game.systems.CullingSystem;
+import de.spaceSignal.game.systems.InputSource;
+import de.spaceSignal.game.systems.KeyboardInput;
 import de.spaceSignal.game.util.Constants;
 import de.spaceSignal.game.util.ScrollingBackground;
 
@@ -26,36 +26,48 @@ public class GameScreen extends BaseScreen {
     private BitmapFont uiFont;
     private BitmapFont gameOverFont;
 
-    // Entities
-    private Player player;
-    private Array<Bullet> bullets;
-    private Array<Enemy> enemies;
-    private Array<Upgrade> upgrades;
-    private Pool<Bullet> bulletPool;
-
-    // Aktueller Spielmodus
-    private GameMode currentGameMode;
-    private String modeName;
+    // Simulation (Spieler, Gegner, Bullets, Spielmodus)
+    private final GameSession session;
 
     // Game State
-    private float gameOverTimer;
     private ScrollingBackground background;
 
-    public GameScreen(Main game, String modeName) {
+    // Kamera und Culling
+    private OrthographicCamera camera;
+    private CullingSystem culling;
+
+    public GameScreen(Main game) {
+        this(game, new KeyboardInput());
+    }
+
+    /**
+     * @param input Eingabequelle des Spielers, z.B. BotInput für den Benchmark
+     */
+    public GameScreen(Main game, InputSource input) {
         super(game);
-        this.modeName = modeName;
+
+        camera = new OrthographicCamera();
+        camera.setToOrtho(false, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT);
+        culling = new CullingSystem();
 
         initializeFonts();
-        initializeEntities();
-        initializeGameMode(modeName);
-
-        bulletPool = new Pool<Bullet>() {
-            @Override
-            protected Bullet newObject() {
-                return new Bullet(0, 0, 0, 0, 0,
-                    AssetManager.getInstance().getBulletTexture(), modeName);
-            }
-        };
+
+        session = new GameSession(input);
+        session.setCullingSystem(culling);
+
+        background = ScreenRegistry.createBackground();
+    }
+
+    /**
+     * Startet eine neue Runde im angegebenen Modus. Fonts, Texturen, Pool und
+     * bereits erzeugte Spielmodi bleiben erhalten, es wird nur der Zustand zurückgesetzt.
+     */
+    public void reset(String modeId) {
+        session.reset(modeId);
+    }
+
+    public boolean isGameOver() {
+        return session.isGameOver();
     }
 
     private void initializeFonts() {
@@ -88,51 +100,13 @@ public class GameScreen extends BaseScreen {
         }
     }
 
-    private void initializeEntities() {
-        Texture playerTexture = new Texture(Gdx.files.internal("textures/player.png"));
-        player = new Player(
-            Constants.SCREEN_WIDTH / 2 - Constants.PLAYER_WIDTH / 2,
-            50,
-            playerTexture
-        );
-
-        bullets = new Array<>();
-        enemies = new Array<>();
-        upgrades = new Array<>();
-
-        // Hintergrund
-        String bgPath = "textures/background.png";
-        if (Gdx.files.internal(bgPath).exists()) {
-            Texture bgTexture = new Texture(Gdx.files.internal(bgPath));
-            background = new ScrollingBackground(bgTexture);
-        }
-    }
-
-    private void initializeGameMode(String modeName) {
-        switch (modeName) {
-            case "Boss Rush":
-                currentGameMode = new BossRushMode(player, bullets, enemies, upgrades);
-                break;
-            case "Asteroid Dodger":
-                currentGameMode = new AsteroidDodgerMode(player, bullets, enemies, upgrades);
-                break;
-            case "Flappy":
-                currentGameMode = new FlappyMode(player, bullets, enemies, upgrades);
-                break;
-            case "Classic":
-            default:
-                currentGameMode = new ClassicMode(player, bullets, enemies, upgrades);
-                break;
-        }
-    }
-
     @Override
     public void render(float delta) {
         if (background == null) {
             ScreenUtils.clear(0.02f, 0.02f, 0.1f, 1f);
         }
 
-        if (currentGameMode.isGameOver()) {
+        if (session.isGameOver()) {
             handleGameOver(delta);
             return;
         }
@@ -146,77 +120,25 @@ public class GameScreen extends BaseScreen {
             background.update(delta);
         }
 
-        player.update(delta);
+        session.update(delta);
 
-        // Spieler-Schießen
-        if (Gdx.input.isKeyPressed(Input.Keys.SPACE) && player.canFire()) {
-            fireBullets();
-            player.resetFireTimer();
+        // F3 schaltet das Profiler-Overlay um
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            ProfilerManager.getInstance().toggle();
+            SettingsManager.getInstance().markDirty();
         }
 
-        // Bullets updaten
-        for (int i = bullets.size - 1; i >= 0; i--) {
-            Bullet bullet = bullets.get(i);
-            bullet.update(delta);
-            if (!bullet.isAlive()) {
-                bullets.removeIndex(i);
-                bulletPool.free(bullet);
-            }
-        }
-
-        // GameMode-spezifische Updates
-        currentGameMode.update(delta);
-        currentGameMode.checkGameOver();
-
         // ESC zum Hauptmenü
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            game.setScreen(new MainMenuScreen(game));
-            dispose();
-        }
-    }
-
-    private void fireBullets() {
-        float centerX = player.getPosition().x + Constants.PLAYER_WIDTH / 2;
-        float topY = player.getPosition().y + Constants.PLAYER_HEIGHT;
-        float damage = 10 * player.getDamageMultiplier();
-
-        switch (player.getBulletLevel()) {
-            case 1:
-                Bullet bullet1 = bulletPool.obtain();
-                bullet1.reset(centerX - Constants.BULLET_WIDTH / 2, topY, 0,
-                    Constants.BULLET_SPEED, damage);
-                bullets.add(bullet1);
-                break;
-
-            case 2:
-                Bullet bullet2a = bulletPool.obtain();
-                bullet2a.reset(centerX - Constants.BULLET_WIDTH / 2 - 10, topY, 0,
-                    Constants.BULLET_SPEED, damage);
-                Bullet bullet2b = bulletPool.obtain();
-                bullet2b.reset(centerX - Constants.BULLET_WIDTH / 2 + 10, topY, 0,
-                    Constants.BULLET_SPEED, damage);
-                bullets.add(bullet2a);
-                bullets.add(bullet2b);
-                break;
-
-            case 3:
-                Bullet bullet3a = bulletPool.obtain();
-                bullet3a.reset(centerX - Constants.BULLET_WIDTH / 2, topY, 0,
-                    Constants.BULLET_SPEED, damage);
-                Bullet bullet3b = bulletPool.obtain();
-                bullet3b.reset(centerX - Constants.BULLET_WIDTH / 2 - 15, topY, -50,
-                    Constants.BULLET_SPEED, damage);
-                Bullet bullet3c = bulletPool.obtain();
-                bullet3c.reset(centerX - Constants.BULLET_WIDTH / 2 + 15, topY, 50,
-                    Constants.BULLET_SPEED, damage);
-                bullets.add(bullet3a);
-                bullets.add(bullet3b);
-                bullets.add(bullet3c);
-                break;
+            game.screens.showMainMenu();
         }
     }
 
     private void draw() {
+        camera.update();
+        game.batch.setProjectionMatrix(camera.combined);
+        culling.begin(camera);
+
         game.batch.begin();
 
         // Hintergrund
@@ -225,53 +147,44 @@ public class GameScreen extends BaseScreen {
         }
 
         // Spieler und Bullets (immer rendern)
-        player.render(game.batch);
-        for (Bullet bullet : bullets) {
-            bullet.render(game.batch);
+        session.getPlayer().render(game.batch);
+        for (Bullet bullet : session.getBullets()) {
+            if (culling.isVisible(bullet.getBounds())) {
+                bullet.render(game.batch);
+            }
         }
 
         // GameMode-spezifische Entities
-        currentGameMode.renderEntities(game.batch);
+        GameMode gameMode = session.getGameMode();
+        gameMode.renderEntities(game.batch);
+        session.getParticles().render(game.batch, culling);
 
         // UI
-        currentGameMode.renderUI(game.batch, uiFont);
+        gameMode.renderUI(game.batch, uiFont);
+
+        culling.end();
+        ProfilerManager.getInstance().render(game.batch, uiFont);
 
         game.batch.end();
     }
 
     private void handleGameOver(float delta) {
         // Verwende den neuen dedizierten GameOverScreen
-        game.setScreen(new GameOverScreen(
-            game,
-            modeName,
-            currentGameMode.getScore(),
-            currentGameMode.getWave(),
-            currentGameMode.getVictoryMessage() != null,
-            currentGameMode.getVictoryMessage()
-        ));
-        dispose();
+        GameMode gameMode = session.getGameMode();
+        game.screens.showGameOver(
+            session.getModeName(),
+            gameMode.getScore(),
+            gameMode.getWave(),
+            gameMode.getVictoryMessage() != null,
+            gameMode.getVictoryMessage()
+        );
     }
 
     @Override
     public void dispose() {
         if (uiFont != null) uiFont.dispose();
         if (gameOverFont != null) gameOverFont.dispose();
-        if (player != null) player.dispose();
-        if (bullets != null) bullets.clear();
-        if (enemies != null) {
-            for (Enemy enemy : enemies) {
-                if (enemy != null) enemy.dispose();
-            }
-            enemies.clear();
-        }
-        if (upgrades != null) {
-            for (Upgrade upgrade : upgrades) {
-                if (upgrade != null) upgrade.dispose();
-            }
-            upgrades.clear();
-        }
-        if (bulletPool != null) bulletPool.clear();
+        session.dispose();
         if (background != null) background.dispose();
-        if (currentGameMode != null) currentGameMode.dispose();
     }
 }
@@ -3,7 +3,6 @@ package de.spaceSignal.game.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
@@ -49,7 +48,14 @@ public class GameSelectionScreen extends BaseScreen {
         super(game);
         initializeFonts();
         layout = new GlyphLayout();
-        initializeBackground();
+        background = ScreenRegistry.createBackground();
+    }
+
+    @Override
+    public void show() {
+        // Screen wird wiederverwendet, daher Übergangszustand zurücksetzen
+        transitionOut = false;
+        animationTimer = 0;
     }
 
     private void initializeFonts() {
@@ -90,17 +96,6 @@ public class GameSelectionScreen extends BaseScreen {
         }
     }
 
-    private void initializeBackground() {
-        try {
-            String bgPath = "textures/background.png";
-            if (Gdx.files.internal(bgPath).exists()) {
-                background = new ScrollingBackground(new Texture(Gdx.files.internal(bgPath)));
-            }
-        } catch (Exception e) {
-            Gdx.app.error("GameSelectionScreen", "Failed to initialize background", e);
-        }
-    }
-
     @Override
     public void render(float delta) {
         Gdx.gl.glClearColor(0.01f, 0.01f, 0.05f, 1f);
@@ -126,8 +121,7 @@ public class GameSelectionScreen extends BaseScreen {
         }
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            game.setScreen(new MainMenuScreen(game));
-            dispose();
+            game.screens.showMainMenu();
         }
 
         // Smooth animations
@@ -143,8 +137,7 @@ public class GameSelectionScreen extends BaseScreen {
         }
 
         if (transitionOut && animationTimer >= 0.5f) {
-            game.setScreen(new GameScreen(game, modes[selectedIndex].name));
-            dispose();
+            game.screens.showGame(modes[selectedIndex].name);
         }
     }
 
@@ -3,7 +3,6 @@ package de.spaceSignal.game.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
@@ -47,7 +46,14 @@ public class MainMenuScreen extends BaseScreen {
         super(game);
         initializeFonts();
         layout = new GlyphLayout();
-        initializeBackground();
+        background = ScreenRegistry.createBackground();
+    }
+
+    @Override
+    public void show() {
+        // Screen wird wiederverwendet, daher Übergangszustand zurücksetzen
+        transitionOut = false;
+        animationTimer = 0;
     }
 
     private void initializeFonts() {
@@ -86,17 +92,6 @@ public class MainMenuScreen extends BaseScreen {
         }
     }
 
-    private void initializeBackground() {
-        try {
-            String bgPath = "textures/background.png";
-            if (Gdx.files.internal(bgPath).exists()) {
-                background = new ScrollingBackground(new Texture(Gdx.files.internal(bgPath)));
-            }
-        } catch (Exception e) {
-            Gdx.app.error("MainMenuScreen", "Failed to initialize background", e);
-        }
-    }
-
     @Override
     public void render(float delta) {
         // Einfacher Hintergrund
@@ -153,16 +148,15 @@ public class MainMenuScreen extends BaseScreen {
                 Gdx.app.exit();
                 break;
             case "Play":
-                game.setScreen(new GameSelectionScreen(game));
+                game.screens.showGameSelection();
                 break;
             case "Settings":
-                game.setScreen(new SettingsScreen(game));
+                game.screens.showSettings();
                 break;
             case "Credits":
-                game.setScreen(new CreditsScreen(game));
+                game.screens.showCredits();
                 break;
         }
-        dispose();
     }
 
     private void draw() {
@@ -0,0 +1,107 @@
+package de.spaceSignal.game.screens;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Disposable;
+import de.spaceSignal.game.Main;
+import de.spaceSignal.game.managers.AssetManager;
+import de.spaceSignal.game.util.ScrollingBackground;
+
+/**
+ * Hält alle Screens samt ihrer Fonts und Hintergründe über die gesamte Laufzeit am Leben.
+ * Screens werden beim ersten Aufruf erzeugt und danach nur noch über show()/reset()
+ * in ihren Ausgangszustand versetzt, statt bei jedem Wechsel neu geladen zu werden.
+ */
+public class ScreenRegistry implements Disposable {
+    private final Main game;
+
+    private MainMenuScreen mainMenuScreen;
+    private GameSelectionScreen gameSelectionScreen;
+    private SettingsScreen settingsScreen;
+    private CreditsScreen creditsScreen;
+    private GameScreen gameScreen;
+    private GameOverScreen gameOverScreen;
+    private BenchmarkScreen benchmarkScreen;
+
+    public ScreenRegistry(Main game) {
+        this.game = game;
+    }
+
+    public void showMainMenu() {
+        if (mainMenuScreen == null) {
+            mainMenuScreen = new MainMenuScreen(game);
+        }
+        game.setScreen(mainMenuScreen);
+    }
+
+    public void showGameSelection() {
+        if (gameSelectionScreen == null) {
+            gameSelectionScreen = new GameSelectionScreen(game);
+        }
+        game.setScreen(gameSelectionScreen);
+    }
+
+    public void showSettings() {
+        if (settingsScreen == null) {
+            settingsScreen = new SettingsScreen(game);
+        }
+        game.setScreen(settingsScreen);
+    }
+
+    public void showCredits() {
+        if (creditsScreen == null) {
+            creditsScreen = new CreditsScreen(game);
+        }
+        game.setScreen(creditsScreen);
+    }
+
+    /**
+     * Startet eine neue Runde im angegebenen Modus. Bei bereits erzeugtem
+     * GameScreen ist das nur ein Zurücksetzen des Spielzustands.
+     */
+    public void showGame(String modeId) {
+        if (gameScreen == null) {
+            gameScreen = new GameScreen(game);
+        }
+        gameScreen.reset(modeId);
+        game.setScreen(gameScreen);
+    }
+
+    public void showGameOver(String modeId, int finalScore, int wave, boolean isVictory, String victoryMessage) {
+        if (gameOverScreen == null) {
+            gameOverScreen = new GameOverScreen(game);
+        }
+        gameOverScreen.reset(modeId, finalScore, wave, isVictory, victoryMessage);
+        game.setScreen(gameOverScreen);
+    }
+
+    /**
+     * Startet den Benchmark (nur per Kommandozeile, siehe Lwjgl3Launcher)
+     */
+    public void showBenchmark(BenchmarkScreen.Options options) {
+        if (benchmarkScreen == null) {
+            benchmarkScreen = new BenchmarkScreen(game, options);
+        }
+        game.setScreen(benchmarkScreen);
+    }
+
+    /**
+     * Hintergrund für einen Screen; die Textur wird vom AssetManager einmalig geladen und zwischen
+     * allen Screens geteilt, nur die Scroll-Position gehört dem Screen
+     * @return null, wenn keine Hintergrund-Textur geladen ist
+     */
+    static ScrollingBackground createBackground() {
+        Texture texture = AssetManager.getInstance().getBackgroundTexture();
+        return texture != null ? new ScrollingBackground(texture) : null;
+    }
+
+    @Override
+    public void dispose() {
+        if (mainMenuScreen != null) mainMenuScreen.dispose();
+        if (gameSelectionScreen != null) gameSelectionScreen.dispose();
+        if (settingsScreen != null) settingsScreen.dispose();
+        if (creditsScreen != null) creditsScreen.dispose();
+        if (gameScreen != null) gameScreen.dispose();
+        if (gameOverScreen != null) gameOverScreen.dispose();
+        if (benchmarkScreen != null) benchmarkScreen.dispose();
+    }
+}
@@ -3,13 +3,13 @@ package de.spaceSignal.game.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.math.MathUtils;
 import de.spaceSignal.game.Main;
 import de.spaceSignal.game.managers.AudioManager;
+import de.spaceSignal.game.managers.SettingsManager;
 import de.spaceSignal.game.util.Constants;
 import de.spaceSignal.game.util.ScrollingBackground;
 
@@ -22,16 +22,20 @@ public class SettingsScreen extends BaseScreen {
 
     // Audio Manager Referenz
     private AudioManager audioManager;
+    private SettingsManager settings;
 
     // Ausgewählte Option
     private int selectedOption = 0;
-    private static final int OPTION_COUNT = 4;
+    private static final int OPTION_COUNT = 7;
 
     // Optionen
     private static final int MUSIC_TOGGLE = 0;
     private static final int MUSIC_VOLUME = 1;
     private static final int SOUND_TOGGLE = 2;
     private static final int SOUND_VOLUME = 3;
+    private static final int VSYNC_TOGGLE = 4;
+    private static final int FPS_CAP = 5;
+    private static final int ASTEROID_PHYSICS = 6;
 
     // Debounce für Tasteneingaben
     private float inputCooldown = 0;
@@ -41,8 +45,9 @@ public class SettingsScreen extends BaseScreen {
         super(game);
         initializeFonts();
         layout = new GlyphLayout();
-        initializeBackground();
+        background = ScreenRegistry.createBackground();
         audioManager = AudioManager.getInstance();
+        settings = SettingsManager.getInstance();
     }
 
     private void initializeFonts() {
@@ -73,17 +78,6 @@ public class SettingsScreen extends BaseScreen {
         }
     }
 
-    private void initializeBackground() {
-        try {
-            String bgPath = "textures/background.png";
-            if (Gdx.files.internal(bgPath).exists()) {
-                background = new ScrollingBackground(new Texture(Gdx.files.internal(bgPath)));
-            }
-        } catch (Exception e) {
-            Gdx.app.error("SettingsScreen", "Failed to initialize background", e);
-        }
-    }
-
     @Override
     public void render(float delta) {
         Gdx.gl.glClearColor(0.01f, 0.01f, 0.05f, 1f);
@@ -134,8 +128,7 @@ public class SettingsScreen extends BaseScreen {
 
         // Zurück zum Hauptmenü
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            game.setScreen(new MainMenuScreen(game));
-            dispose();
+            game.screens.showMainMenu();
         }
     }
 
@@ -149,7 +142,13 @@ public class SettingsScreen extends BaseScreen {
                 audioManager.decreaseSoundVolume();
                 audioManager.playShootSound();
                 break;
+            case FPS_CAP:
+                settings.cycleFpsCap(-1);
+                audioManager.playShootSound();
+                break;
         }
+        // Gespeichert wird erst, wenn keine Taste mehr gedrückt wird
+        settings.markDirty();
     }
 
     private void handleRightInput() {
@@ -162,7 +161,12 @@ public class SettingsScreen extends BaseScreen {
                 audioManager.increaseSoundVolume();
                 audioManager.playShootSound();
                 break;
+            case FPS_CAP:
+                settings.cycleFpsCap(1);
+                audioManager.playShootSound();
+                break;
         }
+        settings.markDirty();
     }
 
     private void handleEnterInput() {
@@ -175,7 +179,16 @@ public class SettingsScreen extends BaseScreen {
                 audioManager.toggleSound();
                 audioManager.playShootSound();
                 break;
+            case VSYNC_TOGGLE:
+                settings.toggleVsync();
+                audioManager.playShootSound();
+                break;
+            case ASTEROID_PHYSICS:
+                settings.toggleAsteroidPhysics();
+                audioManager.playShootSound();
+                break;
         }
+        settings.markDirty();
     }
 
     private void draw() {
@@ -196,8 +209,8 @@ public class SettingsScreen extends BaseScreen {
         titleFont.draw(game.batch, "Settings", titleX, titleY);
 
         // Einstellungen rendern
-        float startY = Constants.SCREEN_HEIGHT * 0.65f;
-        float lineHeight = 50f;
+        float startY = Constants.SCREEN_HEIGHT * 0.7f;
+        float lineHeight = 40f;
 
         // Music Toggle
         drawOption(MUSIC_TOGGLE, "Music: " + (audioManager.isMusicEnabled() ? "ON" : "OFF"),
@@ -215,6 +228,18 @@ public class SettingsScreen extends BaseScreen {
         drawOption(SOUND_VOLUME, "Sound Volume: " + (int)(audioManager.getSoundVolume() * 100) + "%",
             startY - lineHeight * 3, selectedOption == SOUND_VOLUME);
 
+        // VSync
+        drawOption(VSYNC_TOGGLE, "VSync: " + (settings.isVsync() ? "ON" : "OFF"),
+            startY - lineHeight * 4, selectedOption == VSYNC_TOGGLE);
+
+        // FPS-Limit
+        drawOption(FPS_CAP, "FPS Limit: " + (settings.getFpsCap() > 0 ? String.valueOf(settings.getFpsCap()) : "Auto"),
+            startY - lineHeight * 5, selectedOption == FPS_CAP);
+
+        // Asteroid Dodger: Box2D oder einfache Bewegung
+        drawOption(ASTEROID_PHYSICS, "Asteroid Physics: " + (settings.isAsteroidPhysics() ? "Box2D" : "Simple"),
+            startY - lineHeight * 6, selectedOption == ASTEROID_PHYSICS);
+
         // Volume Bars
         if (selectedOption == MUSIC_VOLUME || selectedOption == SOUND_VOLUME) {
             float barY = startY - lineHeight * selectedOption - 25;
@@ -224,7 +249,7 @@ public class SettingsScreen extends BaseScreen {
 
         // Steuerungshinweise
         menuFont.setColor(0.6f, 0.6f, 0.7f, 0.8f);
-        float controlsY = Constants.SCREEN_HEIGHT * 0.2f;
+        float controlsY = Constants.SCREEN_HEIGHT * 0.12f;
         String controls = "↑↓: Navigate  ←→: Adjust  ENTER: Toggle  ESC: Back";
         layout.setText(menuFont, controls);
         menuFont.draw(game.batch, controls,
@@ -0,0 +1,290 @@
+package de.spaceSignal.game.systems;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import de.spaceSignal.game.managers.ProfilerManager;
+import de.spaceSignal.game.util.Constants;
+
+/**
+ * Box2D-Welt für den Asteroid Dodger: Asteroiden sind dynamische Körper, die sich gegenseitig
+ * anstoßen; der Spieler ist ein kinematischer Körper mit zwei Sensoren (Treffer und Beinahe-Treffer).
+ * Kontakte werden während des Schritts nur gesammelt und danach vom Spielmodus abgearbeitet,
+ * da Körper innerhalb der Box2D-Callbacks nicht verändert werden dürfen.
+ * Körper werden nicht zerstört, sondern deaktiviert und wiederverwendet.
+ * Ein Meter entspricht {@link #PIXELS_PER_METER} Pixeln.
+ */
+public class AsteroidPhysics implements ContactListener {
+    public static final float PIXELS_PER_METER = 32f;
+
+    // Kollisionskategorien
+    private static final short CATEGORY_ASTEROID = 0x0001;
+    private static final short CATEGORY_PLAYER = 0x0002;
+    private static final short CATEGORY_WALL = 0x0004;
+    private static final short MASK_ASTEROID = CATEGORY_ASTEROID | CATEGORY_PLAYER;
+
+    private static final int VELOCITY_ITERATIONS = 6;
+    private static final int POSITION_ITERATIONS = 2;
+
+    private final World world;
+    private final Body playerBody;
+    private final Fixture playerFixture;
+    private final Fixture nearMissFixture;
+    private final Array<Body> freeBodies;
+    // Aktive Körper werden nur gezählt; free() soll nicht erst den Körper in einer Liste suchen
+    private int activeCount;
+    private final Array<Body> scratchBodies;
+
+    // Wiederverwendete Definitionen; Box2D kopiert Shapes beim Anlegen der Fixture
+    private final BodyDef asteroidDef;
+    private final FixtureDef asteroidFixtureDef;
+    private final PolygonShape asteroidShape;
+    private final Filter filter;
+
+    // Während world.step() gesammelte Kontakte (Body-UserData der Asteroiden)
+    private final Array<Object> playerHits;
+    private final Array<Object> nearMisses;
+    private final Array<Object> nearMissCandidates;
+    private int asteroidContacts;
+
+    private long lastStepNanos;
+
+    /**
+     * @param nearMissRadius Radius in Pixeln um die Spielermitte, in dem ein Asteroid als knapp gilt
+     */
+    public AsteroidPhysics(float nearMissRadius) {
+        Box2D.init();
+        world = new World(new Vector2(0, 0), true);
+        world.setContactListener(this);
+
+        freeBodies = new Array<>();
+        scratchBodies = new Array<>();
+        playerHits = new Array<>();
+        nearMisses = new Array<>();
+        nearMissCandidates = new Array<>();
+        filter = new Filter();
+
+        asteroidDef = new BodyDef();
+        asteroidDef.type = BodyDef.BodyType.DynamicBody;
+        asteroidShape = new PolygonShape();
+        asteroidFixtureDef = new FixtureDef();
+        asteroidFixtureDef.shape = asteroidShape;
+        asteroidFixtureDef.density = 1f;
+        asteroidFixtureDef.friction = 0f;
+
+        // Spieler: Treffer-Sensor in Spielergröße und Beinahe-Treffer-Sensor als Kreis
+        BodyDef playerDef = new BodyDef();
+        playerDef.type = BodyDef.BodyType.KinematicBody;
+        playerBody = world.createBody(playerDef);
+
+        PolygonShape playerShape = new PolygonShape();
+        playerShape.setAsBox(toMeters(Constants.PLAYER_WIDTH / 2), toMeters(Constants.PLAYER_HEIGHT / 2));
+        FixtureDef playerFixtureDef = new FixtureDef();
+        playerFixtureDef.shape = playerShape;
+        playerFixtureDef.isSensor = true;
+        playerFixtureDef.filter.categoryBits = CATEGORY_PLAYER;
+        playerFixtureDef.filter.maskBits = CATEGORY_ASTEROID;
+        playerFixture = playerBody.createFixture(playerFixtureDef);
+        playerShape.dispose();
+
+        CircleShape nearMissShape = new CircleShape();
+        nearMissShape.setRadius(toMeters(nearMissRadius));
+        playerFixtureDef.shape = nearMissShape;
+        nearMissFixture = playerBody.createFixture(playerFixtureDef);
+        nearMissShape.dispose();
+
+        // Bildschirmränder; nur springende Asteroiden kollidieren mit ihnen
+        BodyDef wallDef = new BodyDef();
+        Body walls = world.createBody(wallDef);
+        ChainShape wallShape = new ChainShape();
+        wallShape.createLoop(new float[] {
+            0, 0,
+            toMeters(Constants.SCREEN_WIDTH), 0,
+            toMeters(Constants.SCREEN_WIDTH), toMeters(Constants.SCREEN_HEIGHT),
+            0, toMeters(Constants.SCREEN_HEIGHT)
+        });
+        FixtureDef wallFixtureDef = new FixtureDef();
+        wallFixtureDef.shape = wallShape;
+        wallFixtureDef.friction = 0f;
+        wallFixtureDef.filter.categoryBits = CATEGORY_WALL;
+        wallFixtureDef.filter.maskBits = CATEGORY_ASTEROID;
+        walls.createFixture(wallFixtureDef);
+        wallShape.dispose();
+    }
+
+    /**
+     * Holt einen Körper aus dem Pool (oder legt ihn an) und platziert ihn.
+     * Position und Größe in Pixeln (linke untere Ecke), Geschwindigkeit in Pixeln pro Sekunde.
+     * @param userData wird bei Kontakten zurückgegeben
+     * @param restitution 1 = elastischer Abprall
+     */
+    public Body obtainAsteroid(Object userData, float x, float y, float size, float angleDegrees,
+                               float velocityX, float velocityY, float angularVelocityDegrees, float restitution) {
+        Body body;
+        if (freeBodies.size > 0) {
+            body = freeBodies.pop();
+            // Größe ändert sich pro Asteroid, daher die Fixture ersetzen statt den Körper
+            body.destroyFixture(body.getFixtureList().first());
+        } else {
+            body = world.createBody(asteroidDef);
+        }
+
+        asteroidShape.setAsBox(toMeters(size / 2), toMeters(size / 2));
+        asteroidFixtureDef.restitution = restitution;
+        asteroidFixtureDef.filter.categoryBits = CATEGORY_ASTEROID;
+        asteroidFixtureDef.filter.maskBits = MASK_ASTEROID;
+        body.createFixture(asteroidFixtureDef);
+
+        body.setTransform(toMeters(x + size / 2), toMeters(y + size / 2), angleDegrees * MathUtils.degreesToRadians);
+        body.setLinearVelocity(toMeters(velocityX), toMeters(velocityY));
+        body.setAngularVelocity(angularVelocityDegrees * MathUtils.degreesToRadians);
+        body.setUserData(userData);
+        body.setActive(true);
+        body.setAwake(true);
+        activeCount++;
+        return body;
+    }
+
+    /**
+     * Deaktiviert den Körper und legt ihn zurück in den Pool
+     */
+    public void free(Body body) {
+        // UserData zuerst löschen: beim Deaktivieren meldet Box2D noch endContact
+        nearMissCandidates.removeValue(body.getUserData(), true);
+        body.setUserData(null);
+        body.setActive(false);
+        activeCount--;
+        freeBodies.add(body);
+    }
+
+    /**
+     * Gibt alle Körper frei (Reset der Runde)
+     */
+    public void freeAll() {
+        // Nur Asteroiden tragen UserData; Spieler, Wände und schon freie Körper nicht
+        world.getBodies(scratchBodies);
+        for (int i = 0; i < scratchBodies.size; i++) {
+            Body body = scratchBodies.get(i);
+            if (body.getUserData() == null) continue;
+            body.setUserData(null);
+            body.setActive(false);
+            freeBodies.add(body);
+        }
+        scratchBodies.clear();
+        activeCount = 0;
+        playerHits.clear();
+        nearMisses.clear();
+        nearMissCandidates.clear();
+    }
+
+    /**
+     * Schaltet die Kollision mit den Bildschirmrändern ein, sobald ein springender Asteroid ganz im Bild ist
+     */
+    public void enableWalls(Body body) {
+        Fixture fixture = body.getFixtureList().first();
+        filter.categoryBits = CATEGORY_ASTEROID;
+        filter.maskBits = MASK_ASTEROID | CATEGORY_WALL;
+        filter.groupIndex = 0;
+        fixture.setFilterData(filter);
+    }
+
+    /**
+     * Ein Simulationsschritt; der Spieler wird vorher an seine aktuelle Position gesetzt
+     * @param delta bereits mit Zeitlupe skaliert
+     */
+    public void step(float delta, Rectangle playerBounds) {
+        playerBody.setTransform(toMeters(playerBounds.x + playerBounds.width / 2),
+            toMeters(playerBounds.y + playerBounds.height / 2), 0);
+
+        asteroidContacts = 0;
+        long start = TimeUtils.nanoTime();
+        world.step(delta, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+        lastStepNanos = TimeUtils.nanoTime() - start;
+
+        ProfilerManager profiler = ProfilerManager.getInstance();
+        profiler.setCounter("Box2D bodies", activeCount);
+        profiler.setCounter("Box2D contacts", asteroidContacts);
+        profiler.setCounter("Box2D step us", (int) (lastStepNanos / 1000));
+    }
+
+    @Override
+    public void beginContact(Contact contact) {
+        Fixture a = contact.getFixtureA();
+        Fixture b = contact.getFixtureB();
+        if (a == playerFixture || b == playerFixture) {
+            playerHits.add((a == playerFixture ? b : a).getBody().getUserData());
+        } else if (a == nearMissFixture || b == nearMissFixture) {
+            nearMissCandidates.add((a == nearMissFixture ? b : a).getBody().getUserData());
+        } else if (a.getBody().getUserData() != null && b.getBody().getUserData() != null) {
+            // Wände und Spieler tragen keine UserData, also Asteroid gegen Asteroid
+            asteroidContacts++;
+        }
+    }
+
+    @Override
+    public void endContact(Contact contact) {
+        Fixture a = contact.getFixtureA();
+        Fixture b = contact.getFixtureB();
+        if (a == nearMissFixture || b == nearMissFixture) {
+            // Verlässt ein Asteroid den Radius, ohne getroffen zu haben, war es ein Beinahe-Treffer.
+            // Deaktivierte Körper melden ebenfalls endContact, ihre UserData ist dann schon null.
+            Object userData = (a == nearMissFixture ? b : a).getBody().getUserData();
+            if (userData != null && nearMissCandidates.removeValue(userData, true)) {
+                nearMisses.add(userData);
+            }
+        }
+    }
+
+    @Override
+    public void preSolve(Contact contact, Manifold oldManifold) {
+    }
+
+    @Override
+    public void postSolve(Contact contact, ContactImpulse impulse) {
+    }
+
+    /**
+     * Vergisst einen Asteroiden als Beinahe-Treffer-Kandidaten (z.B. nach einem Treffer)
+     */
+    public void cancelNearMiss(Object userData) {
+        nearMissCandidates.removeValue(userData, true);
+    }
+
+    public static float toMeters(float pixels) {
+        return pixels / PIXELS_PER_METER;
+    }
+
+    public static float toPixels(float meters) {
+        return meters * PIXELS_PER_METER;
+    }
+
+    /** Asteroiden, die im letzten Schritt den Spieler berührt haben; der Aufrufer leert die Liste */
+    public Array<Object> getPlayerHits() { return playerHits; }
+    /** Asteroiden, die im letzten Schritt knapp vorbeigeflogen sind; der Aufrufer leert die Liste */
+    public Array<Object> getNearMisses() { return nearMisses; }
+    public int getAsteroidContacts() { return asteroidContacts; }
+    public int getBodyCount() { return activeCount; }
+    public long getLastStepNanos() { return lastStepNanos; }
+
+    public void dispose() {
+        asteroidShape.dispose();
+        world.dispose();
+    }
+}
@@ -0,0 +1,46 @@
+package de.spaceSignal.game.systems;
+
+import de.spaceSignal.game.managers.AudioManager;
+
+/**
+ * Spielt Sounds zu Spielereignissen. Gleiche Sounds innerhalb eines Frames werden
+ * zusammengefasst und nur einmal abgespielt.
+ */
+public class AudioEventListener implements GameEventQueue.Listener {
+    private boolean explosion;
+    private boolean shoot;
+    private boolean powerup;
+
+    @Override
+    public void onEvent(int type, float x, float y, int value) {
+        switch (type) {
+            case GameEventQueue.ENEMY_KILLED:
+            case GameEventQueue.EXPLOSION:
+                explosion = true;
+                break;
+            case GameEventQueue.PLAYER_HIT:
+                // Nur der tödliche Treffer explodiert hörbar
+                if (value <= 0) explosion = true;
+                break;
+            case GameEventQueue.SHOT_FIRED:
+            case GameEventQueue.PLAYER_FLAP:
+                shoot = true;
+                break;
+            case GameEventQueue.UPGRADE_COLLECTED:
+            case GameEventQueue.OBSTACLE_PASSED:
+                powerup = true;
+                break;
+        }
+    }
+
+    @Override
+    public void onEventsDrained() {
+        AudioManager audio = AudioManager.getInstance();
+        if (explosion) audio.playExplosionSound();
+        if (shoot) audio.playShootSound();
+        if (powerup) audio.playPowerupSound();
+        explosion = false;
+        shoot = false;
+        powerup = false;
+    }
+}
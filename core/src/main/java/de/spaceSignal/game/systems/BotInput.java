@@ -0,0 +1,64 @@
+package de.spaceSignal.game.systems;
+
+import de.spaceSignal.game.levels.GameMode;
+
+/**
+ * KI-Eingabequelle. Die eigentliche Entscheidung trifft der jeweilige Spielmodus in
+ * {@link GameMode#controlBot(BotInput)}, da nur er seine Hindernisse und Gegner kennt.
+ * Der Bot setzt pro Tick nur die gewünschten Richtungen und Aktionen.
+ */
+public class BotInput implements InputSource {
+    private int horizontal;
+    private int vertical;
+    private boolean fire;
+    private boolean flap;
+
+    @Override
+    public void update(GameMode gameMode) {
+        horizontal = 0;
+        vertical = 0;
+        fire = false;
+        flap = false;
+        gameMode.controlBot(this);
+    }
+
+    /**
+     * @param direction -1 = links, 0 = stehen bleiben, 1 = rechts
+     */
+    public void setHorizontal(int direction) {
+        this.horizontal = direction;
+    }
+
+    /**
+     * @param direction -1 = runter, 0 = stehen bleiben, 1 = hoch
+     */
+    public void setVertical(int direction) {
+        this.vertical = direction;
+    }
+
+    public void setFire(boolean fire) {
+        this.fire = fire;
+    }
+
+    public void flap() {
+        this.flap = true;
+    }
+
+    @Override
+    public boolean isLeftPressed() { return horizontal < 0; }
+
+    @Override
+    public boolean isRightPressed() { return horizontal > 0; }
+
+    @Override
+    public boolean isUpPressed() { return vertical > 0; }
+
+    @Override
+    public boolean isDownPressed() { return vertical < 0; }
+
+    @Override
+    public boolean isFirePressed() { return fire; }
+
+    @Override
+    public boolean isFlapJustPressed() { return flap; }
+}
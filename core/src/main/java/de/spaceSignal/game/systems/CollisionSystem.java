@@ -1,4 +1,182 @@
 package de.spaceSignal.game.systems;
 
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import de.spaceSignal.game.managers.ProfilerManager;
+
+/**
+ * Sweep and Prune für Projektile gegen ein einzelnes Ziel (Spieler oder Boss).
+ * Die Projektil-Arrays werden nach der Unterkante (bounds.y) sortiert gehalten; da sich alle
+ * Projektile eines Arrays ähnlich schnell bewegen, bleibt die Reihenfolge von Frame zu Frame
+ * fast erhalten und der Insertion Sort ist nahezu linear. Eine Abfrage sucht per Binärsuche
+ * das Band der Projektile, die das Ziel in y überlappen können; alle anderen werden ohne
+ * Rechteck-Test verworfen.
+ * Getroffen wird per Swept AABB zwischen voriger und aktueller Position, damit schnelle
+ * Projektile bei großen Frame-Zeiten nicht durch Ziele hindurchspringen.
+ */
 public class CollisionSystem {
+    /**
+     * Alles, was mit Bounds in ein sortiertes Projektil-Array kommt
+     */
+    public interface Collidable {
+        Rectangle getBounds();
+
+        /** Position (= Bounds-Ursprung) vor dem letzten Bewegungsschritt */
+        Vector2 getPreviousPosition();
+    }
+
+    // Höchstes Projektil des zuletzt sortierten Arrays, erweitert das Band nach unten
+    private float maxHeight;
+    // Größter y-Weg eines Projektils im letzten Schritt, erweitert das Band in beide Richtungen
+    private float maxTravel;
+    private int bandStart;
+    private int bandEnd;
+
+    private int testedCount;
+    private int prunedCount;
+
+    /**
+     * Setzt die Zähler für einen Simulationsschritt zurück
+     */
+    public void begin() {
+        testedCount = 0;
+        prunedCount = 0;
+    }
+
+    /**
+     * Sortiert das Array stabil nach bounds.y. Die Reihenfolge der Elemente ist für
+     * Update und Entfernen (EntityArrays.compact erhält sie) egal, daher wird direkt im Array sortiert.
+     */
+    public <T extends Collidable> void sort(Array<T> items) {
+        float tallest = 0;
+        float travel = 0;
+        for (int i = 0; i < items.size; i++) {
+            T item = items.get(i);
+            Rectangle bounds = item.getBounds();
+            tallest = Math.max(tallest, bounds.height);
+            travel = Math.max(travel, Math.abs(bounds.y - item.getPreviousPosition().y));
+
+            int j = i - 1;
+            while (j >= 0 && items.get(j).getBounds().y > bounds.y) {
+                items.set(j + 1, items.get(j));
+                j--;
+            }
+            if (j + 1 != i) items.set(j + 1, item);
+        }
+        maxHeight = tallest;
+        maxTravel = travel;
+    }
+
+    /**
+     * Band für ein Ziel, das sich in diesem Schritt nicht bewegt hat
+     */
+    public <T extends Collidable> int query(Array<T> sorted, Rectangle target) {
+        return query(sorted, target, target.y);
+    }
+
+    /**
+     * Bestimmt im zuletzt sortierten Array das Band [getBandStart(), getBandEnd()) der
+     * Projektile, deren Weg in diesem Schritt den Weg des Ziels in y überlappen kann.
+     * Nur diese brauchen den Swept-Test.
+     * @param targetFromY y des Ziels vor seinem letzten Bewegungsschritt
+     * @return Anzahl der Kandidaten im Band
+     */
+    public <T extends Collidable> int query(Array<T> sorted, Rectangle target, float targetFromY) {
+        float bottom = Math.min(target.y, targetFromY);
+        float top = Math.max(target.y, targetFromY) + target.height;
+        bandStart = lowerBound(sorted, bottom - maxHeight - maxTravel);
+        bandEnd = upperBound(sorted, top + maxTravel, bandStart);
+        int candidates = bandEnd - bandStart;
+        testedCount += candidates;
+        prunedCount += sorted.size - candidates;
+        return candidates;
+    }
+
+    /**
+     * Swept AABB: bewegt beide Rechtecke linear von ihrer vorigen zur aktuellen Position
+     * und liefert den Anteil t in [0, 1] des Schritts, an dem sie sich zuerst überlappen,
+     * oder -1. Bei t = 1 entspricht das Ergebnis Rectangle.overlaps() der aktuellen Positionen.
+     */
+    public static float sweep(Rectangle moving, Vector2 movingFrom, Rectangle target, Vector2 targetFrom) {
+        return sweep(moving, movingFrom.x, movingFrom.y, target, targetFrom.x, targetFrom.y);
+    }
+
+    /**
+     * Swept AABB gegen ein Ziel, das sich in diesem Schritt nicht bewegt hat
+     */
+    public static float sweep(Rectangle moving, Vector2 movingFrom, Rectangle target) {
+        return sweep(moving, movingFrom.x, movingFrom.y, target, target.x, target.y);
+    }
+
+    public static float sweep(Rectangle moving, float fromX, float fromY,
+                              Rectangle target, float targetFromX, float targetFromY) {
+        // Im Bezugssystem des Ziels: nur das Projektil bewegt sich, das Ziel liegt im Ursprung
+        // und ist um die Projektil-Größe erweitert (Minkowski-Summe)
+        float startX = fromX - targetFromX;
+        float startY = fromY - targetFromY;
+        float moveX = (moving.x - target.x) - startX;
+        float moveY = (moving.y - target.y) - startY;
+
+        float enter = 0;
+        float exit = 1;
+        if (moveX == 0) {
+            if (startX <= -moving.width || startX >= target.width) return -1;
+        } else {
+            float t1 = (-moving.width - startX) / moveX;
+            float t2 = (target.width - startX) / moveX;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+            if (enter >= exit) return -1;
+        }
+        if (moveY == 0) {
+            if (startY <= -moving.height || startY >= target.height) return -1;
+        } else {
+            float t1 = (-moving.height - startY) / moveY;
+            float t2 = (target.height - startY) / moveY;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+            if (enter >= exit) return -1;
+        }
+        return enter;
+    }
+
+    // Erster Index mit bounds.y >= minY
+    private static <T extends Collidable> int lowerBound(Array<T> sorted, float minY) {
+        int low = 0;
+        int high = sorted.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted.get(mid).getBounds().y < minY) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // Erster Index ab from mit bounds.y > maxY
+    private static <T extends Collidable> int upperBound(Array<T> sorted, float maxY, int from) {
+        int low = from;
+        int high = sorted.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted.get(mid).getBounds().y <= maxY) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Meldet die Zähler des aktuellen Schritts an den Profiler.
+     */
+    public void end() {
+        ProfilerManager profiler = ProfilerManager.getInstance();
+        profiler.setCounter("Collision tests", testedCount);
+        profiler.setCounter("Collision pruned", prunedCount);
+    }
+
+    public int getBandStart() { return bandStart; }
+    public int getBandEnd() { return bandEnd; }
+    public int getTestedCount() { return testedCount; }
+    public int getPrunedCount() { return prunedCount; }
 }
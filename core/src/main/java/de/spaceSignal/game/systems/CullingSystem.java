@@ -0,0 +1,75 @@
+package de.spaceSignal.game.systems;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Rectangle;
+
+import de.spaceSignal.game.managers.ProfilerManager;
+
+/**
+ * Gemeinsame Culling-Stufe für alle Render-Pfade.
+ * Prüft die Bounds einer Entity gegen den sichtbaren Kamerabereich, bevor sie an
+ * den SpriteBatch übergeben wird. Gegner und Asteroiden spawnen außerhalb des
+ * Bildschirms und müssen erst gezeichnet werden, wenn sie hineinfliegen.
+ */
+public class CullingSystem {
+    private final Rectangle visibleArea;
+    private int drawnCount;
+    private int culledCount;
+
+    public CullingSystem() {
+        visibleArea = new Rectangle();
+    }
+
+    /**
+     * Übernimmt den sichtbaren Bereich der Kamera und setzt die Zähler zurück.
+     * Die Kamera ist orthografisch und nicht rotiert, daher reicht ein
+     * achsenparalleles Rechteck statt der sechs Frustum-Ebenen.
+     */
+    public void begin(OrthographicCamera camera) {
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        visibleArea.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+        drawnCount = 0;
+        culledCount = 0;
+    }
+
+    public boolean isVisible(float x, float y, float width, float height) {
+        if (x + width < visibleArea.x || x > visibleArea.x + visibleArea.width ||
+            y + height < visibleArea.y || y > visibleArea.y + visibleArea.height) {
+            culledCount++;
+            return false;
+        }
+        drawnCount++;
+        return true;
+    }
+
+    public boolean isVisible(Rectangle bounds) {
+        return isVisible(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    /**
+     * Vorabtest für eine ganze Gruppe (z.B. Formation), ohne die Zähler zu verändern
+     */
+    public boolean overlapsView(Rectangle area) {
+        return visibleArea.overlaps(area);
+    }
+
+    /**
+     * Zählt ein Sprite als verworfen, das per Gruppentest gar nicht erst geprüft wurde
+     */
+    public void countCulled() {
+        culledCount++;
+    }
+
+    /**
+     * Meldet die Zähler des aktuellen Frames an den Profiler.
+     */
+    public void end() {
+        ProfilerManager profiler = ProfilerManager.getInstance();
+        profiler.setCounter("Sprites drawn", drawnCount);
+        profiler.setCounter("Sprites culled", culledCount);
+    }
+
+    public int getDrawnCount() { return drawnCount; }
+    public int getCulledCount() { return culledCount; }
+}
@@ -0,0 +1,145 @@
+package de.spaceSignal.game.systems;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import de.spaceSignal.game.entities.BossBullet;
+import de.spaceSignal.game.entities.Player;
+import de.spaceSignal.game.managers.PoolManager;
+import de.spaceSignal.game.managers.ProfilerManager;
+import de.spaceSignal.game.util.Constants;
+import de.spaceSignal.game.util.EntityArrays;
+import de.spaceSignal.game.util.InstrumentedPool;
+
+/**
+ * Gemeinsamer Speicher für alle Projektile schießender Gegner eines Modus. Gegner halten keine
+ * eigenen Bullet-Listen, sondern feuern hier hinein; pro Frame gibt es genau einen Update-Durchlauf,
+ * einen Kollisionsdurchlauf gegen den Spieler (Sweep and Prune wie bei den Boss-Bullets) und
+ * einen Render-Durchlauf. Die Projektile sind BossBullets aus einem Pool.
+ * Gefeuert wird nur auf dem Render-Thread, also aus resolveEffects() und nicht aus update().
+ */
+public class EnemyProjectileSystem {
+    // Projektile fliegen höchstens ein paar Sekunden über den Bildschirm
+    private static final int LEAK_FRAMES = 600;
+
+    private final InstrumentedPool<BossBullet> pool;
+    private final Array<BossBullet> projectiles;
+    private final CollisionSystem collisions;
+    // Ziel für gezielte Schüsse (Position des Spielers), null = gerade nach unten
+    private Vector2 target;
+
+    public EnemyProjectileSystem(final Texture texture) {
+        projectiles = new Array<>();
+        collisions = new CollisionSystem();
+        pool = new InstrumentedPool<BossBullet>("EnemyBullet", 32, Integer.MAX_VALUE, LEAK_FRAMES) {
+            @Override
+            protected BossBullet newObject() {
+                return new BossBullet(texture);
+            }
+        };
+    }
+
+    /**
+     * Meldet den Pool beim PoolManager an, solange der Modus läuft
+     */
+    public void registerPool() {
+        PoolManager.getInstance().register(pool);
+    }
+
+    public void unregisterPool() {
+        PoolManager.getInstance().unregister(pool);
+    }
+
+    public void setTarget(Vector2 target) {
+        this.target = target;
+    }
+
+    /**
+     * Feuert ein Projektil mit fester Geschwindigkeit
+     */
+    public void fire(float x, float y, float velocityX, float velocityY, float damage) {
+        BossBullet projectile = pool.obtain();
+        projectile.reset(x - Constants.BOSS_BULLET_WIDTH / 2, y, velocityX, velocityY, damage);
+        projectiles.add(projectile);
+    }
+
+    /**
+     * Feuert auf das Ziel, um angleOffset (Grad) gedreht; ohne Ziel gerade nach unten
+     */
+    public void fireAtTarget(float x, float y, float speed, float angleOffset, float damage) {
+        float angle = -90;
+        if (target != null) {
+            float dx = target.x + Constants.PLAYER_WIDTH / 2 - x;
+            float dy = target.y + Constants.PLAYER_HEIGHT / 2 - y;
+            angle = (float) Math.toDegrees(Math.atan2(dy, dx));
+        }
+        angle += angleOffset;
+        float radians = (float) Math.toRadians(angle);
+        fire(x, y, (float) Math.cos(radians) * speed, (float) Math.sin(radians) * speed, damage);
+    }
+
+    public void update(float delta) {
+        for (int i = 0; i < projectiles.size; i++) {
+            projectiles.get(i).update(delta);
+        }
+        EntityArrays.compact(projectiles, BossBullet.DEAD, pool);
+        pool.tick();
+        ProfilerManager.getInstance().setCounter("Enemy bullets", projectiles.size);
+    }
+
+    /**
+     * Ein Durchlauf gegen den Spieler: nur Projektile im y-Band des Spielers werden getestet,
+     * Treffer entlang des Wegs seit dem letzten Schritt. Getroffene Projektile werden zerstört.
+     * @return Summe des Schadens; 0 wenn nichts getroffen hat
+     */
+    public float collide(Player player) {
+        if (projectiles.size == 0 || !player.isAlive()) return 0;
+        Rectangle playerBounds = player.getBounds();
+        Vector2 playerFrom = player.getPreviousPosition();
+        float damage = 0;
+
+        collisions.begin();
+        collisions.sort(projectiles);
+        collisions.query(projectiles, playerBounds, playerFrom.y);
+        for (int i = collisions.getBandStart(); i < collisions.getBandEnd(); i++) {
+            BossBullet projectile = projectiles.get(i);
+            if (projectile.isAlive() && CollisionSystem.sweep(projectile.getBounds(),
+                projectile.getPreviousPosition(), playerBounds, playerFrom) >= 0) {
+                damage += projectile.getDamage();
+                projectile.destroy();
+            }
+        }
+        collisions.end();
+        return damage;
+    }
+
+    public void render(SpriteBatch batch, CullingSystem culling) {
+        for (int i = 0; i < projectiles.size; i++) {
+            BossBullet projectile = projectiles.get(i);
+            if (culling.isVisible(projectile.getBounds())) {
+                projectile.render(batch);
+            }
+        }
+    }
+
+    public Array<BossBullet> getProjectiles() {
+        return projectiles;
+    }
+
+    public int size() {
+        return projectiles.size;
+    }
+
+    public void reset() {
+        pool.freeAll(projectiles);
+        projectiles.clear();
+    }
+
+    public void dispose() {
+        reset();
+        unregisterPool();
+    }
+}
@@ -0,0 +1,165 @@
+package de.spaceSignal.game.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Vorab angelegte Ring-Buffer-Queue für Spielereignisse (Single Producer, Single Consumer, lock-frei).
+ * Die Simulation meldet nur, was passiert ist; Sound, Punkte, Partikel und Statistik
+ * reagieren darauf gesammelt einmal pro Frame in {@link #drain()}.
+ * Ereignisse werden als Struct-of-Arrays gespeichert, daher entstehen beim Melden keine Objekte.
+ */
+public class GameEventQueue {
+    /** Gegner/Asteroid/Boss zerstört. value = Punkte */
+    public static final int ENEMY_KILLED = 0;
+    /** Spieler getroffen. value = verbleibende Lebenspunkte */
+    public static final int PLAYER_HIT = 1;
+    /** Schuss abgefeuert. value = SOURCE_PLAYER oder SOURCE_ENEMY */
+    public static final int SHOT_FIRED = 2;
+    /** Upgrade/Power-Up eingesammelt. value = Punkte */
+    public static final int UPGRADE_COLLECTED = 3;
+    /** Hindernis im Flappy Mode passiert. value = Punkte */
+    public static final int OBSTACLE_PASSED = 4;
+    /** Flügelschlag im Flappy Mode */
+    public static final int PLAYER_FLAP = 5;
+    /** Punkte ohne weiteren Effekt (z.B. Combo, Boss-Bonus). value = Punkte */
+    public static final int SCORE_AWARDED = 6;
+    /** Explosion ohne Abschuss (z.B. Asteroid am Spieler, zündender Bomber): nur Partikel und Sound */
+    public static final int EXPLOSION = 7;
+
+    public static final int EVENT_TYPE_COUNT = 8;
+
+    public static final int SOURCE_PLAYER = 0;
+    public static final int SOURCE_ENEMY = 1;
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * Empfänger der Ereignisse eines Frames
+     */
+    public interface Listener {
+        void onEvent(int type, float x, float y, int value);
+
+        /**
+         * Wird nach jedem drain() aufgerufen, z.B. um gesammelte Sounds abzuspielen
+         */
+        void onEventsDrained();
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final int[] types;
+    private final float[] xs;
+    private final float[] ys;
+    private final int[] values;
+
+    // Schreib- und Leseposition laufen nur vorwärts, der Slot ergibt sich über die Maske
+    private final AtomicLong writeIndex = new AtomicLong();
+    private final AtomicLong readIndex = new AtomicLong();
+
+    private final Array<Listener> listeners;
+    // Wie oft die Queue im laufenden Frame voll war und vorzeitig verteilt wurde
+    private int overflowCount;
+    // Bei vollem Puffer schon vor drain() verteilte Ereignisse dieses Frames
+    private int dispatchedEarly;
+    private int lastDrainCount;
+
+    public GameEventQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity wird auf die nächste Zweierpotenz aufgerundet
+     */
+    public GameEventQueue(int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = this.capacity - 1;
+        types = new int[this.capacity];
+        xs = new float[this.capacity];
+        ys = new float[this.capacity];
+        values = new int[this.capacity];
+        listeners = new Array<>();
+    }
+
+    public void addListener(Listener listener) {
+        if (!listeners.contains(listener, true)) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.removeValue(listener, true);
+    }
+
+    /**
+     * Meldet ein Ereignis. Nur vom Simulations-Thread aufrufen, der auch drain() aufruft.
+     * Ist die Queue voll, werden die bisherigen Ereignisse sofort verteilt: Punkte und Kills
+     * laufen nur hierüber und dürfen auch in einem sehr dichten Frame nicht verloren gehen.
+     */
+    public void publish(int type, float x, float y, int value) {
+        long write = writeIndex.get();
+        if (write - readIndex.get() >= capacity) {
+            overflowCount++;
+            dispatchedEarly += dispatch();
+        }
+        int slot = (int) write & mask;
+        types[slot] = type;
+        xs[slot] = x;
+        ys[slot] = y;
+        values[slot] = value;
+        // Geordnetes Schreiben: der Slot ist vollständig, bevor der Konsument ihn sieht
+        writeIndex.lazySet(write + 1);
+    }
+
+    /**
+     * Verteilt alle bisher gemeldeten Ereignisse an die Listener.
+     * @return Anzahl der verarbeiteten Ereignisse
+     */
+    public int drain() {
+        lastDrainCount = dispatchedEarly + dispatch();
+        dispatchedEarly = 0;
+
+        for (int i = 0; i < listeners.size; i++) {
+            listeners.get(i).onEventsDrained();
+        }
+
+        if (overflowCount > 0) {
+            Gdx.app.debug("GameEventQueue", "Queue full " + overflowCount + " time(s) this frame, capacity "
+                + capacity + ", " + lastDrainCount + " event(s)");
+            overflowCount = 0;
+        }
+        return lastDrainCount;
+    }
+
+    /**
+     * Gibt alle wartenden Ereignisse an die Listener und gibt ihre Slots frei
+     * @return Anzahl der verteilten Ereignisse
+     */
+    private int dispatch() {
+        long read = readIndex.get();
+        long write = writeIndex.get();
+        for (; read < write; read++) {
+            int slot = (int) read & mask;
+            for (int i = 0; i < listeners.size; i++) {
+                listeners.get(i).onEvent(types[slot], xs[slot], ys[slot], values[slot]);
+            }
+        }
+        int count = (int) (write - readIndex.get());
+        readIndex.lazySet(write);
+        return count;
+    }
+
+    /**
+     * Verwirft alle noch nicht verteilten Ereignisse (z.B. beim Neustart einer Runde)
+     */
+    public void clear() {
+        readIndex.lazySet(writeIndex.get());
+        dispatchedEarly = 0;
+        overflowCount = 0;
+    }
+
+    public int getLastDrainCount() { return lastDrainCount; }
+    public int getCapacity() { return capacity; }
+}
@@ -0,0 +1,32 @@
+package de.spaceSignal.game.systems;
+
+import de.spaceSignal.game.levels.GameMode;
+
+/**
+ * Eingabequelle für den Spieler. Wird von der Tastatur oder einem Bot bedient,
+ * damit Spielmodi auch ohne menschlichen Spieler laufen können (z.B. Soak-Tests).
+ */
+public interface InputSource {
+    /**
+     * Wird einmal pro Tick vor dem Spieler-Update aufgerufen
+     */
+    void update(GameMode gameMode);
+
+    boolean isLeftPressed();
+
+    boolean isRightPressed();
+
+    boolean isUpPressed();
+
+    boolean isDownPressed();
+
+    /**
+     * Dauerfeuer (Taste gehalten)
+     */
+    boolean isFirePressed();
+
+    /**
+     * Einzelner Flügelschlag im Flappy Mode (Taste gerade gedrückt)
+     */
+    boolean isFlapJustPressed();
+}
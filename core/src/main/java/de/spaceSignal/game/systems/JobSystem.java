@@ -0,0 +1,88 @@
+package de.spaceSignal.game.systems;
+
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Kleines Job-System auf Basis von Fork/Join (Work-Stealing).
+ * Verteilt unabhängige Bewegungs- und Bounds-Updates in Blöcken auf alle Kerne.
+ * Jobs dürfen nur ihre eigene Entity verändern; Schaden, Punkte und Sounds werden
+ * danach in einer einzelnen Auflösungsphase auf dem Render-Thread abgearbeitet,
+ * damit das Ergebnis deterministisch bleibt.
+ */
+public class JobSystem implements Disposable {
+    /** Unterhalb dieser Anzahl lohnt sich das Verteilen nicht, dann wird direkt ausgeführt */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    /**
+     * Arbeitet den Indexbereich [start, end) ab
+     */
+    public interface RangeJob {
+        void run(int start, int end);
+    }
+
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final int threshold;
+
+    public JobSystem() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    public JobSystem(int threshold) {
+        this.threshold = threshold;
+        // Der Render-Thread wartet während parallelFor(), daher ein Worker pro Kern
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+
+    /**
+     * Führt den Job für alle Indizes [0, count) aus und kehrt erst zurück, wenn alle Blöcke fertig sind.
+     */
+    public void parallelFor(int count, RangeJob job) {
+        if (pool == null || count < threshold) {
+            job.run(0, count);
+            return;
+        }
+        // Mehrere Blöcke pro Worker, damit Work-Stealing ungleiche Blöcke ausgleichen kann
+        int chunkSize = Math.max(threshold / 4, count / (parallelism * 4));
+        pool.invoke(new RangeTask(job, 0, count, chunkSize));
+    }
+
+    public int getParallelism() { return parallelism; }
+    public int getThreshold() { return threshold; }
+
+    @Override
+    public void dispose() {
+        if (pool != null) pool.shutdown();
+    }
+
+    private static class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RangeJob job;
+        private final int start;
+        private final int end;
+        private final int chunkSize;
+
+        RangeTask(RangeJob job, int start, int end, int chunkSize) {
+            this.job = job;
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= chunkSize) {
+                job.run(start, end);
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new RangeTask(job, start, middle, chunkSize),
+                new RangeTask(job, middle, end, chunkSize));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package de.spaceSignal.game.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import de.spaceSignal.game.levels.GameMode;
+
+/**
+ * Standard-Eingabe über Pfeiltasten/WASD und Leertaste.
+ */
+public class KeyboardInput implements InputSource {
+    @Override
+    public void update(GameMode gameMode) {
+        // Tastatur wird direkt abgefragt
+    }
+
+    @Override
+    public boolean isLeftPressed() {
+        return Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.A);
+    }
+
+    @Override
+    public boolean isRightPressed() {
+        return Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D);
+    }
+
+    @Override
+    public boolean isUpPressed() {
+        return Gdx.input.isKeyPressed(Input.Keys.UP) || Gdx.input.isKeyPressed(Input.Keys.W);
+    }
+
+    @Override
+    public boolean isDownPressed() {
+        return Gdx.input.isKeyPressed(Input.Keys.DOWN) || Gdx.input.isKeyPressed(Input.Keys.S);
+    }
+
+    @Override
+    public boolean isFirePressed() {
+        return Gdx.input.isKeyPressed(Input.Keys.SPACE);
+    }
+
+    @Override
+    public boolean isFlapJustPressed() {
+        return Gdx.input.isKeyJustPressed(Input.Keys.SPACE);
+    }
+}
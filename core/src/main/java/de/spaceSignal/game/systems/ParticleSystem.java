@@ -0,0 +1,102 @@
+package de.spaceSignal.game.systems;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Disposable;
+
+import de.spaceSignal.game.managers.RandomStreams;
+import de.spaceSignal.game.util.RandomStream;
+
+/**
+ * Kleine Explosions-Partikel für zerstörte Gegner.
+ * Alle Partikel liegen in vorab angelegten Arrays; tote Partikel werden durch
+ * den letzten lebenden ersetzt, es entstehen also keine Objekte pro Explosion.
+ */
+public class ParticleSystem implements GameEventQueue.Listener, Disposable {
+    private static final int MAX_PARTICLES = 512;
+    private static final int PARTICLES_PER_BURST = 8;
+    private static final float PARTICLE_SIZE = 4f;
+    private static final float PARTICLE_LIFETIME = 0.4f;
+
+    private final float[] x = new float[MAX_PARTICLES];
+    private final float[] y = new float[MAX_PARTICLES];
+    private final float[] velocityX = new float[MAX_PARTICLES];
+    private final float[] velocityY = new float[MAX_PARTICLES];
+    private final float[] lifetime = new float[MAX_PARTICLES];
+    private int count;
+
+    private Texture texture;
+
+    @Override
+    public void onEvent(int type, float eventX, float eventY, int value) {
+        if (type == GameEventQueue.ENEMY_KILLED || type == GameEventQueue.EXPLOSION) {
+            burst(eventX, eventY);
+        }
+    }
+
+    @Override
+    public void onEventsDrained() {
+    }
+
+    private void burst(float originX, float originY) {
+        RandomStream random = RandomStreams.getInstance().visuals();
+        for (int i = 0; i < PARTICLES_PER_BURST && count < MAX_PARTICLES; i++) {
+            float angle = random.random(MathUtils.PI2);
+            float speed = random.random(60f, 180f);
+            x[count] = originX;
+            y[count] = originY;
+            velocityX[count] = MathUtils.cos(angle) * speed;
+            velocityY[count] = MathUtils.sin(angle) * speed;
+            lifetime[count] = PARTICLE_LIFETIME;
+            count++;
+        }
+    }
+
+    public void update(float delta) {
+        for (int i = count - 1; i >= 0; i--) {
+            lifetime[i] -= delta;
+            if (lifetime[i] <= 0) {
+                count--;
+                x[i] = x[count];
+                y[i] = y[count];
+                velocityX[i] = velocityX[count];
+                velocityY[i] = velocityY[count];
+                lifetime[i] = lifetime[count];
+                continue;
+            }
+            x[i] += velocityX[i] * delta;
+            y[i] += velocityY[i] * delta;
+        }
+    }
+
+    public void render(SpriteBatch batch, CullingSystem culling) {
+        if (count == 0) return;
+        if (texture == null) {
+            Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pixmap.setColor(1, 1, 1, 1);
+            pixmap.fill();
+            texture = new Texture(pixmap);
+            pixmap.dispose();
+        }
+        for (int i = 0; i < count; i++) {
+            float size = PARTICLE_SIZE * lifetime[i] / PARTICLE_LIFETIME + 1f;
+            if (!culling.isVisible(x[i] - size / 2, y[i] - size / 2, size, size)) continue;
+            batch.setColor(1f, 0.4f + 0.5f * lifetime[i] / PARTICLE_LIFETIME, 0.1f, lifetime[i] / PARTICLE_LIFETIME);
+            batch.draw(texture, x[i] - size / 2, y[i] - size / 2, size, size);
+        }
+        batch.setColor(1, 1, 1, 1);
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public int getCount() { return count; }
+
+    @Override
+    public void dispose() {
+        if (texture != null) texture.dispose();
+    }
+}
@@ -0,0 +1,55 @@
+package de.spaceSignal.game.systems;
+
+import de.spaceSignal.game.managers.ProfilerManager;
+
+/**
+ * Zählt Spielereignisse einer Runde und meldet sie an den Profiler.
+ */
+public class SessionStats implements GameEventQueue.Listener {
+    private int kills;
+    private int playerHits;
+    private int shotsFired;
+    private int upgradesCollected;
+    private int eventsThisFrame;
+
+    @Override
+    public void onEvent(int type, float x, float y, int value) {
+        eventsThisFrame++;
+        switch (type) {
+            case GameEventQueue.ENEMY_KILLED:
+                kills++;
+                break;
+            case GameEventQueue.PLAYER_HIT:
+                playerHits++;
+                break;
+            case GameEventQueue.SHOT_FIRED:
+                if (value == GameEventQueue.SOURCE_PLAYER) shotsFired++;
+                break;
+            case GameEventQueue.UPGRADE_COLLECTED:
+                upgradesCollected++;
+                break;
+        }
+    }
+
+    @Override
+    public void onEventsDrained() {
+        ProfilerManager profiler = ProfilerManager.getInstance();
+        profiler.setCounter("Events", eventsThisFrame);
+        profiler.setCounter("Kills", kills);
+        profiler.setCounter("Shots fired", shotsFired);
+        eventsThisFrame = 0;
+    }
+
+    public void reset() {
+        kills = 0;
+        playerHits = 0;
+        shotsFired = 0;
+        upgradesCollected = 0;
+        eventsThisFrame = 0;
+    }
+
+    public int getKills() { return kills; }
+    public int getPlayerHits() { return playerHits; }
+    public int getShotsFired() { return shotsFired; }
+    public int getUpgradesCollected() { return upgradesCollected; }
+}
@@ -0,0 +1,130 @@
+package de.spaceSignal.game.systems;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Gleichmäßiges Raster für Umkreis-Abfragen (z.B. Bomber-Explosionen). build() sortiert die
+ * Mittelpunkte aller Entities per Counting Sort in die Zellen, danach liefert query() nur die
+ * Entities der Zellen, die der Kreis berührt. Alles liegt in int-Arrays, die nur wachsen;
+ * weder Aufbau noch Abfrage erzeugen Objekte.
+ * Entities außerhalb des Rasters landen in der nächsten Randzelle und werden so nie übersehen.
+ */
+public class SpatialGrid {
+    private final float originX;
+    private final float originY;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+
+    // Einträge von Zelle c: items[cellStart[c] .. cellStart[c + 1])
+    private final int[] cellStart;
+    private int[] items;
+    private int[] itemCell;
+    private float[] centerX;
+    private float[] centerY;
+    private int size;
+
+    /**
+     * @param x linke Kante des Rasters
+     * @param y untere Kante des Rasters
+     */
+    public SpatialGrid(float x, float y, float width, float height, float cellSize) {
+        this.originX = x;
+        this.originY = y;
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cellStart = new int[columns * rows + 1];
+        this.items = new int[64];
+        this.itemCell = new int[64];
+        this.centerX = new float[64];
+        this.centerY = new float[64];
+    }
+
+    /**
+     * Baut das Raster für den aktuellen Stand neu auf; Abfragen liefern Indizes in entities
+     */
+    public <T extends CollisionSystem.Collidable> void build(Array<T> entities) {
+        size = entities.size;
+        if (items.length < size) {
+            int capacity = Math.max(size, items.length * 2);
+            items = new int[capacity];
+            itemCell = new int[capacity];
+            centerX = new float[capacity];
+            centerY = new float[capacity];
+        }
+
+        int cells = columns * rows;
+        for (int c = 0; c <= cells; c++) {
+            cellStart[c] = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            Rectangle bounds = entities.get(i).getBounds();
+            float x = bounds.x + bounds.width / 2;
+            float y = bounds.y + bounds.height / 2;
+            centerX[i] = x;
+            centerY[i] = y;
+            int cell = row(y) * columns + column(x);
+            itemCell[i] = cell;
+            cellStart[cell + 1]++;
+        }
+        // Präfixsummen: cellStart[c] = erster Eintrag von Zelle c
+        for (int c = 0; c < cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        // Einsortieren; cellStart[c] läuft dabei bis zum Anfang der nächsten Zelle
+        for (int i = 0; i < size; i++) {
+            items[cellStart[itemCell[i]]++] = i;
+        }
+        // Und wieder zurück auf den Anfang schieben
+        for (int c = cells; c > 0; c--) {
+            cellStart[c] = cellStart[c - 1];
+        }
+        cellStart[0] = 0;
+    }
+
+    /**
+     * Alle Entities, deren Mittelpunkt höchstens radius von (x, y) entfernt ist
+     * (Vergleich der quadrierten Abstände)
+     * @param out wird geleert und mit Indizes aus dem letzten build() gefüllt
+     * @return Anzahl der Treffer
+     */
+    public int query(float x, float y, float radius, IntArray out) {
+        out.clear();
+        float radiusSquared = radius * radius;
+        int minColumn = column(x - radius);
+        int maxColumn = column(x + radius);
+        int minRow = row(y - radius);
+        int maxRow = row(y + radius);
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minColumn; c <= maxColumn; c++) {
+                int cell = r * columns + c;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    int index = items[k];
+                    float dx = centerX[index] - x;
+                    float dy = centerY[index] - y;
+                    if (dx * dx + dy * dy <= radiusSquared) {
+                        out.add(index);
+                    }
+                }
+            }
+        }
+        return out.size;
+    }
+
+    private int column(float x) {
+        int column = (int) Math.floor((x - originX) / cellSize);
+        return Math.min(columns - 1, Math.max(0, column));
+    }
+
+    private int row(float y) {
+        int row = (int) Math.floor((y - originY) / cellSize);
+        return Math.min(rows - 1, Math.max(0, row));
+    }
+
+    public float getCenterX(int index) { return centerX[index]; }
+    public float getCenterY(int index) { return centerY[index]; }
+    public int size() { return size; }
+}
@@ -0,0 +1,150 @@
+package de.spaceSignal.game.systems;
+
+import com.badlogic.gdx.utils.Array;
+
+import de.spaceSignal.game.entities.EnemyArchetype;
+import de.spaceSignal.game.entities.Formation;
+import de.spaceSignal.game.util.Constants;
+import de.spaceSignal.game.util.InstrumentedPool;
+
+/**
+ * Verteilt das Erzeugen einer Welle auf mehrere Frames. Formationsmitglieder starten oberhalb
+ * des Bildschirms; jedes wird erst erzeugt, wenn es den oberen Rand erreichen würde, und höchstens
+ * {@code budget} pro Frame. Der Besitzer holt fällige Einträge mit {@link #poll()} ab und lässt
+ * den Gegner per {@link #getAge(Pending)} nachlaufen, damit er dort steht, wo er bei sofortigem
+ * Erzeugen jetzt wäre.
+ */
+public class SpawnScheduler {
+    public static final int DEFAULT_BUDGET = 3;
+    // Ein Eintrag wartet nur, bis sein Gegner den oberen Rand erreicht: wenige Sekunden
+    private static final int PENDING_LEAK_FRAMES = 1800;
+
+    /**
+     * Ein geplanter Gegner; Position und Lebenspunkte wie beim sofortigen Erzeugen
+     */
+    public static class Pending {
+        public EnemyArchetype archetype;
+        public float x;
+        public float y;
+        public float health;
+        // Gesetzt, wenn der Gegner einen Platz in einer Formation bekommt
+        public Formation formation;
+        public int slot;
+        float scheduledTime;
+        float releaseTime;
+    }
+
+    private final InstrumentedPool<Pending> pendingPool =
+        new InstrumentedPool<Pending>("SpawnPending", 16, Integer.MAX_VALUE, PENDING_LEAK_FRAMES) {
+        @Override
+        protected Pending newObject() {
+            return new Pending();
+        }
+    };
+    // Absteigend nach Freigabezeit sortiert, der nächste fällige Eintrag liegt am Ende;
+    // bei gleicher Zeit in Einplan-Reihenfolge
+    private final Array<Pending> queue;
+    private final int budget;
+    private float clock;
+    private int releasedThisFrame;
+
+    public SpawnScheduler() {
+        this(DEFAULT_BUDGET);
+    }
+
+    public SpawnScheduler(int budget) {
+        this.budget = budget;
+        queue = new Array<>();
+    }
+
+    /**
+     * Plant einen Gegner ein; die Fallgeschwindigkeit kommt aus dem Typ
+     */
+    public void schedule(EnemyArchetype archetype, float x, float y, float health) {
+        schedule(archetype, x, y, health, null, -1);
+    }
+
+    /**
+     * Plant einen Gegner für einen Platz in einer Formation ein
+     */
+    public void schedule(EnemyArchetype archetype, float x, float y, float health,
+                         Formation formation, int slot) {
+        Pending pending = pendingPool.obtain();
+        pending.formation = formation;
+        pending.slot = slot;
+        pending.archetype = archetype;
+        pending.x = x;
+        pending.y = y;
+        pending.health = health;
+        pending.scheduledTime = clock;
+        // So lange, bis der Gegner von seiner Startposition aus den oberen Rand erreicht
+        pending.releaseTime = clock + Math.max(0, y - Constants.SCREEN_HEIGHT) / archetype.speed;
+
+        int index = queue.size;
+        while (index > 0 && queue.get(index - 1).releaseTime <= pending.releaseTime) {
+            index--;
+        }
+        queue.insert(index, pending);
+    }
+
+    /**
+     * Beginnt einen Frame: Uhr weiterstellen und Budget zurücksetzen
+     */
+    public void update(float delta) {
+        clock += delta;
+        releasedThisFrame = 0;
+        pendingPool.tick();
+    }
+
+    /**
+     * @return der nächste fällige Eintrag, oder null wenn keiner fällig oder das Budget erschöpft ist.
+     *         Nach dem Erzeugen mit {@link #release(Pending)} zurückgeben.
+     */
+    public Pending poll() {
+        if (queue.size == 0 || releasedThisFrame >= budget) return null;
+        if (queue.peek().releaseTime > clock) return null;
+        releasedThisFrame++;
+        return queue.pop();
+    }
+
+    /**
+     * Zeit seit dem Einplanen; um so viel muss der neue Gegner nachlaufen
+     */
+    public float getAge(Pending pending) {
+        return clock - pending.scheduledTime;
+    }
+
+    public void release(Pending pending) {
+        pending.archetype = null;
+        pending.formation = null;
+        pendingPool.free(pending);
+    }
+
+    public void clear() {
+        for (int i = 0; i < queue.size; i++) {
+            queue.get(i).formation = null;
+        }
+        pendingPool.freeAll(queue);
+        queue.clear();
+        releasedThisFrame = 0;
+    }
+
+    /**
+     * Pool der Einträge, zum Anmelden beim PoolManager
+     */
+    public InstrumentedPool<Pending> getPool() {
+        return pendingPool;
+    }
+
+    public boolean isEmpty() {
+        return queue.size == 0;
+    }
+
+    public int size() {
+        return queue.size;
+    }
+
+    public int getReleasedThisFrame() {
+        return releasedThisFrame;
+    }
+}
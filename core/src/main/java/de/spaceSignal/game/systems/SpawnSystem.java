@@ -1,39 +1,145 @@
 package de.spaceSignal.game.systems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
 
-import de.spaceSignal.game.entities.BomberEnemy;
 import de.spaceSignal.game.entities.Enemy;
-import de.spaceSignal.game.entities.ScoutEnemy;
+import de.spaceSignal.game.entities.EnemyArchetype;
+import de.spaceSignal.game.entities.Formation;
+import de.spaceSignal.game.managers.EnemyArchetypes;
+import de.spaceSignal.game.managers.PoolManager;
+import de.spaceSignal.game.managers.ProfilerManager;
+import de.spaceSignal.game.managers.RandomStreams;
 import de.spaceSignal.game.util.Constants;
+import de.spaceSignal.game.util.EntityArrays;
+import de.spaceSignal.game.util.InstrumentedPool;
+import de.spaceSignal.game.util.RandomStream;
+import de.spaceSignal.game.util.WeightedPicker;
 
 public class SpawnSystem {
     private float spawnTimer;
     private float timeSinceStart;
     private float difficulty;
     private Array<Enemy> enemies;
-    private final Texture enemyTexture;
-    private final Texture bulletTexture;
-    private final Texture bomberTexture;
-    private final Texture scoutTexture;
-
-    public SpawnSystem(Texture enemyTexture, Texture bulletTexture,
-                      Texture bomberTexture, Texture scoutTexture) {
-        this.enemyTexture = enemyTexture;
-        this.bulletTexture = bulletTexture;
-        this.bomberTexture = bomberTexture;
-        this.scoutTexture = scoutTexture;
+    // Gegner oberhalb der Aktivierungslinie: keine Bounds, Kollisionen oder Render-Aufrufe
+    private final Array<Enemy> dormant = new Array<>();
+    private final EnemyProjectileSystem projectiles;
+    // Timing Wheel der Sitzung, wird an neu erzeugte Gegner weitergereicht
+    private TimerWheel timers;
+
+    // Formationen ab drei Gegnern und Gegnertypen je Phase, mit Gewichten
+    private static final String FORMATION_V = "v";
+    private static final String FORMATION_CIRCLE = "circle";
+    private static final String FORMATION_ZIGZAG = "zigzag";
+    private static final String FORMATION_DIAGONAL = "diagonal";
+    private static final String FORMATION_RANDOM = "random";
+    private final WeightedPicker<String> formationTypes = new WeightedPicker<String>()
+        .add(FORMATION_V, 1f).add(FORMATION_CIRCLE, 1f).add(FORMATION_ZIGZAG, 1f)
+        .add(FORMATION_DIAGONAL, 1f).add(FORMATION_RANDOM, 1f);
+    private final EnemyArchetype normal;
+    // Frühe Phase: hauptsächlich normale Gegner
+    private final WeightedPicker<EnemyArchetype> earlyEnemies;
+    // Spätere Phase: auch Bomber und Schützen
+    private final WeightedPicker<EnemyArchetype> lateEnemies;
+    // Ab Schwierigkeit 3: alle Gegnertypen
+    private final WeightedPicker<EnemyArchetype> veteranEnemies;
+    private final RandomStream random = RandomStreams.getInstance().spawn();
+
+    // Spieler-Bullets leben bis knapp über den oberen Rand; mit diesem Abstand erreicht keine
+    // einen Gegner, der noch nicht aktiviert ist
+    private static final float ACTIVATION_MARGIN = 64f;
+
+    // Wellen werden über mehrere Frames erzeugt, Gegner kommen aus einem Pool pro Typ.
+    // Langsame Gegner brauchen über 10 Sekunden über den Bildschirm, daher 30 Sekunden bis zum Leck-Verdacht.
+    private static final int ENEMY_LEAK_FRAMES = 1800;
+    private final SpawnScheduler scheduler;
+    // Index = EnemyArchetype.index
+    private final Array<InstrumentedPool<Enemy>> pools;
+
+    // Normale Gegner einer V-, Kreis-, Zickzack- oder Diagonal-Formation bewegen sich als Gruppe;
+    // die anderen Typen haben eigene Geschwindigkeiten oder Bewegungen und bleiben einzeln.
+    // Eine Formation lebt so lange wie ihre Mitglieder, daher dieselbe Leck-Grenze
+    private final InstrumentedPool<Formation> formationPool =
+        new InstrumentedPool<Formation>("Formation", 8, Integer.MAX_VALUE, ENEMY_LEAK_FRAMES) {
+        @Override
+        protected Formation newObject() {
+            return new Formation();
+        }
+    };
+    private final Array<Formation> formations = new Array<>();
+    private Formation buildingFormation;
+
+    public SpawnSystem(EnemyProjectileSystem projectiles) {
+        this.projectiles = projectiles;
         this.enemies = new Array<>();
         this.spawnTimer = 0;
         this.timeSinceStart = 0;
         this.difficulty = 1.0f;
+
+        EnemyArchetypes archetypes = EnemyArchetypes.getInstance();
+        normal = archetypes.get("normal");
+        EnemyArchetype scout = archetypes.get("scout");
+        EnemyArchetype bomber = archetypes.get("bomber");
+        EnemyArchetype shooter = archetypes.get("shooter");
+        earlyEnemies = new WeightedPicker<EnemyArchetype>()
+            .add(normal, 0.8f).add(scout, 0.2f);
+        lateEnemies = new WeightedPicker<EnemyArchetype>()
+            .add(normal, 0.35f).add(scout, 0.25f).add(bomber, 0.25f).add(shooter, 0.15f);
+        veteranEnemies = new WeightedPicker<EnemyArchetype>()
+            .add(normal, 0.3f).add(scout, 0.2f).add(bomber, 0.2f)
+            .add(shooter, 0.2f).add(archetypes.get("elite"), 0.1f);
+
+        scheduler = new SpawnScheduler();
+        pools = new Array<>();
+        for (int i = 0; i < archetypes.size(); i++) {
+            pools.add(createPool(archetypes.get(i)));
+        }
+    }
+
+    /**
+     * Meldet die Pools für Gegner, Formationen und geplante Gegner beim PoolManager an,
+     * solange der Modus läuft
+     */
+    public void registerPools() {
+        PoolManager poolManager = PoolManager.getInstance();
+        for (int i = 0; i < pools.size; i++) {
+            poolManager.register(pools.get(i));
+        }
+        poolManager.register(formationPool);
+        poolManager.register(scheduler.getPool());
+    }
+
+    public void unregisterPools() {
+        PoolManager poolManager = PoolManager.getInstance();
+        for (int i = 0; i < pools.size; i++) {
+            poolManager.unregister(pools.get(i));
+        }
+        poolManager.unregister(formationPool);
+        poolManager.unregister(scheduler.getPool());
+    }
+
+    /**
+     * Muss vor dem ersten update() gesetzt sein; die Pools erzeugen Gegner erst bei Bedarf
+     */
+    public void setTimerWheel(TimerWheel timers) {
+        this.timers = timers;
+    }
+
+    private InstrumentedPool<Enemy> createPool(final EnemyArchetype archetype) {
+        String name = Character.toUpperCase(archetype.name.charAt(0)) + archetype.name.substring(1);
+        return new InstrumentedPool<Enemy>(name, 16, Integer.MAX_VALUE, ENEMY_LEAK_FRAMES) {
+            @Override
+            protected Enemy newObject() {
+                return new Enemy(archetype, projectiles, timers);
+            }
+        };
     }
 
     public void update(float delta) {
         timeSinceStart += delta;
         spawnTimer += delta;
+        scheduler.update(delta);
+        updateFormations(delta);
         
         // Erhöhe die Schwierigkeit mit der Zeit
         difficulty = 1.0f + (timeSinceStart / 30.0f); // Erhöht sich alle 30 Sekunden
@@ -50,16 +156,122 @@ public class SpawnSystem {
             spawnTimer = 0;
         }
 
-        // Update alle Gegner
-        for (int i = enemies.size - 1; i >= 0; i--) {
-            Enemy enemy = enemies.get(i);
-            enemy.update(delta);
-            if (!enemy.isAlive()) {
-                enemies.removeIndex(i);
+        // Fällige Gegner erzeugen; wer die Aktivierungslinie überquert hat, geht an den Modus.
+        // Wartende Gegner kosten sonst nichts, ihre Höhe ergibt sich aus der Bahn.
+        releaseScheduled(delta);
+        activateEntered();
+
+        // In ruhigen Frames die Pools für die nächste Welle füllen
+        if (scheduler.isEmpty()) {
+            prewarm(simultaneousSpawns);
+        }
+        ProfilerManager profiler = ProfilerManager.getInstance();
+        profiler.setCounter("Spawn queue", scheduler.size());
+        profiler.setCounter("Enemies dormant", dormant.size);
+
+        for (int i = 0; i < pools.size; i++) {
+            pools.get(i).tick();
+        }
+        formationPool.tick();
+    }
+
+    private void releaseScheduled(float delta) {
+        SpawnScheduler.Pending pending;
+        while ((pending = scheduler.poll()) != null) {
+            Enemy enemy = pools.get(pending.archetype.index).obtain();
+            // Die Bahn beginnt am Anfang des Frames, in dem die Welle geplant wurde: dort stünde
+            // der Gegner jetzt bei sofortigem Erzeugen
+            float startTime = timers.getTime() - delta - scheduler.getAge(pending);
+            enemy.reset(pending.x, pending.y, pending.health, startTime);
+            if (pending.formation != null) {
+                // Die Formation hat sich seit dem Planen schon bewegt, der Platz wandert mit
+                pending.formation.attach(enemy, pending.slot);
+            }
+            dormant.add(enemy);
+            scheduler.release(pending);
+        }
+    }
+
+    /**
+     * Übergibt Gegner, die unter die Aktivierungslinie gesunken sind, an die Ausgabe-Liste
+     */
+    private void activateEntered() {
+        for (int i = dormant.size - 1; i >= 0; i--) {
+            Enemy enemy = dormant.get(i);
+            if (isBelowActivationLine(enemy)) {
+                EntityArrays.swapRemove(dormant, i);
+                enemies.add(enemy);
+            }
+        }
+    }
+
+    private boolean isBelowActivationLine(Enemy enemy) {
+        return enemy.getApproachY() < Constants.SCREEN_HEIGHT + ACTIVATION_MARGIN;
+    }
+
+    /**
+     * Ein Schritt pro Formation statt pro Mitglied; leere Formationen gehen zurück in den Pool
+     */
+    private void updateFormations(float delta) {
+        for (int i = formations.size - 1; i >= 0; i--) {
+            Formation formation = formations.get(i);
+            if (formation.isFinished()) {
+                EntityArrays.swapRemove(formations, i);
+                formationPool.free(formation);
+                continue;
+            }
+            formation.update(delta);
+        }
+        ProfilerManager.getInstance().setCounter("Formations", formations.size);
+    }
+
+    private void beginFormation() {
+        buildingFormation = formationPool.obtain();
+        buildingFormation.begin(normal.speed);
+    }
+
+    private void endFormation() {
+        if (buildingFormation.isFinished()) {
+            // Nur andere Typen gewürfelt, keine Plätze belegt
+            formationPool.free(buildingFormation);
+        } else {
+            formations.add(buildingFormation);
+        }
+        buildingFormation = null;
+    }
+
+    /**
+     * Legt pro Frame höchstens einen Gegner auf Vorrat an, bis jeder Pool der aktuellen Phase
+     * eine ganze Welle abdeckt
+     */
+    private void prewarm(int waveSize) {
+        WeightedPicker<EnemyArchetype> picker = currentEnemies();
+        for (int i = 0; i < picker.size(); i++) {
+            InstrumentedPool<Enemy> pool = pools.get(picker.get(i).index);
+            if (pool.getFree() < waveSize) {
+                pool.fill(1);
+                return;
             }
         }
     }
 
+    private WeightedPicker<EnemyArchetype> currentEnemies() {
+        if (difficulty < 2.0f) return earlyEnemies;
+        return difficulty < 3.0f ? lateEnemies : veteranEnemies;
+    }
+
+    /**
+     * Gibt einen entfernten Gegner an den Pool seines Typs zurück
+     */
+    public void free(Enemy enemy) {
+        enemy.cancelTimers();
+        Formation formation = enemy.getFormation();
+        if (formation != null) {
+            formation.detach(enemy);
+        }
+        pools.get(enemy.getArchetype().index).free(enemy);
+    }
+
     private int calculateSimultaneousSpawns() {
         if (difficulty < 2.0f) {
             return 2; // Start mit 2 Gegnern
@@ -83,32 +295,64 @@ public class SpawnSystem {
         return Math.max(minInterval, baseInterval - intervalReduction);
     }
 
+    /**
+     * Setzt Timer und Schwierigkeit für eine neue Runde zurück.
+     */
+    public void reset() {
+        // Die Gegner-Liste der Session ist schon geleert; alles Ausgeliehene geht zurück
+        enemies.clear();
+        dormant.clear();
+        scheduler.clear();
+        formationPool.freeAll(formations);
+        formations.clear();
+        for (int i = 0; i < pools.size; i++) {
+            pools.get(i).freeAllOutstanding();
+        }
+        spawnTimer = 0;
+        timeSinceStart = 0;
+        difficulty = 1.0f;
+    }
+
     public void increaseDifficulty() {
         difficulty += 0.5f; // Größere Schwierigkeitssteigerung
     }
 
     private void spawnEnemyWave(int count) {
-        // Wähle zufällig eine Formation
-        float random = MathUtils.random(1f);
-        
         if (count <= 2) {
             spawnSimpleFormation(count);
-        } else if (random < 0.2f) {
-            spawnVFormation(count);
-        } else if (random < 0.4f) {
-            spawnCircleFormation(count);
-        } else if (random < 0.6f) {
-            spawnZigZagFormation(count);
-        } else if (random < 0.8f) {
-            spawnDiagonalFormation(count);
-        } else {
-            spawnRandomFormation(count);
+            return;
+        }
+
+        // Wähle zufällig eine Formation; zufällig verteilte Gegner bilden keine Gruppe
+        String formation = formationTypes.pick(random);
+        if (!FORMATION_RANDOM.equals(formation)) {
+            beginFormation();
+        }
+        switch (formation) {
+            case FORMATION_V:
+                spawnVFormation(count);
+                break;
+            case FORMATION_CIRCLE:
+                spawnCircleFormation(count);
+                break;
+            case FORMATION_ZIGZAG:
+                spawnZigZagFormation(count);
+                break;
+            case FORMATION_DIAGONAL:
+                spawnDiagonalFormation(count);
+                break;
+            default:
+                spawnRandomFormation(count);
+                break;
+        }
+        if (buildingFormation != null) {
+            endFormation();
         }
     }
 
     private void spawnSimpleFormation(int count) {
         if (count == 1) {
-            spawnEnemyAt(MathUtils.random(Constants.SCREEN_WIDTH));
+            spawnEnemyAt(random.random(Constants.SCREEN_WIDTH));
         } else {
             float spacing = Constants.SCREEN_WIDTH / 3;
             spawnEnemyAt(Constants.SCREEN_WIDTH / 2 - spacing);
@@ -155,7 +399,7 @@ public class SpawnSystem {
     }
 
     private void spawnDiagonalFormation(int count) {
-        float startX = MathUtils.randomBoolean() ? 0 : Constants.SCREEN_WIDTH;
+        float startX = random.randomBoolean() ? 0 : Constants.SCREEN_WIDTH;
         float spacing = Constants.SCREEN_WIDTH / (count + 1);
         float ySpacing = 40f;
         
@@ -169,56 +413,61 @@ public class SpawnSystem {
     private void spawnRandomFormation(int count) {
         // Zufällige Cluster von Gegnern
         for (int i = 0; i < count; i++) {
-            float x = MathUtils.random(Constants.SCREEN_WIDTH);
-            float y = Constants.SCREEN_HEIGHT + MathUtils.random(100f);
+            float x = random.random(Constants.SCREEN_WIDTH);
+            float y = Constants.SCREEN_HEIGHT + random.random(100f);
             spawnEnemyAt(x, y);
         }
     }
 
     private void spawnEnemyAt(float x, float y) {
-        Enemy enemy = createRandomEnemy(x, y);
-        enemies.add(enemy);
+        scheduleRandomEnemy(x, y);
     }
 
     private void spawnEnemyAt(float x) {
         spawnEnemyAt(x, Constants.SCREEN_HEIGHT);
     }
 
-    private Enemy createRandomEnemy(float x, float y) {
-        Enemy enemy;
-
-        // Wähle Gegnertyp basierend auf Schwierigkeit und Zufall
-        float random = MathUtils.random(1f);
-
-        if (difficulty < 2.0f) {
-            // Frühe Phase: Hauptsächlich normale Gegner
-            if (random < 0.8f) {
-                enemy = new Enemy(x, y, Constants.BASE_ENEMY_HEALTH, enemyTexture, "normal");
-            } else {
-                enemy = new ScoutEnemy(x, y, scoutTexture);
-            }
+    private void scheduleRandomEnemy(float x, float y) {
+        // Wähle Gegnertyp basierend auf Schwierigkeit und Zufall; erzeugt wird er später
+        EnemyArchetype archetype = currentEnemies().pick(random);
+        float health = archetype.health;
+        if (archetype == normal && difficulty >= 2.0f) {
+            health *= difficulty;
+        }
+        if (buildingFormation != null && archetype == normal) {
+            int slot = buildingFormation.addSlot(x, y);
+            scheduler.schedule(archetype, x, y, health, buildingFormation, slot);
         } else {
-            // Spätere Phase: Alle Gegnertypen
-            if (random < 0.4f) {
-                enemy = new Enemy(x, y, Constants.BASE_ENEMY_HEALTH * difficulty, enemyTexture, "normal");
-            } else if (random < 0.7f) {
-                enemy = new ScoutEnemy(x, y, scoutTexture);
-            } else {
-                enemy = new BomberEnemy(x, y, bomberTexture);
-            }
+            scheduler.schedule(archetype, x, y, health);
         }
-        return enemy;
     }
 
-
-
+    /**
+     * Frisch aktivierte Gegner; der Modus übernimmt sie und leert die Liste
+     */
     public Array<Enemy> getEnemies() {
         return enemies;
     }
 
+    /**
+     * Anzahl der erzeugten, aber noch nicht aktivierten Gegner
+     */
+    public int getDormantCount() {
+        return dormant.size;
+    }
+
     public void dispose() {
         for (Enemy enemy : enemies) {
             enemy.dispose();
         }
+        enemies.clear();
+        for (Enemy enemy : dormant) {
+            enemy.dispose();
+        }
+        dormant.clear();
+        scheduler.clear();
+        formationPool.freeAll(formations);
+        formations.clear();
+        unregisterPools();
     }
 }
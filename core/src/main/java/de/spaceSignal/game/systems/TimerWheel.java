@@ -0,0 +1,204 @@
+package de.spaceSignal.game.systems;
+
+import de.spaceSignal.game.managers.ProfilerManager;
+
+/**
+ * Hierarchisches Timing Wheel für Ablauf-Timer der Simulation (Zünder, Feuerrhythmus,
+ * Lebensdauer, Power-Up-Dauer). Die Simulationszeit wird in feste Ticks von {@link #TICK_SECONDS}
+ * zerlegt; ein Timer liegt in einer doppelt verketteten Liste im Slot seines Ablauf-Ticks und
+ * wird erst angefasst, wenn er fällig ist. Pro Tick kostet das O(1) plus die ablaufenden Timer,
+ * egal wie viele noch warten.
+ * Vier Ebenen mit je 64 Slots: Ebene 0 in Ticks, jede weitere 64-mal gröber. Timer der höheren
+ * Ebenen rutschen beim Überlauf der darunterliegenden eine Ebene tiefer (Kaskade).
+ * Nur vom Simulations-Thread benutzen; parallele Updates merken sich Wünsche und planen in
+ * resolveEffects().
+ */
+public class TimerWheel {
+    /** Auflösung der Timer */
+    public static final float TICK_SECONDS = 1f / 60f;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    // Längste Verzögerung, danach wird gekappt (gut 77 Stunden)
+    private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /**
+     * Ein wiederverwendbarer Timer; Besitzer legen ihn einmal an (meist als anonyme Klasse)
+     * und planen ihn beliebig oft neu
+     */
+    public abstract static class Timer {
+        private Timer previous;
+        private Timer next;
+        // Index in slots oder -1, wenn nicht geplant
+        private int slot = -1;
+        private long expiresTick;
+
+        /**
+         * Wird im fälligen Tick aufgerufen; der Timer ist dann schon ausgetragen
+         * und darf sich selbst neu planen
+         */
+        protected abstract void onExpire();
+
+        public boolean isScheduled() {
+            return slot >= 0;
+        }
+    }
+
+    private final Timer[] slots = new Timer[SLOTS * LEVELS];
+    private long currentTick;
+    private double time;
+    private double previousTime;
+    private int scheduledCount;
+    private int firedCount;
+
+    /**
+     * Plant den Timer in seconds Sekunden (mindestens einen Tick); ein schon geplanter Timer
+     * wird verschoben
+     */
+    public void schedule(Timer timer, float seconds) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+            scheduledCount--;
+        }
+        long delay = (long) Math.ceil(seconds / TICK_SECONDS - 1e-4);
+        delay = Math.min(MAX_DELAY_TICKS, Math.max(1, delay));
+        timer.expiresTick = currentTick + delay;
+        insert(timer);
+        scheduledCount++;
+    }
+
+    public void cancel(Timer timer) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+            scheduledCount--;
+        }
+    }
+
+    /**
+     * Verbleibende Zeit bis zum Ablauf in Sekunden, 0 wenn nicht geplant
+     */
+    public float getRemaining(Timer timer) {
+        if (!timer.isScheduled()) return 0;
+        return (timer.expiresTick - currentTick) * TICK_SECONDS;
+    }
+
+    /**
+     * Lässt die Simulationszeit um delta laufen und arbeitet jeden dabei vergangenen Tick ab
+     */
+    public void advance(float delta) {
+        previousTime = time;
+        time += delta;
+        long targetTick = (long) Math.floor(time / TICK_SECONDS + 1e-6);
+        firedCount = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            expire((int) (currentTick & SLOT_MASK));
+        }
+        ProfilerManager profiler = ProfilerManager.getInstance();
+        profiler.setCounter("Timers", scheduledCount);
+        profiler.setCounter("Timers fired", firedCount);
+    }
+
+    /**
+     * Trägt alle Timer aus, ohne sie auszulösen, und setzt die Uhr zurück (neue Runde)
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            Timer timer = slots[i];
+            while (timer != null) {
+                Timer next = timer.next;
+                timer.previous = null;
+                timer.next = null;
+                timer.slot = -1;
+                timer = next;
+            }
+            slots[i] = null;
+        }
+        scheduledCount = 0;
+        currentTick = 0;
+        time = 0;
+        previousTime = 0;
+    }
+
+    /**
+     * Simulationszeit in Sekunden seit dem letzten clear(), für Phasen wie Wippen oder Blinken
+     */
+    public float getTime() {
+        return (float) time;
+    }
+
+    /**
+     * Simulationszeit vor dem letzten advance(), z.B. für die vorige Position auf einer
+     * geschlossenen Bahn (Swept-Kollisionen)
+     */
+    public float getPreviousTime() {
+        return (float) previousTime;
+    }
+
+    public long getTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return scheduledCount;
+    }
+
+    private void cascade() {
+        // Läuft Ebene 0 über, rutscht der nächste Slot von Ebene 1 nach unten, usw.
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) return;
+            int slot = level * SLOTS + (int) ((currentTick >>> shift) & SLOT_MASK);
+            Timer timer = slots[slot];
+            slots[slot] = null;
+            while (timer != null) {
+                Timer next = timer.next;
+                timer.previous = null;
+                timer.next = null;
+                insert(timer);
+                timer = next;
+            }
+        }
+    }
+
+    private void expire(int slot) {
+        // Der Kopf wird jeweils neu gelesen: Callbacks dürfen andere Timer austragen
+        Timer timer;
+        while ((timer = slots[slot]) != null) {
+            unlink(timer);
+            scheduledCount--;
+            firedCount++;
+            timer.onExpire();
+        }
+    }
+
+    private void insert(Timer timer) {
+        long delay = timer.expiresTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = level * SLOTS + (int) ((timer.expiresTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Timer head = slots[slot];
+        timer.previous = null;
+        timer.next = head;
+        if (head != null) head.previous = timer;
+        slots[slot] = timer;
+        timer.slot = slot;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            slots[timer.slot] = timer.next;
+        }
+        if (timer.next != null) timer.next.previous = timer.previous;
+        timer.previous = null;
+        timer.next = null;
+        timer.slot = -1;
+    }
+}
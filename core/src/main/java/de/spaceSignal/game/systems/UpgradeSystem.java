@@ -1,31 +1,29 @@
 package de.spaceSignal.game.systems;
 
 import de.spaceSignal.game.entities.Player;
+import de.spaceSignal.game.managers.RandomStreams;
 import de.spaceSignal.game.util.Constants;
+import de.spaceSignal.game.util.WeightedPicker;
 
 public class UpgradeSystem {
+    private static final String[] UPGRADE_TYPES = {"BulletLevel", "Health", "Damage"};
+
+    // Wird pro Aufruf neu befüllt, ohne Listen oder Arrays anzulegen
+    private final WeightedPicker<String> picker = new WeightedPicker<>();
+
     public String getValidUpgradeType(Player player) {
-        String[] possibleUpgrades = {"BulletLevel", "Health", "Damage"};
-        
-        // Entferne Upgrades die nicht mehr nützlich sind
-        java.util.List<String> validUpgrades = new java.util.ArrayList<>();
-        
-        for (String type : possibleUpgrades) {
+        // Entferne Upgrades die nicht mehr nützlich sind, alle übrigen sind gleich wahrscheinlich
+        picker.clear();
+        for (String type : UPGRADE_TYPES) {
             if (isUpgradeValid(type, player)) {
-                validUpgrades.add(type);
+                picker.add(type, 1f);
             }
         }
-        
-        // Wenn keine gültigen Upgrades verfügbar sind, return null
-        if (validUpgrades.isEmpty()) {
-            return null;
-        }
-        
-        // Wähle zufällig ein gültiges Upgrade
-        int index = (int) (Math.random() * validUpgrades.size());
-        return validUpgrades.get(index);
+
+        // Wenn keine gültigen Upgrades verfügbar sind, null
+        return picker.pick(RandomStreams.getInstance().loot());
     }
-    
+
     public boolean isUpgradeValid(String type, Player player) {
         switch (type) {
             case "BulletLevel":
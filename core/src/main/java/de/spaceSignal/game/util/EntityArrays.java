@@ -0,0 +1,67 @@
+package de.spaceSignal.game.util;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Predicate;
+
+/**
+ * Entfernen aus Entity-Arrays ohne das Nachschieben von Array.removeIndex(): das verschiebt bei
+ * jedem Aufruf den ganzen Rest, ein Frame mit vielen toten Entities kostet damit O(n²).
+ * <ul>
+ * <li>{@link #swapRemove}: O(1), das letzte Element rückt an die freie Stelle. Sicher in
+ * rückwärts laufenden Schleifen, wenn die Reihenfolge egal ist.</li>
+ * <li>{@link #compact}: Tote Entities bleiben während des Updates markiert im Array und werden
+ * am Ende in einem Durchlauf entfernt; die Reihenfolge der übrigen bleibt erhalten
+ * (z.B. für die nach y sortierten Projektil-Arrays der Kollisionsprüfung).</li>
+ * </ul>
+ */
+public final class EntityArrays {
+    private EntityArrays() {
+    }
+
+    /**
+     * Entfernt das Element an index, indem das letzte Element dorthin kopiert wird
+     * @return das entfernte Element
+     */
+    public static <T> T swapRemove(Array<T> array, int index) {
+        T[] items = array.items;
+        T removed = items[index];
+        int last = --array.size;
+        items[index] = items[last];
+        items[last] = null;
+        return removed;
+    }
+
+    /**
+     * Entfernt alle Elemente, für die dead.evaluate() true liefert, in einem Durchlauf.
+     * dead wird genau einmal pro Element in Array-Reihenfolge aufgerufen.
+     * @return Anzahl der entfernten Elemente
+     */
+    public static <T> int compact(Array<T> array, Predicate<? super T> dead) {
+        return compact(array, dead, null);
+    }
+
+    /**
+     * Wie {@link #compact(Array, Predicate)}, entfernte Elemente gehen zusätzlich zurück in den Pool
+     */
+    public static <T> int compact(Array<T> array, Predicate<? super T> dead, Pool<T> pool) {
+        T[] items = array.items;
+        int size = array.size;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            T item = items[i];
+            if (dead.evaluate(item)) {
+                if (pool != null) pool.free(item);
+            } else {
+                if (kept != i) items[kept] = item;
+                kept++;
+            }
+        }
+        // Referenzen hinter dem neuen Ende löschen, sonst hält das Array tote Entities fest
+        for (int i = kept; i < size; i++) {
+            items[i] = null;
+        }
+        array.size = kept;
+        return size - kept;
+    }
+}
@@ -0,0 +1,62 @@
+package de.spaceSignal.game.util;
+
+import java.util.Arrays;
+
+/**
+ * Sammelt Zeitmessungen (z.B. Tick- oder Frame-Zeiten in Millisekunden) in einem
+ * vorab angelegten Array und liefert Durchschnitt, Maximum und Perzentile.
+ * Während der Messung entstehen keine Allokationen, sortiert wird erst bei der Auswertung.
+ */
+public class FrameTimeStats {
+    private float[] samples;
+    private float[] sorted;
+    private int count;
+    private boolean sortedValid;
+    private double sum;
+    private float max;
+
+    public FrameTimeStats(int capacity) {
+        samples = new float[capacity];
+        sorted = new float[capacity];
+    }
+
+    public void add(float value) {
+        if (count == samples.length) {
+            // Nur falls die Kapazität zu klein gewählt wurde
+            samples = Arrays.copyOf(samples, count * 2);
+            sorted = new float[samples.length];
+        }
+        samples[count++] = value;
+        sum += value;
+        if (value > max) max = value;
+        sortedValid = false;
+    }
+
+    /**
+     * @param percentile Wert zwischen 0 und 100
+     */
+    public float getPercentile(float percentile) {
+        if (count == 0) return 0;
+        if (!sortedValid) {
+            System.arraycopy(samples, 0, sorted, 0, count);
+            Arrays.sort(sorted, 0, count);
+            sortedValid = true;
+        }
+        int index = (int) Math.ceil(percentile / 100f * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    public float getAverage() {
+        return count == 0 ? 0 : (float) (sum / count);
+    }
+
+    public float getMax() { return max; }
+    public int getCount() { return count; }
+
+    public void clear() {
+        count = 0;
+        sum = 0;
+        max = 0;
+        sortedValid = false;
+    }
+}
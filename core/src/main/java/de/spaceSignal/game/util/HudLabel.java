@@ -0,0 +1,137 @@
+package de.spaceSignal.game.util;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * HUD-Text mit gecachtem Glyph-Layout.
+ * Der Text besteht aus Präfix, gebundenem Integer-Wert und Suffix und wird nur
+ * neu gelayoutet, wenn sich einer der Teile ändert. Dadurch entstehen pro Frame
+ * weder String-Konkatenationen noch GlyphLayout-Berechnungen.
+ */
+public class HudLabel {
+    /** Wert wird als Ganzzahl angezeigt */
+    public static final int FORMAT_INTEGER = 0;
+    /** Wert ist in Zehnteln gespeichert und wird mit einer Nachkommastelle angezeigt */
+    public static final int FORMAT_TENTHS = 1;
+    /** Label ohne Wert, nur Präfix und Suffix */
+    public static final int FORMAT_NONE = 2;
+
+    private final String prefix;
+    private String suffix;
+    private final int format;
+    private final Color color;
+    private final StringBuilder text;
+    private final float targetWidth;
+    private final int align;
+
+    private BitmapFontCache cache;
+    private int value;
+    private boolean dirty;
+    private float x;
+    private float y;
+
+    public HudLabel(String prefix, int format, float x, float y) {
+        this(prefix, "", format, x, y, 0, Align.left);
+    }
+
+    public HudLabel(String prefix, String suffix, int format, float x, float y, float targetWidth, int align) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.format = format;
+        this.x = x;
+        this.y = y;
+        this.targetWidth = targetWidth;
+        this.align = align;
+        this.color = new Color(Color.WHITE);
+        this.text = new StringBuilder(prefix.length() + suffix.length() + 12);
+        this.dirty = true;
+    }
+
+    public void setValue(int value) {
+        if (this.value != value) {
+            this.value = value;
+            dirty = true;
+        }
+    }
+
+    public void setSuffix(String suffix) {
+        if (!this.suffix.equals(suffix)) {
+            this.suffix = suffix;
+            dirty = true;
+        }
+    }
+
+    public void setColor(float r, float g, float b, float a) {
+        if (color.r != r || color.g != g || color.b != b || color.a != a) {
+            color.set(r, g, b, a);
+            if (cache != null) {
+                cache.setColors(color);
+                cache.setColor(color);
+            }
+        }
+    }
+
+    /**
+     * Verschiebt das Label, ohne den Text neu zu layouten.
+     */
+    public void setPosition(float x, float y) {
+        if (this.x != x || this.y != y) {
+            this.x = x;
+            this.y = y;
+            if (cache != null) {
+                cache.setPosition(x, y);
+            }
+        }
+    }
+
+    public void draw(SpriteBatch batch, BitmapFont font) {
+        if (cache == null || cache.getFont() != font) {
+            cache = font.newFontCache();
+            cache.setColor(color);
+            dirty = true;
+        }
+        if (dirty) {
+            layout();
+        }
+        cache.draw(batch);
+    }
+
+    private void layout() {
+        text.setLength(0);
+        text.append(prefix);
+        if (format == FORMAT_INTEGER) {
+            text.append(value);
+        } else if (format == FORMAT_TENTHS) {
+            appendTenths(text, value);
+        }
+        text.append(suffix);
+
+        // Layout im lokalen Ursprung, danach auf die Zielposition verschieben
+        cache.setText(text, 0, 0, targetWidth, align, false);
+        cache.setPosition(x, y);
+        dirty = false;
+    }
+
+    /**
+     * Hängt einen in Zehnteln gespeicherten Wert als Dezimalzahl mit einer
+     * Nachkommastelle an, ohne Zwischen-Strings zu erzeugen.
+     */
+    public static void appendTenths(StringBuilder builder, int tenths) {
+        if (tenths < 0) {
+            builder.append('-');
+            tenths = -tenths;
+        }
+        builder.append(tenths / 10).append('.').append((char) ('0' + tenths % 10));
+    }
+
+    /**
+     * Rundet einen Float-Wert auf Zehntel für FORMAT_TENTHS.
+     */
+    public static int toTenths(float value) {
+        return Math.round(value * 10f);
+    }
+}
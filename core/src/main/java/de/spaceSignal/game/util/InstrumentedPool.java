@@ -0,0 +1,130 @@
+package de.spaceSignal.game.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Pool mit Messwerten: zählt obtain/free, ausgeliehene Objekte und deren Höchststand.
+ * Zusätzlich wird für jedes ausgeliehene Objekt der Frame gemerkt, in dem es geholt wurde;
+ * Objekte, die länger als {@code leakFrames} nicht zurückgegeben wurden, gelten als Leck-Verdacht.
+ * Doppelte oder fremde free()-Aufrufe werden gemeldet und ignoriert.
+ * Der Besitzer ruft {@link #tick()} einmal pro Simulationsschritt auf.
+ */
+public abstract class InstrumentedPool<T> extends Pool<T> {
+    private static final String TAG = "Pool";
+
+    /** 10 Sekunden bei 60 Ticks */
+    public static final int DEFAULT_LEAK_FRAMES = 600;
+    // Leck-Prüfung nur jede Sekunde, sie läuft über alle ausgeliehenen Objekte
+    private static final int LEAK_CHECK_INTERVAL = 60;
+
+    private final String name;
+    private final int leakFrames;
+    // Ausgeliehenes Objekt -> Frame von obtain() (Identität, Entities überschreiben equals nicht)
+    private final ObjectIntMap<T> outstanding;
+
+    private int frame;
+    private long obtainCount;
+    private long freeCount;
+    private int peakLive;
+    private int leakSuspects;
+    private int oldestAge;
+    private int invalidFrees;
+
+    public InstrumentedPool(String name) {
+        this(name, 16, Integer.MAX_VALUE, DEFAULT_LEAK_FRAMES);
+    }
+
+    public InstrumentedPool(String name, int initialCapacity, int max, int leakFrames) {
+        super(initialCapacity, max);
+        this.name = name;
+        this.leakFrames = leakFrames;
+        outstanding = new ObjectIntMap<>(initialCapacity);
+    }
+
+    @Override
+    public T obtain() {
+        T object = super.obtain();
+        outstanding.put(object, frame);
+        obtainCount++;
+        peakLive = Math.max(peakLive, outstanding.size);
+        return object;
+    }
+
+    @Override
+    public void free(T object) {
+        if (object == null) throw new IllegalArgumentException("object cannot be null.");
+        if (outstanding.remove(object, -1) == -1) {
+            // Ein zweites Mal im Free-Array würde dasselbe Objekt später doppelt ausgegeben
+            invalidFrees++;
+            Gdx.app.error(TAG, name + ": free() of an object that is not obtained (double free?), ignored");
+            return;
+        }
+        freeCount++;
+        super.free(object);
+    }
+
+    /**
+     * Pool.freeAll() umgeht free(), daher hier einzeln zurückgeben
+     */
+    @Override
+    public void freeAll(Array<T> objects) {
+        if (objects == null) throw new IllegalArgumentException("objects cannot be null.");
+        for (int i = 0; i < objects.size; i++) {
+            T object = objects.get(i);
+            if (object != null) free(object);
+        }
+    }
+
+    /**
+     * Rundenende: alle ausgeliehenen Objekte gelten als zurückgegeben, z.B. wenn der Besitzer
+     * seine Listen schon geleert hat, ohne einzeln free() aufzurufen
+     */
+    public void freeAllOutstanding() {
+        for (ObjectIntMap.Entry<T> entry : outstanding.entries()) {
+            freeCount++;
+            super.free(entry.key);
+        }
+        outstanding.clear();
+        leakSuspects = 0;
+        oldestAge = 0;
+    }
+
+    /**
+     * Ein Simulationsschritt des Besitzers; prüft periodisch auf nicht zurückgegebene Objekte
+     */
+    public void tick() {
+        frame++;
+        if (frame % LEAK_CHECK_INTERVAL == 0) {
+            checkLeaks();
+        }
+    }
+
+    private void checkLeaks() {
+        int suspects = 0;
+        int oldest = 0;
+        for (ObjectIntMap.Entry<T> entry : outstanding.entries()) {
+            int age = frame - entry.value;
+            oldest = Math.max(oldest, age);
+            if (age > leakFrames) suspects++;
+        }
+        // Nur melden, wenn neue Verdachtsfälle dazukommen
+        if (suspects > leakSuspects) {
+            Gdx.app.error(TAG, name + ": " + suspects + " object(s) not returned for more than "
+                + leakFrames + " frames (oldest " + oldest + " frames)");
+        }
+        leakSuspects = suspects;
+        oldestAge = oldest;
+    }
+
+    public String getName() { return name; }
+    public int getLive() { return outstanding.size; }
+    public int getPeakLive() { return peakLive; }
+    public long getObtainCount() { return obtainCount; }
+    public long getFreeCount() { return freeCount; }
+    public int getLeakSuspects() { return leakSuspects; }
+    public int getOldestAge() { return oldestAge; }
+    public int getInvalidFrees() { return invalidFrees; }
+}
@@ -0,0 +1,93 @@
+package de.spaceSignal.game.util;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Geschlossene Bahn für geskriptete Bewegungen: Startpunkt, konstante Geschwindigkeit und je eine
+ * Sinus-Schwingung pro Achse, als Funktion der Zeit seit dem Start. Statt die Position jeden Frame
+ * aufzuintegrieren, wertet der Besitzer die Bahn nur aus, wenn jemand die Position braucht
+ * (Kollision, Rendern). Jeder Zeitpunkt kostet gleich viel, auch vorgespulte oder zwischen zwei
+ * Schritten interpolierte.
+ * Zeiten kommen von der Uhr der Sitzung ({@link de.spaceSignal.game.systems.TimerWheel#getTime()}).
+ */
+public final class MotionPath {
+    private float startTime;
+    private float originX;
+    private float originY;
+    private float velocityX;
+    private float velocityY;
+    private float amplitudeX;
+    private float frequencyX;
+    private float amplitudeY;
+    private float frequencyY;
+
+    /**
+     * Gerade Bahn ab (x, y) zum Zeitpunkt startTime; entfernt vorherige Schwingungen
+     */
+    public MotionPath linear(float startTime, float x, float y, float velocityX, float velocityY) {
+        this.startTime = startTime;
+        this.originX = x;
+        this.originY = y;
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+        this.amplitudeX = 0;
+        this.amplitudeY = 0;
+        return this;
+    }
+
+    /**
+     * Schwingung um die Bahn in x: amplitude * sin(frequency * t)
+     */
+    public MotionPath waveX(float amplitude, float frequency) {
+        this.amplitudeX = amplitude;
+        this.frequencyX = frequency;
+        return this;
+    }
+
+    /**
+     * Schwingung um die Bahn in y: amplitude * sin(frequency * t)
+     */
+    public MotionPath waveY(float amplitude, float frequency) {
+        this.amplitudeY = amplitude;
+        this.frequencyY = frequency;
+        return this;
+    }
+
+    public void setStartTime(float startTime) {
+        this.startTime = startTime;
+    }
+
+    public float getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Zeit seit dem Start der Bahn
+     */
+    public float getElapsed(float time) {
+        return time - startTime;
+    }
+
+    public float getX(float time) {
+        float t = time - startTime;
+        float x = originX + velocityX * t;
+        if (amplitudeX != 0) x += MathUtils.sin(t * frequencyX) * amplitudeX;
+        return x;
+    }
+
+    public float getY(float time) {
+        float t = time - startTime;
+        float y = originY + velocityY * t;
+        if (amplitudeY != 0) y += MathUtils.sin(t * frequencyY) * amplitudeY;
+        return y;
+    }
+
+    /**
+     * Schreibt die Position zum Zeitpunkt time nach out
+     * @return out
+     */
+    public Vector2 evaluate(float time, Vector2 out) {
+        return out.set(getX(time), getY(time));
+    }
+}
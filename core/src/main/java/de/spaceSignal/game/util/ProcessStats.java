@@ -0,0 +1,45 @@
+package de.spaceSignal.game.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * Speicherverbrauch des gesamten Prozesses (Resident Set Size) inklusive nativer Bibliotheken,
+ * GL-Treiber und Metaspace. Nur unter Linux verfügbar (/proc/self/status), sonst -1.
+ */
+public final class ProcessStats {
+    private static final File STATUS_FILE = new File("/proc/self/status");
+
+    private ProcessStats() {
+    }
+
+    /** Aktuelle RSS in KB oder -1 */
+    public static long getResidentKb() {
+        return readStatusKb("VmRSS:");
+    }
+
+    /** Höchste RSS seit Prozessstart in KB oder -1 */
+    public static long getPeakResidentKb() {
+        return readStatusKb("VmHWM:");
+    }
+
+    private static long readStatusKb(String key) {
+        if (!STATUS_FILE.canRead()) return -1;
+        try (BufferedReader reader = new BufferedReader(new FileReader(STATUS_FILE))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(key)) {
+                    // Format: "VmRSS:    123456 kB"
+                    String value = line.substring(key.length()).trim();
+                    int space = value.indexOf(' ');
+                    return Long.parseLong(space < 0 ? value : value.substring(0, space));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            return -1;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,56 @@
+package de.spaceSignal.game.util;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Eigener Zufallsgenerator (xorshift128+) für ein Subsystem, mit denselben Hilfsmethoden
+ * wie MathUtils.random(...). Erzeugt keine Objekte und ist nicht thread-sicher.
+ */
+public class RandomStream extends RandomXS128 {
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+
+    public RandomStream(String name, long seed) {
+        super(seed);
+        this.name = name;
+    }
+
+    /** Zufallszahl in [0, 1) */
+    public float random() {
+        return nextFloat();
+    }
+
+    /** Zufallszahl in [0, range) */
+    public float random(float range) {
+        return nextFloat() * range;
+    }
+
+    /** Zufallszahl in [start, end) */
+    public float random(float start, float end) {
+        return start + nextFloat() * (end - start);
+    }
+
+    /** Ganzzahl in [0, range] (inklusive, wie MathUtils.random(int)) */
+    public int random(int range) {
+        return nextInt(range + 1);
+    }
+
+    /** Ganzzahl in [start, end] (inklusive) */
+    public int random(int start, int end) {
+        return start + nextInt(end - start + 1);
+    }
+
+    public boolean randomBoolean() {
+        return nextBoolean();
+    }
+
+    /** true mit der Wahrscheinlichkeit chance */
+    public boolean chance(float chance) {
+        return nextFloat() < chance;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -49,7 +49,6 @@ public class ScrollingBackground {
     }
 
     public void dispose() {
-        farLayer.getTexture().dispose();
-        nearLayer.getTexture().dispose();
+        // Die Hintergrund-Textur wird zentral vom AssetManager verwaltet und hier nicht freigegeben.
     }
 }
@@ -0,0 +1,69 @@
+package de.spaceSignal.game.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+
+import java.util.Locale;
+
+/**
+ * Zeitleiste des Programmstarts bis zum ersten Frame (JVM-Start, Natives, Assets, erster Frame).
+ * Launcher und Main setzen Marken, beim ersten Frame wird die Zeitleiste einmalig ins Log geschrieben.
+ */
+public final class StartupTimeline {
+    private static final String TAG = "Startup";
+
+    private static final Array<String> names = new Array<>();
+    private static final LongArray times = new LongArray();
+    private static long jvmStartNanos;
+    private static boolean reported;
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Startzeit der JVM (z.B. aus RuntimeMXBean.getStartTime()) als Nullpunkt der Zeitleiste
+     */
+    public static synchronized void setJvmStartTime(long epochMillis) {
+        jvmStartNanos = System.nanoTime() - (System.currentTimeMillis() - epochMillis) * 1_000_000L;
+    }
+
+    /**
+     * Setzt eine Marke; darf auch von Hintergrund-Threads aufgerufen werden
+     */
+    public static synchronized void mark(String name) {
+        if (reported) return;
+        names.add(name);
+        times.add(System.nanoTime());
+    }
+
+    /**
+     * Schreibt die Zeitleiste einmalig ins Log
+     */
+    public static synchronized void report() {
+        if (reported || times.size == 0) return;
+        reported = true;
+
+        long origin = jvmStartNanos != 0 ? jvmStartNanos : times.first();
+        long previous = origin;
+        log(jvmStartNanos != 0 ? "  +      0.0 ms  JVM start" : "  (JVM start unknown, times relative to first mark)");
+        for (int i = 0; i < names.size; i++) {
+            long time = times.get(i);
+            log(String.format(Locale.ROOT, "  + %8.1f ms  %s (%+.1f ms)",
+                (time - origin) / 1_000_000.0, names.get(i), (time - previous) / 1_000_000.0));
+            previous = Math.max(previous, time);
+        }
+        long residentKb = ProcessStats.getResidentKb();
+        if (residentKb >= 0) {
+            log(String.format(Locale.ROOT, "  RSS at first frame: %.1f MB", residentKb / 1024.0));
+        }
+    }
+
+    private static void log(String line) {
+        if (Gdx.app != null) {
+            Gdx.app.log(TAG, line);
+        } else {
+            System.out.println("[" + TAG + "] " + line);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package de.spaceSignal.game.util;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * Zufallsauswahl nach Gewichten ohne Allokationen: Einträge werden einmal (oder pro Auswahl
+ * nach clear()) hinzugefügt, die Arrays wachsen nur beim ersten Befüllen.
+ */
+public class WeightedPicker<T> {
+    private final Array<T> items;
+    private final FloatArray weights;
+    private float totalWeight;
+
+    public WeightedPicker() {
+        items = new Array<>();
+        weights = new FloatArray();
+    }
+
+    public WeightedPicker<T> add(T item, float weight) {
+        if (weight <= 0) return this;
+        items.add(item);
+        weights.add(weight);
+        totalWeight += weight;
+        return this;
+    }
+
+    public void clear() {
+        items.clear();
+        weights.clear();
+        totalWeight = 0;
+    }
+
+    /**
+     * @return ein Eintrag mit Wahrscheinlichkeit Gewicht / Gesamtgewicht, oder null wenn leer
+     */
+    public T pick(RandomStream random) {
+        if (items.size == 0) return null;
+        float roll = random.random(totalWeight);
+        for (int i = 0; i < items.size - 1; i++) {
+            roll -= weights.get(i);
+            if (roll < 0) return items.get(i);
+        }
+        // Rundungsfehler landen beim letzten Eintrag
+        return items.peek();
+    }
+
+    public T get(int index) { return items.get(index); }
+    public int size() { return items.size; }
+    public float getTotalWeight() { return totalWeight; }
+}
@@ -0,0 +1,114 @@
+package de.spaceSignal.game.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Predicate;
+import com.badlogic.gdx.utils.TimeUtils;
+import de.spaceSignal.game.util.EntityArrays;
+import de.spaceSignal.game.util.FrameTimeStats;
+
+import java.util.Locale;
+
+/**
+ * Misst das Entfernen toter Entities aus einem Array: Array.removeIndex() (verschiebt den Rest),
+ * EntityArrays.swapRemove() und EntityArrays.compact(). Pro Durchlauf wird das Array neu gefüllt
+ * und ein fester Anteil zufällig als tot markiert (gleicher Seed für alle Verfahren).
+ */
+public class CompactionBenchmark extends ApplicationAdapter {
+    private static final String TAG = "CompactionBenchmark";
+    private static final float DEATH_RATE = 0.5f;
+    private static final int WARMUP_PASSES = 200;
+    private static final int PASSES = 500;
+    private static final long SEED = 1234L;
+
+    private static final int REMOVE_INDEX = 0;
+    private static final int SWAP_REMOVE = 1;
+    private static final int COMPACT = 2;
+    private static final String[] NAMES = {"removeIndex", "swapRemove", "compact"};
+
+    private static class Entity {
+        static final Predicate<Entity> DEAD = new Predicate<Entity>() {
+            @Override
+            public boolean evaluate(Entity entity) {
+                return !entity.alive;
+            }
+        };
+
+        boolean alive;
+    }
+
+    private final int entities;
+    private final Entity[] source;
+    private final Array<Entity> array;
+    private int checksum;
+
+    public CompactionBenchmark(int entities) {
+        this.entities = entities;
+        source = new Entity[entities];
+        for (int i = 0; i < entities; i++) {
+            source[i] = new Entity();
+        }
+        array = new Array<>(entities);
+    }
+
+    @Override
+    public void create() {
+        Gdx.app.log(TAG, String.format(Locale.ROOT, "%d entities, %.0f%% dead per pass, %d passes (+%d warm-up)",
+            entities, DEATH_RATE * 100, PASSES, WARMUP_PASSES));
+        for (int method = 0; method < NAMES.length; method++) {
+            run(method);
+        }
+        // Ausgeben, damit der JIT die Schleifen nicht als wirkungslos verwerfen kann
+        Gdx.app.log(TAG, "checksum " + checksum);
+        Gdx.app.exit();
+    }
+
+    private void run(int method) {
+        RandomXS128 random = new RandomXS128(SEED);
+        FrameTimeStats times = new FrameTimeStats(PASSES);
+        int survivors = 0;
+        for (int pass = 0; pass < WARMUP_PASSES + PASSES; pass++) {
+            array.clear();
+            for (int i = 0; i < entities; i++) {
+                Entity entity = source[i];
+                entity.alive = random.nextFloat() >= DEATH_RATE;
+                array.add(entity);
+            }
+
+            long start = TimeUtils.nanoTime();
+            removeDead(method);
+            long nanos = TimeUtils.nanoTime() - start;
+
+            if (pass >= WARMUP_PASSES) {
+                times.add(nanos / 1_000_000f);
+                survivors += array.size;
+            }
+        }
+        checksum += survivors;
+
+        Gdx.app.log(TAG, String.format(Locale.ROOT,
+            "[%s] avg %d survivors, ms per pass: avg %.3f  p50 %.3f  p99 %.3f  max %.3f",
+            NAMES[method], survivors / PASSES, times.getAverage(), times.getPercentile(50),
+            times.getPercentile(99), times.getMax()));
+    }
+
+    private void removeDead(int method) {
+        switch (method) {
+            case REMOVE_INDEX:
+                for (int i = array.size - 1; i >= 0; i--) {
+                    if (!array.get(i).alive) array.removeIndex(i);
+                }
+                break;
+            case SWAP_REMOVE:
+                for (int i = array.size - 1; i >= 0; i--) {
+                    if (!array.get(i).alive) EntityArrays.swapRemove(array, i);
+                }
+                break;
+            case COMPACT:
+                EntityArrays.compact(array, Entity.DEAD);
+                break;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package de.spaceSignal.game.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * GL20-Attrappe für das Headless-Backend. Das Backend setzt kein Gdx.gl, die Spielmodi
+ * legen aber Texturen an (z.B. 1x1-Texturen für Balken). Alle Aufrufe werden ignoriert
+ * und liefern Standardwerte, sodass die Simulation ohne Grafikkontext läuft.
+ */
+final class HeadlessGL {
+    private HeadlessGL() {
+    }
+
+    static void install() {
+        InvocationHandler handler = new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                Class<?> type = method.getReturnType();
+                if (type == boolean.class) return false;
+                if (type == int.class) return 0;
+                if (type == float.class) return 0f;
+                if (type == long.class) return 0L;
+                if (type == String.class) return "";
+                return null;
+            }
+        };
+        GL20 gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class}, handler);
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+}
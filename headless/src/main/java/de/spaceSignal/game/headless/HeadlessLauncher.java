@@ -0,0 +1,51 @@
+package de.spaceSignal.game.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import de.spaceSignal.game.managers.HighScoreManager;
+import de.spaceSignal.game.managers.RandomStreams;
+
+/**
+ * Startet den Soak-Test ohne Fenster.
+ * Argumente: --minutes N (simulierte Minuten pro Modus, Standard 30),
+ * --modes "Classic,Boss Rush,..." (Standard: alle Modi), --seed N (Zufalls-Seed für reproduzierbare Läufe).
+ * Mit --physics-bench N wird statt des Soak-Tests der Asteroid-Dodger-Vergleich
+ * einfache Bewegung gegen Box2D mit N Asteroiden ausgeführt (--ticks: Messschritte, Standard 1200),
+ * mit --compaction-bench N der Vergleich der Entfern-Verfahren für Entity-Arrays mit N Entities.
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        float minutes = 30f;
+        String[] modes = HighScoreManager.MODES;
+        int physicsBodies = 0;
+        int ticks = 1200;
+        int compactionEntities = 0;
+
+        for (int i = 0; i < args.length - 1; i++) {
+            if ("--minutes".equals(args[i])) {
+                minutes = Float.parseFloat(args[++i]);
+            } else if ("--modes".equals(args[i])) {
+                modes = args[++i].split("\\s*,\\s*");
+            } else if ("--physics-bench".equals(args[i])) {
+                physicsBodies = Integer.parseInt(args[++i]);
+            } else if ("--compaction-bench".equals(args[i])) {
+                compactionEntities = Integer.parseInt(args[++i]);
+            } else if ("--seed".equals(args[i])) {
+                RandomStreams.getInstance().seed(Long.parseLong(args[++i]));
+            } else if ("--ticks".equals(args[i])) {
+                ticks = Integer.parseInt(args[++i]);
+            }
+        }
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // 0 = render() so oft wie möglich aufrufen, die Simulation nutzt einen festen Zeitschritt
+        configuration.updatesPerSecond = 0;
+        if (compactionEntities > 0) {
+            new HeadlessApplication(new CompactionBenchmark(compactionEntities), configuration);
+        } else if (physicsBodies > 0) {
+            new HeadlessApplication(new PhysicsBenchmark(physicsBodies, ticks), configuration);
+        } else {
+            new HeadlessApplication(new SoakTest(modes, minutes), configuration);
+        }
+    }
+}
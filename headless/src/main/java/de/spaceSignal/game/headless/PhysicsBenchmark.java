@@ -0,0 +1,77 @@
+package de.spaceSignal.game.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import de.spaceSignal.game.levels.AsteroidDodgerMode;
+import de.spaceSignal.game.levels.GameSession;
+import de.spaceSignal.game.managers.AssetManager;
+import de.spaceSignal.game.managers.RandomStreams;
+import de.spaceSignal.game.systems.BotInput;
+import de.spaceSignal.game.util.FrameTimeStats;
+
+import java.util.Locale;
+
+/**
+ * Vergleicht im Asteroid Dodger die einfache Bewegung mit der Box2D-Welt bei einer festen
+ * Anzahl Asteroiden. Gemessen wird nur die Asteroiden-Phase (Bewegung bzw. world.step()
+ * plus Kollisionen), mit gleichem Zufalls-Seed für beide Pfade.
+ */
+public class PhysicsBenchmark extends ApplicationAdapter {
+    private static final String TAG = "PhysicsBenchmark";
+    private static final float TICK = 1f / 60f;
+    private static final int WARMUP_TICKS = 300;
+    private static final long SEED = 1234L;
+
+    private final int bodies;
+    private final int ticks;
+
+    public PhysicsBenchmark(int bodies, int ticks) {
+        this.bodies = bodies;
+        this.ticks = ticks;
+    }
+
+    @Override
+    public void create() {
+        HeadlessGL.install();
+        AssetManager.getInstance().loadAll();
+
+        GameSession session = new GameSession(new BotInput());
+        Gdx.app.log(TAG, String.format(Locale.ROOT, "%d asteroids, %d ticks per path (+%d warm-up)",
+            bodies, ticks, WARMUP_TICKS));
+        run(session, false);
+        run(session, true);
+        session.dispose();
+        Gdx.app.exit();
+    }
+
+    private void run(GameSession session, boolean physics) {
+        RandomStreams.getInstance().seed(SEED);
+        session.reset("Asteroid Dodger");
+        AsteroidDodgerMode mode = (AsteroidDodgerMode) session.getGameMode();
+        mode.setPhysicsEnabled(physics);
+        mode.setMinAsteroidCount(bodies);
+
+        FrameTimeStats phaseTimes = new FrameTimeStats(ticks);
+        long asteroidSum = 0;
+        for (int i = 0; i < WARMUP_TICKS + ticks; i++) {
+            // Der Spieler stirbt schnell; die Simulation läuft für die Messung einfach weiter
+            session.update(TICK);
+            if (i >= WARMUP_TICKS) {
+                phaseTimes.add(mode.getAsteroidPhaseNanos() / 1_000_000f);
+                asteroidSum += mode.getAsteroidCount();
+            }
+        }
+        mode.setMinAsteroidCount(0);
+
+        Gdx.app.log(TAG, String.format(Locale.ROOT,
+            "[%s] avg %d asteroids, phase ms: avg %.3f  p50 %.3f  p95 %.3f  p99 %.3f  max %.3f",
+            physics ? "Box2D" : "Simple", asteroidSum / ticks,
+            phaseTimes.getAverage(), phaseTimes.getPercentile(50), phaseTimes.getPercentile(95),
+            phaseTimes.getPercentile(99), phaseTimes.getMax()));
+    }
+
+    @Override
+    public void dispose() {
+        AssetManager.getInstance().dispose();
+    }
+}
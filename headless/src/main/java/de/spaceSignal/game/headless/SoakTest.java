@@ -0,0 +1,162 @@
+package de.spaceSignal.game.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import de.spaceSignal.game.levels.GameSession;
+import de.spaceSignal.game.managers.AssetManager;
+import de.spaceSignal.game.systems.BotInput;
+import de.spaceSignal.game.util.FrameTimeStats;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Lässt einen Bot jeden Spielmodus für eine feste Anzahl simulierter Minuten spielen
+ * und misst dabei Tick-Zeiten (Perzentile), Entity-Spitzen, Heap-Höchststand und GC-Pausen.
+ * Nach einem Game Over wird die Runde sofort neu gestartet, damit auch Reset-Pfade
+ * über lange Zeit auf Lecks geprüft werden.
+ */
+public class SoakTest extends ApplicationAdapter {
+    private static final String TAG = "SoakTest";
+    private static final int TICKS_PER_SECOND = 60;
+    private static final float TICK = 1f / TICKS_PER_SECOND;
+    // Ticks pro render()-Aufruf, damit die Schleife des Backends kaum ins Gewicht fällt
+    private static final int TICKS_PER_FRAME = 60;
+
+    private final String[] modes;
+    private final int ticksPerMode;
+
+    private GameSession session;
+    private FrameTimeStats tickTimes;
+    private List<MemoryPoolMXBean> heapPools;
+    private List<GarbageCollectorMXBean> collectors;
+
+    private int modeIndex;
+    private int tick;
+    private int rounds;
+    private int bestScore;
+    private int peakEntities;
+    private long gcCountStart;
+    private long gcTimeStart;
+
+    public SoakTest(String[] modes, float minutes) {
+        this.modes = modes;
+        this.ticksPerMode = Math.max(1, (int) (minutes * 60 * TICKS_PER_SECOND));
+    }
+
+    @Override
+    public void create() {
+        HeadlessGL.install();
+        AssetManager.getInstance().loadAll();
+
+        session = new GameSession(new BotInput());
+        tickTimes = new FrameTimeStats(ticksPerMode);
+        heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) heapPools.add(pool);
+        }
+        collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+        Gdx.app.log(TAG, String.format(Locale.ROOT, "%d mode(s), %.1f simulated minutes each",
+            modes.length, ticksPerMode / (60f * TICKS_PER_SECOND)));
+        startMode(0);
+    }
+
+    private void startMode(int index) {
+        modeIndex = index;
+        tick = 0;
+        rounds = 1;
+        bestScore = 0;
+        peakEntities = 0;
+        tickTimes.clear();
+
+        System.gc();
+        // Die JVM führt den Höchststand selbst, auch zwischen zwei Abfragen und kurz vor einer GC
+        for (MemoryPoolMXBean pool : heapPools) {
+            pool.resetPeakUsage();
+        }
+        gcCountStart = getGcCount();
+        gcTimeStart = getGcTime();
+
+        session.reset(modes[index]);
+    }
+
+    @Override
+    public void render() {
+        if (modeIndex >= modes.length) return;
+
+        for (int i = 0; i < TICKS_PER_FRAME && tick < ticksPerMode; i++, tick++) {
+            long start = System.nanoTime();
+            session.update(TICK);
+            tickTimes.add((System.nanoTime() - start) / 1_000_000f);
+
+            peakEntities = Math.max(peakEntities, session.getEntityCount());
+            if (session.isGameOver()) {
+                bestScore = Math.max(bestScore, session.getGameMode().getScore());
+                rounds++;
+                session.reset(modes[modeIndex]);
+            }
+        }
+        if (tick >= ticksPerMode) {
+            bestScore = Math.max(bestScore, session.getGameMode().getScore());
+            report();
+            if (modeIndex + 1 < modes.length) {
+                startMode(modeIndex + 1);
+            } else {
+                modeIndex = modes.length;
+                Gdx.app.exit();
+            }
+        }
+    }
+
+    private void report() {
+        Gdx.app.log(TAG, String.format(Locale.ROOT,
+            "[%s] %d ticks, %d round(s), best score %d", modes[modeIndex], tick, rounds, bestScore));
+        Gdx.app.log(TAG, String.format(Locale.ROOT,
+            "  tick ms: avg %.3f  p50 %.3f  p95 %.3f  p99 %.3f  max %.3f",
+            tickTimes.getAverage(), tickTimes.getPercentile(50), tickTimes.getPercentile(95),
+            tickTimes.getPercentile(99), tickTimes.getMax()));
+        Gdx.app.log(TAG, String.format(Locale.ROOT,
+            "  peak entities: %d  heap high-water: %.1f MB  GC: %d collection(s), %d ms total",
+            peakEntities, getPeakHeap() / (1024f * 1024f), getGcCount() - gcCountStart, getGcTime() - gcTimeStart));
+    }
+
+    /**
+     * Summe der Höchststände aller Heap-Pools seit dem Start des Modus. Die Pools erreichen ihr
+     * Maximum nicht unbedingt gleichzeitig, die Summe ist also eine obere Schranke.
+     */
+    private long getPeakHeap() {
+        long total = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            total += pool.getPeakUsage().getUsed();
+        }
+        return total;
+    }
+
+    private long getGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    private long getGcTime() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    @Override
+    public void dispose() {
+        if (session != null) session.dispose();
+        AssetManager.getInstance().dispose();
+    }
+}
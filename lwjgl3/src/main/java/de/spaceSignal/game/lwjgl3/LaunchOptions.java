@@ -0,0 +1,265 @@
+package de.spaceSignal.game.lwjgl3;
+
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import de.spaceSignal.game.managers.SettingsManager;
+import de.spaceSignal.game.screens.BenchmarkScreen;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Start-Optionen für Frame-Pacing und Grafik-Backend.
+ * Reihenfolge: Standardwerte, dann die gespeicherten Einstellungen (~/.prefs/SpaceSignal),
+ * dann die Kommandozeile. Kommandozeilen-Werte gelten nur für diesen Start.
+ */
+public class LaunchOptions {
+    public static final String USAGE = String.join(System.lineSeparator(),
+        "Options:",
+        "  --vsync / --no-vsync         Vertical sync (default: on)",
+        "  --fps auto|unlimited|N       Foreground FPS cap (auto = refresh rate + 1)",
+        "  --idle-fps N                 FPS cap while unfocused (default: 30, 0 = no cap)",
+        "  --gl angle|native            ANGLE GLES 2.0 emulation or native OpenGL (default: angle)",
+        "  --msaa N                     Multisample anti-aliasing samples (0, 2, 4, 8)",
+        "  --window windowed|fullscreen|borderless",
+        "  --size WIDTHxHEIGHT          Window size in windowed mode",
+        "  --benchmark                  Run the scripted bot scene uncapped and print FPS statistics",
+        "  --benchmark-seconds N        Measured seconds per mode (default: 15)",
+        "  --benchmark-modes \"A,B\"      Modes to run (default: all)",
+        "  --help                       Show this help");
+
+    public static final int FPS_AUTO = -1;
+    public static final int FPS_UNLIMITED = 0;
+
+    public enum GlBackend { ANGLE, NATIVE }
+    public enum WindowMode { WINDOWED, FULLSCREEN, BORDERLESS }
+
+    public boolean vsync = true;
+    public int fps = FPS_AUTO;
+    public int idleFps = 30;
+    public GlBackend glBackend = GlBackend.ANGLE;
+    public int msaa = 0;
+    public WindowMode windowMode = WindowMode.WINDOWED;
+    public int windowWidth = SettingsManager.DEFAULT_WINDOW_WIDTH;
+    public int windowHeight = SettingsManager.DEFAULT_WINDOW_HEIGHT;
+
+    public boolean help;
+    /** Gesetzt mit --benchmark, sonst null */
+    public BenchmarkScreen.Options benchmark;
+
+    /**
+     * Liest gespeicherte Einstellungen und Kommandozeile.
+     * @throws IllegalArgumentException bei unbekannten oder ungültigen Argumenten
+     */
+    public static LaunchOptions parse(String[] args) {
+        LaunchOptions options = new LaunchOptions();
+        options.applySettings(loadSettings());
+        options.applyArguments(args);
+        return options;
+    }
+
+    /**
+     * Die Preferences-Datei des Spiels, gelesen ohne laufende Gdx-Anwendung
+     */
+    private static Properties loadSettings() {
+        Properties settings = new Properties();
+        File file = new File(System.getProperty("user.home"), ".prefs" + File.separator + SettingsManager.PREFERENCES_NAME);
+        if (!file.isFile()) return settings;
+        try (InputStream in = new FileInputStream(file)) {
+            settings.loadFromXML(in);
+        } catch (IOException e) {
+            System.err.println("Could not read settings from " + file + ": " + e.getMessage());
+        }
+        return settings;
+    }
+
+    private void applySettings(Properties settings) {
+        vsync = Boolean.parseBoolean(settings.getProperty(SettingsManager.KEY_VSYNC, String.valueOf(vsync)));
+        // 0 bedeutet in den Einstellungen "Bildwiederholrate"
+        int fpsCap = parseInt(settings.getProperty(SettingsManager.KEY_FPS_CAP), 0);
+        fps = fpsCap > 0 ? fpsCap : FPS_AUTO;
+        idleFps = parseInt(settings.getProperty(SettingsManager.KEY_IDLE_FPS), idleFps);
+        msaa = parseInt(settings.getProperty(SettingsManager.KEY_MSAA), msaa);
+        windowWidth = parseInt(settings.getProperty(SettingsManager.KEY_WINDOW_WIDTH), windowWidth);
+        windowHeight = parseInt(settings.getProperty(SettingsManager.KEY_WINDOW_HEIGHT), windowHeight);
+
+        // Ungültige Werte in der Datei werden ignoriert, statt den Start zu verhindern
+        try {
+            String backend = settings.getProperty(SettingsManager.KEY_GL_BACKEND);
+            if (backend != null) glBackend = parseBackend(backend);
+            String mode = settings.getProperty(SettingsManager.KEY_WINDOW_MODE);
+            if (mode != null) windowMode = parseWindowMode(mode);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Ignoring invalid setting: " + e.getMessage());
+        }
+    }
+
+    private void applyArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--vsync":
+                    vsync = true;
+                    break;
+                case "--no-vsync":
+                    vsync = false;
+                    break;
+                case "--fps":
+                    fps = parseFps(value(args, ++i, arg));
+                    break;
+                case "--idle-fps":
+                    idleFps = parseNonNegative(value(args, ++i, arg), arg);
+                    break;
+                case "--gl":
+                    glBackend = parseBackend(value(args, ++i, arg));
+                    break;
+                case "--msaa":
+                    msaa = parseNonNegative(value(args, ++i, arg), arg);
+                    break;
+                case "--window":
+                    windowMode = parseWindowMode(value(args, ++i, arg));
+                    break;
+                case "--size":
+                    parseSize(value(args, ++i, arg));
+                    break;
+                case "--benchmark":
+                    getBenchmark();
+                    break;
+                case "--benchmark-seconds":
+                    getBenchmark().secondsPerMode = Float.parseFloat(value(args, ++i, arg));
+                    break;
+                case "--benchmark-modes":
+                    getBenchmark().modes = value(args, ++i, arg).split("\\s*,\\s*");
+                    break;
+                case "--help":
+                case "-h":
+                    help = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        // Der Benchmark misst immer ohne Limit, sonst wären die Backends nicht vergleichbar
+        if (benchmark != null) {
+            vsync = false;
+            fps = FPS_UNLIMITED;
+            idleFps = 0;
+            benchmark.label = describe();
+        }
+    }
+
+    /**
+     * Überträgt die Optionen auf die LWJGL3-Konfiguration
+     */
+    public void apply(Lwjgl3ApplicationConfiguration configuration) {
+        configuration.useVsync(vsync);
+        configuration.setForegroundFPS(fps == FPS_AUTO
+            ? Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1
+            : fps);
+        configuration.setIdleFPS(idleFps);
+
+        // Farbe 8/8/8/8, Tiefe 16, kein Stencil wie im Standard, dazu die MSAA-Samples
+        configuration.setBackBufferConfig(8, 8, 8, 8, 16, 0, msaa);
+
+        Graphics.DisplayMode displayMode = Lwjgl3ApplicationConfiguration.getDisplayMode();
+        switch (windowMode) {
+            case FULLSCREEN:
+                configuration.setFullscreenMode(displayMode);
+                break;
+            case BORDERLESS:
+                configuration.setDecorated(false);
+                configuration.setWindowedMode(displayMode.width, displayMode.height);
+                configuration.setWindowPosition(0, 0);
+                break;
+            case WINDOWED:
+            default:
+                configuration.setWindowedMode(windowWidth, windowHeight);
+                break;
+        }
+
+        if (glBackend == GlBackend.ANGLE) {
+            configuration.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.ANGLE_GLES20, 0, 0);
+        } else {
+            configuration.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.GL20, 2, 0);
+        }
+    }
+
+    /**
+     * Kurzbeschreibung für Logs und den Benchmark-Bericht
+     */
+    public String describe() {
+        String fpsText = fps == FPS_AUTO ? "auto" : fps == FPS_UNLIMITED ? "unlimited" : String.valueOf(fps);
+        return String.format(Locale.ROOT, "gl=%s msaa=%d vsync=%s fps=%s idle=%d window=%s %dx%d",
+            glBackend.name().toLowerCase(Locale.ROOT), msaa, vsync ? "on" : "off", fpsText, idleFps,
+            windowMode.name().toLowerCase(Locale.ROOT), windowWidth, windowHeight);
+    }
+
+    private BenchmarkScreen.Options getBenchmark() {
+        if (benchmark == null) {
+            benchmark = new BenchmarkScreen.Options();
+        }
+        return benchmark;
+    }
+
+    private void parseSize(String value) {
+        String[] parts = value.toLowerCase(Locale.ROOT).split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid --size, expected WIDTHxHEIGHT: " + value);
+        }
+        windowWidth = parseNonNegative(parts[0], "--size");
+        windowHeight = parseNonNegative(parts[1], "--size");
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static int parseFps(String value) {
+        if ("auto".equalsIgnoreCase(value)) return FPS_AUTO;
+        if ("unlimited".equalsIgnoreCase(value)) return FPS_UNLIMITED;
+        return parseNonNegative(value, "--fps");
+    }
+
+    private static GlBackend parseBackend(String value) {
+        try {
+            return GlBackend.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid GL backend, expected angle or native: " + value);
+        }
+    }
+
+    private static WindowMode parseWindowMode(String value) {
+        try {
+            return WindowMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid window mode, expected windowed, fullscreen or borderless: " + value);
+        }
+    }
+
+    private static int parseNonNegative(String value, String option) {
+        try {
+            int result = Integer.parseInt(value.trim());
+            if (result >= 0) return result;
+        } catch (NumberFormatException ignored) {
+            // unten gemeldet
+        }
+        throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        if (value == null) return defaultValue;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
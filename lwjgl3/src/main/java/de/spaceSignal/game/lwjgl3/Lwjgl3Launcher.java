@@ -2,44 +2,82 @@ package de.spaceSignal.game.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3NativesLoader;
+import com.badlogic.gdx.utils.SharedLibraryLoader;
 import de.spaceSignal.game.Main;
+import de.spaceSignal.game.util.StartupTimeline;
+
+import java.lang.management.ManagementFactory;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
-        if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        StartupTimeline.setJvmStartTime(ManagementFactory.getRuntimeMXBean().getStartTime());
+        StartupTimeline.mark("main() entered");
+        //// Only relaunches on macOS without -XstartOnFirstThread; Linux and Windows continue in this JVM.
+        if (StartupHelper.startNewJvmIfRequired(args)) return; // This handles macOS support and helps on Windows.
+
+        LaunchOptions options;
+        try {
+            options = LaunchOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LaunchOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options.help) {
+            System.out.println(LaunchOptions.USAGE);
+            return;
+        }
+        preloadNatives();
+        createApplication(options);
+    }
+
+    /**
+     * Loads the LWJGL natives up front so their cost shows up in the startup timeline, and extracts
+     * the FreeType natives on a background thread while GLFW creates the window.
+     */
+    private static void preloadNatives() {
+        Lwjgl3NativesLoader.load();
+        StartupTimeline.mark("LWJGL natives loaded");
+
+        Thread freeType = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                new SharedLibraryLoader().load("gdx-freetype");
+                StartupTimeline.mark("FreeType natives loaded (background)");
+            }
+        }, "NativePreloader");
+        freeType.setDaemon(true);
+        freeType.start();
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+    private static Lwjgl3Application createApplication(LaunchOptions options) {
+        boolean windowed = options.windowMode == LaunchOptions.WindowMode.WINDOWED;
+        return new Lwjgl3Application(new Main(options.benchmark, windowed), getDefaultConfiguration(options));
     }
 
-    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
+    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration(LaunchOptions options) {
         Lwjgl3ApplicationConfiguration configuration = new Lwjgl3ApplicationConfiguration();
-        configuration.setTitle("SpaceSignal");
-        //// Vsync limits the frames per second to what your hardware can display, and helps eliminate
-        //// screen tearing. This setting doesn't always work on Linux, so the line after is a safeguard.
-        configuration.useVsync(true);
-        //// Limits FPS to the refresh rate of the currently active monitor, plus 1 to try to match fractional
-        //// refresh rates. The Vsync setting above should limit the actual FPS to match the monitor.
-        configuration.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1);
-        //// If you remove the above line and set Vsync to false, you can get unlimited FPS, which can be
-        //// useful for testing performance, but can also be very stressful to some hardware.
-        //// You may also need to configure GPU drivers to fully disable Vsync; this can cause screen tearing.
-
-        configuration.setWindowedMode(640, 480);
+        configuration.setTitle(options.benchmark != null ? "SpaceSignal - Benchmark" : "SpaceSignal");
+        //// Vsync, FPS cap (foreground and idle), MSAA, window mode and GL backend come from the saved
+        //// settings, overridden by command-line flags; see LaunchOptions.USAGE or run with --help.
+        //// Vsync doesn't always work on Linux, which is why the FPS cap defaults to refresh rate + 1.
+        //// Disabling both (e.g. with --benchmark) gives unlimited FPS, which is useful for measuring
+        //// performance but can be very stressful to some hardware.
+        options.apply(configuration);
+
         //// You can change these files; they are in lwjgl3/src/main/resources/ .
         //// They can also be loaded from the root of assets/ .
         configuration.setWindowIcon("libgdx128.png", "libgdx64.png", "libgdx32.png", "libgdx16.png");
 
-        //// This should improve compatibility with Windows machines with buggy OpenGL drivers, Macs
-        //// with Apple Silicon that have to emulate compatibility with OpenGL anyway, and more.
-        //// This uses the dependency `com.badlogicgames.gdx:gdx-lwjgl3-angle` to function.
-        //// You can choose to remove the following line and the mentioned dependency if you want; they
-        //// are not intended for games that use GL30 (which is compatibility with OpenGL ES 3.0).
-        configuration.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.ANGLE_GLES20, 0, 0);
+        //// ANGLE (the default, "--gl angle") should improve compatibility with Windows machines with buggy
+        //// OpenGL drivers, Macs with Apple Silicon that have to emulate compatibility with OpenGL anyway,
+        //// and more. It uses the dependency `com.badlogicgames.gdx:gdx-lwjgl3-angle`. "--gl native"
+        //// uses the driver's OpenGL directly, so both can be compared with --benchmark.
+        System.out.println("Launching with " + options.describe());
 
         return configuration;
     }
-}
\ No newline at end of file
+}
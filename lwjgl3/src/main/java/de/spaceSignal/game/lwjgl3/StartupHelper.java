@@ -26,6 +26,7 @@ import java.io.File;
 import java.io.InputStreamReader;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Collections;
 
 import static org.lwjgl.system.JNI.invokePPP;
 import static org.lwjgl.system.JNI.invokePPZ;
@@ -70,10 +71,12 @@ public class StartupHelper {
      *            whether the output of the new JVM should be rerouted to the
      *            old JVM, so it can be accessed in the same place; keeps the
      *            old JVM running if enabled
+     * @param args
+     *            the program arguments, passed on to the new JVM
      * @return whether a new JVM was started and thus no code should be executed
      *         in this one
      */
-    public static boolean startNewJvmIfRequired(boolean redirectOutput) {
+    public static boolean startNewJvmIfRequired(boolean redirectOutput, String... args) {
         String osName = System.getProperty("os.name").toLowerCase();
         if (!osName.contains("mac")) {
             if (osName.contains("windows")) {
@@ -154,6 +157,7 @@ public class StartupHelper {
             }
         }
         jvmArgs.add(mainClass);
+        Collections.addAll(jvmArgs, args);
 
         try {
             if (!redirectOutput) {
@@ -195,10 +199,12 @@ public class StartupHelper {
      * }
      * </pre>
      *
+     * @param args
+     *            the program arguments, passed on to the new JVM
      * @return whether a new JVM was started and thus no code should be executed
      *         in this one
      */
-    public static boolean startNewJvmIfRequired() {
-        return startNewJvmIfRequired(true);
+    public static boolean startNewJvmIfRequired(String... args) {
+        return startNewJvmIfRequired(true, args);
     }
 }
\ No newline at end of file